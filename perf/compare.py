@@ -0,0 +1,72 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files and flags regressions.
+
+Usage: compare.py BASELINE.json CANDIDATE.json [--threshold PERCENT]
+
+A benchmark regresses when it is more than THRESHOLD percent worse than the baseline
+(default 10) and the difference is larger than the two runs' combined error margins.
+Throughput modes are higher-is-better, time modes lower-is-better. Exits with 1 when
+any benchmark regressed, so it can gate a CI job.
+"""
+import argparse
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for entry in json.load(f):
+            params = entry.get("params") or {}
+            key = entry["benchmark"] + "".join(f" {k}={v}" for k, v in sorted(params.items()))
+            metric = entry["primaryMetric"]
+            error = metric.get("scoreError")
+            results[key] = {
+                "mode": entry["mode"],
+                "score": metric["score"],
+                "error": error if isinstance(error, (int, float)) else 0.0,
+                "unit": metric["scoreUnit"],
+            }
+        return results
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Flag JMH regressions between two runs.")
+    parser.add_argument("baseline")
+    parser.add_argument("candidate")
+    parser.add_argument("--threshold", type=float, default=10.0, help="allowed slowdown in percent")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    candidate = load(args.candidate)
+    regressions = 0
+
+    print(f"{'benchmark':<80} {'baseline':>14} {'candidate':>14} {'change':>9}  unit")
+    for key in sorted(baseline.keys() | candidate.keys()):
+        if key not in baseline or key not in candidate:
+            print(f"{key:<80} {'only in ' + ('baseline' if key in baseline else 'candidate'):>39}")
+            continue
+        old, new = baseline[key], candidate[key]
+        if old["unit"] != new["unit"] or old["mode"] != new["mode"]:
+            print(f"{key:<80} {'mode or unit changed, not compared':>39}")
+            continue
+        higher_is_better = old["mode"] == "thrpt"
+        change = (new["score"] - old["score"]) / old["score"] * 100 if old["score"] else 0.0
+        worse = -change if higher_is_better else change
+        significant = abs(new["score"] - old["score"]) > old["error"] + new["error"]
+        flag = ""
+        if worse > args.threshold and significant:
+            flag = "  REGRESSION"
+            regressions += 1
+        elif -worse > args.threshold and significant:
+            flag = "  improved"
+        print(f"{key:<80} {old['score']:>14.3f} {new['score']:>14.3f} {change:>+8.1f}%  {old['unit']}{flag}")
+
+    if regressions:
+        print(f"\n{regressions} benchmark(s) regressed by more than {args.threshold}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
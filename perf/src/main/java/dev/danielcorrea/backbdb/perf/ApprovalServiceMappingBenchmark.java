@@ -0,0 +1,65 @@
+package dev.danielcorrea.backbdb.perf;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+import dev.danielcorrea.backbdb.service.ApprovalService;
+
+/**
+ * Entity to DTO mapping of the "My Requests" and "My Inbox" lists.
+ *
+ * The repository is a stub returning a prebuilt list, so only the service's stream and
+ * mapping cost is measured, not the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApprovalServiceMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ApprovalService approvalService;
+
+    @Setup
+    public void setUp() {
+        List<ApprovalRequest> requests = BenchmarkData.requests(size);
+        ApprovalRequestRepository repository = (ApprovalRequestRepository) Proxy.newProxyInstance(
+                ApprovalRequestRepository.class.getClassLoader(),
+                new Class<?>[] {ApprovalRequestRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByRequester_IdOrderByCreatedAtDesc", "findByApprover_IdOrderByCreatedAtDesc" -> requests;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        approvalService = new ApprovalService(repository, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<RequestSummaryDTO> requestsCreatedByUser() {
+        return approvalService.getRequestsCreatedByUser(1L);
+    }
+
+    @Benchmark
+    public List<RequestSummaryDTO> requestsAssignedToUser() {
+        return approvalService.getRequestsAssignedToUser(1L);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.danielcorrea.backbdb.perf;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+
+/**
+ * Deterministic in-memory entities shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42;
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds {@code count} requests spread over 50 users and 5 request types, newest first.
+     */
+    static List<ApprovalRequest> requests(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            users.add(User.builder()
+                    .id(i)
+                    .username("user" + i)
+                    .fullName("Benchmark User " + i)
+                    .email("user" + i + "@localhost")
+                    .build());
+        }
+        List<RequestType> types = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            types.add(RequestType.builder().id(i).name("TYPE_" + i).build());
+        }
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<ApprovalRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = now.minusMinutes(i);
+            RequestStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            requests.add(ApprovalRequest.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Benchmark request " + i)
+                    .description("Description of benchmark request " + i + " with a few sentences of text. ".repeat(3))
+                    .status(status)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .latestComment(status == RequestStatus.PENDING ? null : "Looks good to me")
+                    .lastActionAt(status == RequestStatus.PENDING ? null : createdAt.plusMinutes(5))
+                    .requester(users.get(random.nextInt(users.size())))
+                    .approver(i % 20 == 0 ? null : users.get(random.nextInt(users.size())))
+                    .type(types.get(random.nextInt(types.size())))
+                    .build());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.danielcorrea.backbdb.perf;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.util.ReflectionUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.service.EmailNotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Notification emails: Thymeleaf rendering of the application's templates plus building the
+ * MIME message. The message is handed to a sender that drops it, so no SMTP time is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private EmailNotificationService emailNotificationService;
+    private ApprovalRequest request;
+    private BlackholeMailSender mailSender;
+
+    /**
+     * Consumes each message instead of sending it.
+     */
+    static final class BlackholeMailSender extends JavaMailSenderImpl {
+
+        private Blackhole blackhole;
+
+        @Override
+        public void send(MimeMessage mimeMessage) {
+            blackhole.consume(mimeMessage);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        mailSender = new BlackholeMailSender();
+        emailNotificationService = new EmailNotificationService(mailSender, templateEngine, new SimpleMeterRegistry());
+        setField("fromAddress", "noreply@localhost");
+        setField("fromName", "Approval Flow");
+
+        request = BenchmarkData.requests(2).get(1);
+    }
+
+    @Benchmark
+    public void requestCreated(Blackhole blackhole) {
+        mailSender.blackhole = blackhole;
+        emailNotificationService.sendRequestCreatedNotification(request, request.getApprover());
+    }
+
+    @Benchmark
+    public void requestStatusUpdate(Blackhole blackhole) {
+        mailSender.blackhole = blackhole;
+        emailNotificationService.sendRequestStatusUpdateNotification(request, request.getApprover(), "Looks good to me");
+    }
+
+    private void setField(String name, String value) {
+        Field field = ReflectionUtils.findField(EmailNotificationService.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, emailNotificationService, value);
+    }
+}
@@ -0,0 +1,106 @@
+package dev.danielcorrea.backbdb.perf;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.danielcorrea.backbdb.config.RequestDtoModule;
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Jackson serialization of the request DTOs returned by the REST API, as a single details
+ * object and as a list of summaries.
+ *
+ * {@code serializers=reflective} is Jackson's default bean serialization, {@code handwritten} the
+ * {@link RequestDtoModule} serializers the application registers. {@code format} is the encoding
+ * negotiated with the client. Besides ns/op, each run reports the encoded size as the
+ * {@code payloadBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    @Param({"reflective", "handwritten"})
+    private String serializers;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private List<RequestSummaryDTO> summaries;
+    private RequestDetailsDTO details;
+
+    @Setup
+    public void setUp() {
+        MapperBuilder<?, ?> builder = switch (format) {
+            case "json" -> JsonMapper.builder();
+            case "smile" -> SmileMapper.builder();
+            case "cbor" -> CBORMapper.builder();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        if (serializers.equals("handwritten")) {
+            builder.addModule(new RequestDtoModule());
+        }
+        mapper = builder.build();
+        List<ApprovalRequest> requests = BenchmarkData.requests(size);
+        summaries = requests.stream()
+                .map(request -> new RequestSummaryDTO(request.getId(), request.getTitle(), request.getStatus().name(),
+                        request.getType().getName(), request.getCreatedAt(), request.getRequester().getFullName()))
+                .toList();
+        ApprovalRequest request = requests.get(1);
+        details = new RequestDetailsDTO(request.getId(), request.getTitle(), request.getDescription(),
+                request.getStatus().name(), request.getType().getName(), request.getCreatedAt(),
+                request.getRequester().getFullName(), request.getLatestComment(), request.getLastActionAt());
+    }
+
+    @Benchmark
+    public byte[] summaryList(Payload payload) {
+        return payload.record(mapper.writeValueAsBytes(summaries));
+    }
+
+    @Benchmark
+    public byte[] details(Payload payload) {
+        return payload.record(mapper.writeValueAsBytes(details));
+    }
+
+    /**
+     * Size of the last encoded payload, reported per run as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+
+        byte[] record(byte[] bytes) {
+            payloadBytes = bytes.length;
+            return bytes;
+        }
+    }
+}
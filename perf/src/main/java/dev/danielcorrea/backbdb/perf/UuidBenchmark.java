@@ -0,0 +1,66 @@
+package dev.danielcorrea.backbdb.perf;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Request ID handling: generation on create, parsing of path variables, formatting for JSON
+ * and email, and the binary(16) column conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidBenchmark {
+
+    private UUID id;
+    private String text;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        id = UUID.fromString("3f2b8c1e-4a5d-4e6f-9a7b-8c9d0e1f2a3b");
+        text = id.toString();
+        bytes = UuidBinary.toBytes(id);
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID parse() {
+        return UUID.fromString(text);
+    }
+
+    @Benchmark
+    public String format() {
+        return id.toString();
+    }
+
+    @Benchmark
+    public byte[] toBinary() {
+        return UuidBinary.toBytes(id);
+    }
+
+    @Benchmark
+    public UUID fromBinary() {
+        return UuidBinary.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,359 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates a production-sized, reproducible dataset: users, request types, approval requests
+ * and their history.
+ *
+ * The data is skewed the way real usage is. A small share of users are approvers, and Zipf
+ * sampling gives a handful of them most of the inbox; requesters and request types are skewed
+ * more mildly. Requests grow over the period, cluster in weekday business hours, and are decided
+ * after a log-normal delay (hours, with a long tail), so recent requests are mostly pending and
+ * old ones mostly approved or rejected.
+ *
+ * Requests are generated in fixed chunks, each with its own random stream derived from the seed,
+ * so the same seed and sizes give the same rows whatever the thread count.
+ *
+ * Configured with system properties:
+ * <ul>
+ * <li>{@code dataset.url}, {@code dataset.username}, {@code dataset.password} - insert into this
+ * Flyway-migrated database with multi-row INSERTs</li>
+ * <li>{@code dataset.output} - or write LOAD DATA files and a load.sql script to this directory</li>
+ * <li>{@code dataset.users} (default 10000), {@code dataset.types} (20), {@code dataset.requests} (1000000)</li>
+ * <li>{@code dataset.seed} (42), {@code dataset.days} (365), {@code dataset.end} (2026-01-01T00:00)</li>
+ * <li>{@code dataset.approverFraction} (0.05), {@code dataset.batchSize} (1000 rows per INSERT),
+ * {@code dataset.threads} (available processors)</li>
+ * <li>{@code dataset.userIdOffset}, {@code dataset.typeIdOffset} (0) - first ids minus one, to append
+ * to a database that already has users or request types</li>
+ * </ul>
+ */
+public class DatasetGenerator {
+
+    private static final int CHUNK_SIZE = 50_000;
+    private static final long CHUNK_SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final double ABANDONED_SHARE = 0.02;
+    private static final double APPROVED_SHARE = 0.78;
+    private static final double MEDIAN_DECISION_HOURS = 6;
+    private static final double DECISION_HOURS_SIGMA = 1.3;
+
+    /** Relative request volume per hour of the day. */
+    private static final double[] HOUR_WEIGHTS = {
+        1, 1, 1, 1, 1, 2, 4, 10, 25, 40, 45, 40, 25, 35, 45, 40, 30, 15, 8, 5, 4, 3, 2, 1
+    };
+    private static final double WEEKEND_ACCEPTANCE = 0.15;
+
+    private static final String[] TYPE_NAMES = {
+        "ACCESS", "DEPLOYMENT", "BUDGET", "PURCHASE", "TRAVEL", "HIRING", "VACATION", "EXPENSE", "CONTRACT", "LICENSE"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Ana", "Bruno", "Carla", "Diego", "Elena", "Felipe", "Gabriela", "Hugo", "Isabel", "João",
+        "Karen", "Lucas", "Marina", "Nicolas", "Olivia", "Pedro", "Rafaela", "Samuel", "Tatiana", "Vitor"
+    };
+    private static final String[] LAST_NAMES = {
+        "Almeida", "Barbosa", "Costa", "Dias", "Ferreira", "Gomes", "Lima", "Martins", "Nunes", "Oliveira",
+        "Pereira", "Ribeiro", "Santos", "Silva", "Souza", "Teixeira"
+    };
+    private static final String[] SUBJECTS = {
+        "for the new project", "for Q%d planning", "for the platform team", "for customer onboarding",
+        "for the data migration", "for the security review", "for the conference", "for the release train"
+    };
+    private static final String[] APPROVE_COMMENTS = {
+        "Approved.", "Looks good to me.", "Approved, go ahead.", "OK within budget.", "Approved for this quarter."
+    };
+    private static final String[] REJECT_COMMENTS = {
+        "Rejected: missing justification.", "Not in this quarter's budget.", "Please resubmit with details.",
+        "Duplicate of an existing request.", "Rejected by policy."
+    };
+
+    private final long seed;
+    private final int userCount;
+    private final int typeCount;
+    private final long requestCount;
+    private final int days;
+    private final LocalDateTime end;
+    private final long userIdOffset;
+    private final int typeIdOffset;
+    private final long[] requesterIds;
+    private final long[] approverIds;
+    private final Zipf requesterZipf;
+    private final Zipf approverZipf;
+    private final Zipf typeZipf;
+    private final double[] hourCumulative = new double[24];
+
+    DatasetGenerator(long seed, int userCount, int typeCount, long requestCount, int days, LocalDateTime end,
+                     double approverFraction, long userIdOffset, int typeIdOffset) {
+        if (userCount < 2 || typeCount < 1) {
+            throw new IllegalArgumentException("Need at least two users and one request type");
+        }
+        this.seed = seed;
+        this.userCount = userCount;
+        this.typeCount = typeCount;
+        this.requestCount = requestCount;
+        this.days = days;
+        this.end = end;
+        this.userIdOffset = userIdOffset;
+        this.typeIdOffset = typeIdOffset;
+
+        // Rank users independently for requesting and approving, so the busiest approver is not
+        // also the busiest requester
+        SplittableRandom random = new SplittableRandom(seed);
+        requesterIds = shuffledUserIds(random);
+        long[] approverRanking = shuffledUserIds(random);
+        int approverCount = Math.max(1, (int) Math.round(userCount * approverFraction));
+        approverIds = Arrays.copyOf(approverRanking, approverCount);
+        requesterZipf = new Zipf(userCount, 0.8);
+        approverZipf = new Zipf(approverCount, 1.2);
+        typeZipf = new Zipf(typeCount, 1.0);
+
+        double sum = 0;
+        for (double weight : HOUR_WEIGHTS) {
+            sum += weight;
+        }
+        double cumulative = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            cumulative += HOUR_WEIGHTS[hour] / sum;
+            hourCumulative[hour] = cumulative;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("dataset.url");
+        String output = System.getProperty("dataset.output");
+        if ((url == null) == (output == null)) {
+            throw new IllegalArgumentException("Set exactly one of dataset.url and dataset.output");
+        }
+        DatasetGenerator generator = new DatasetGenerator(
+                Long.getLong("dataset.seed", 42),
+                Integer.getInteger("dataset.users", 10_000),
+                Integer.getInteger("dataset.types", 20),
+                Long.getLong("dataset.requests", 1_000_000),
+                Integer.getInteger("dataset.days", 365),
+                LocalDateTime.parse(System.getProperty("dataset.end", "2026-01-01T00:00")),
+                Double.parseDouble(System.getProperty("dataset.approverFraction", "0.05")),
+                Long.getLong("dataset.userIdOffset", 0),
+                Integer.getInteger("dataset.typeIdOffset", 0));
+        int threads = Integer.getInteger("dataset.threads", Runtime.getRuntime().availableProcessors());
+
+        SinkFactory sinks;
+        if (url != null) {
+            String username = System.getProperty("dataset.username", "root");
+            String password = System.getProperty("dataset.password", "");
+            int batchSize = Integer.getInteger("dataset.batchSize", 1000);
+            sinks = part -> new JdbcRowSink(url, username, password, batchSize);
+            try (JdbcRowSink sink = new JdbcRowSink(url, username, password, batchSize)) {
+                generator.checkIdsAreFree(sink);
+            }
+        } else {
+            Path directory = Files.createDirectories(Path.of(output));
+            sinks = part -> new TsvRowSink(directory, part);
+        }
+
+        long started = System.nanoTime();
+        int chunks = generator.generate(sinks, threads);
+        if (output != null) {
+            writeLoadScript(Path.of(output), chunks);
+        }
+        System.out.printf("Generated %d users, %d request types and %d requests in %.1fs%n", generator.userCount,
+                generator.typeCount, generator.requestCount, (System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Creates the sink for one part of the dataset ("base" for users and types, then one per chunk).
+     */
+    interface SinkFactory {
+
+        RowSink open(String part) throws Exception;
+    }
+
+    /**
+     * Writes the whole dataset and returns the number of request chunks.
+     */
+    int generate(SinkFactory sinks, int threads) throws Exception {
+        try (RowSink sink = sinks.open("base")) {
+            writeUsersAndTypes(sink);
+            sink.flush();
+        }
+
+        int chunks = (int) ((requestCount + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        AtomicLong written = new AtomicLong();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int index = chunk;
+                futures.add(executor.submit(() -> {
+                    try (RowSink sink = sinks.open(String.format("%05d", index))) {
+                        long rows = writeChunk(index, sink);
+                        sink.flush();
+                        long total = written.addAndGet(rows);
+                        double seconds = (System.nanoTime() - started) / 1e9;
+                        System.out.printf("%,d / %,d requests (%.0f/s)%n", total, requestCount, total / seconds);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return chunks;
+    }
+
+    void writeUsersAndTypes(RowSink sink) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        for (int i = 1; i <= userCount; i++) {
+            long id = userIdOffset + i;
+            String fullName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            sink.write(Table.USERS, new Object[] {id, "user" + id, fullName, "user" + id + "@example.com"});
+        }
+        for (int i = 0; i < typeCount; i++) {
+            int id = typeIdOffset + i + 1;
+            String name = TYPE_NAMES[i % TYPE_NAMES.length];
+            if (i >= TYPE_NAMES.length || typeIdOffset > 0) {
+                name += "_" + id;
+            }
+            sink.write(Table.REQUEST_TYPES, new Object[] {id, name, "Generated request type " + name});
+        }
+    }
+
+    /**
+     * Writes the requests of one chunk and their history, returning the number of requests.
+     */
+    long writeChunk(int chunk, RowSink sink) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed + CHUNK_SEED_STEP * (chunk + 1));
+        long first = (long) chunk * CHUNK_SIZE;
+        long last = Math.min(requestCount, first + CHUNK_SIZE);
+        for (long i = first; i < last; i++) {
+            writeRequest(i, random, sink);
+        }
+        return last - first;
+    }
+
+    private void writeRequest(long index, SplittableRandom random, RowSink sink) throws Exception {
+        byte[] id = randomUuidBytes(random);
+        long approverId = approverIds[approverZipf.sample(random)];
+        long requesterId = requesterIds[requesterZipf.sample(random)];
+        if (requesterId == approverId) {
+            requesterId = userIdOffset + (requesterId - userIdOffset) % userCount + 1;
+        }
+        int typeRank = typeZipf.sample(random);
+        int typeId = typeIdOffset + typeRank + 1;
+        String typeName = TYPE_NAMES[typeRank % TYPE_NAMES.length];
+
+        LocalDateTime createdAt = sampleCreatedAt(random);
+        String subject = String.format(SUBJECTS[random.nextInt(SUBJECTS.length)], createdAt.getMonthValue() / 4 + 1);
+        String title = typeName.charAt(0) + typeName.substring(1).toLowerCase() + " request " + subject;
+        String description = "Request #" + index + ": " + title + ". Generated for performance testing.";
+
+        double decisionHours = Math.exp(Math.log(MEDIAN_DECISION_HOURS) + DECISION_HOURS_SIGMA * random.nextGaussian());
+        LocalDateTime decidedAt = createdAt.plusSeconds((long) (decisionHours * 3600));
+        boolean decided = random.nextDouble() >= ABANDONED_SHARE && decidedAt.isBefore(end);
+
+        String status = "PENDING";
+        String comment = null;
+        if (decided) {
+            boolean approved = random.nextDouble() < APPROVED_SHARE;
+            status = approved ? "APPROVED" : "REJECTED";
+            String[] comments = approved ? APPROVE_COMMENTS : REJECT_COMMENTS;
+            comment = comments[random.nextInt(comments.length)];
+        }
+
+        sink.write(Table.REQUESTS, new Object[] {id, title, description, status, createdAt,
+                decided ? decidedAt : createdAt, comment, decided ? decidedAt : null, requesterId, approverId, typeId});
+        sink.write(Table.APPROVAL_HISTORY, new Object[] {"CREATED", null, createdAt, id, requesterId});
+        if (decided) {
+            sink.write(Table.APPROVAL_HISTORY, new Object[] {status, comment, decidedAt, id, approverId});
+        }
+    }
+
+    /**
+     * Creation time with volume growing over the period (density rising linearly from 0.5 to 1.5),
+     * weekends at {@value #WEEKEND_ACCEPTANCE} of weekday volume and the {@link #HOUR_WEIGHTS} daily profile.
+     */
+    private LocalDateTime sampleCreatedAt(SplittableRandom random) {
+        LocalDateTime start = end.minusDays(days);
+        LocalDateTime day;
+        do {
+            double position = (Math.sqrt(1 + 8 * random.nextDouble()) - 1) / 2;
+            day = start.plusDays(Math.min(days - 1, (long) (position * days)));
+        } while ((day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)
+                && random.nextDouble() >= WEEKEND_ACCEPTANCE);
+
+        double u = random.nextDouble();
+        int hour = 0;
+        while (hour < 23 && hourCumulative[hour] < u) {
+            hour++;
+        }
+        return day.plusHours(hour).plusNanos(random.nextLong(3_600_000_000L) * 1_000);
+    }
+
+    private long[] shuffledUserIds(SplittableRandom random) {
+        long[] ids = new long[userCount];
+        for (int i = 0; i < userCount; i++) {
+            ids[i] = userIdOffset + i + 1;
+        }
+        for (int i = userCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    private static byte[] randomUuidBytes(SplittableRandom random) {
+        byte[] bytes = new byte[16];
+        long high = random.nextLong();
+        long low = random.nextLong();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (low >>> (56 - 8 * i));
+        }
+        // Version 4, IETF variant, like UUID.randomUUID()
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x40);
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80);
+        return bytes;
+    }
+
+    private void checkIdsAreFree(JdbcRowSink sink) throws Exception {
+        long maxUserId = sink.maxId(Table.USERS);
+        long maxTypeId = sink.maxId(Table.REQUEST_TYPES);
+        if (maxUserId > userIdOffset || maxTypeId > typeIdOffset) {
+            throw new IllegalStateException("The database already has users up to id " + maxUserId
+                    + " and request types up to id " + maxTypeId
+                    + "; set dataset.userIdOffset and dataset.typeIdOffset at least that high");
+        }
+    }
+
+    private static void writeLoadScript(Path directory, int chunks) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("-- Run from this directory: mysql --local-infile=1 -u root -p approval_flow < load.sql");
+        lines.add("SET foreign_key_checks = 0;");
+        lines.add("SET unique_checks = 0;");
+        lines.add(TsvRowSink.loadStatement(Table.USERS, TsvRowSink.fileName(Table.USERS, "base")));
+        lines.add(TsvRowSink.loadStatement(Table.REQUEST_TYPES, TsvRowSink.fileName(Table.REQUEST_TYPES, "base")));
+        for (Table table : List.of(Table.REQUESTS, Table.APPROVAL_HISTORY)) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                lines.add(TsvRowSink.loadStatement(table, TsvRowSink.fileName(table, String.format("%05d", chunk))));
+            }
+        }
+        lines.add("SET unique_checks = 1;");
+        lines.add("SET foreign_key_checks = 1;");
+        lines.add("ANALYZE TABLE users, request_types, requests, approval_history;");
+        Files.write(directory.resolve("load.sql"), lines);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts rows with multi-row INSERT statements of {@code batchSize} rows, committing after
+ * each flush. Foreign key and unique checks are off for the session: the generator writes
+ * users and request types before the rows that reference them and never repeats a key.
+ */
+class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final Map<Table, List<Object[]>> buffers = new EnumMap<>(Table.class);
+    private final Map<Table, PreparedStatement> fullBatchStatements = new EnumMap<>(Table.class);
+
+    JdbcRowSink(String url, String username, String password, int batchSize) throws SQLException {
+        this.connection = DriverManager.getConnection(url, username, password);
+        this.batchSize = batchSize;
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION foreign_key_checks = 0, unique_checks = 0");
+        }
+    }
+
+    @Override
+    public void write(Table table, Object[] row) throws SQLException {
+        List<Object[]> buffer = buffers.computeIfAbsent(table, key -> new ArrayList<>(batchSize));
+        buffer.add(row);
+        if (buffer.size() == batchSize) {
+            PreparedStatement statement = fullBatchStatements.get(table);
+            if (statement == null) {
+                statement = connection.prepareStatement(insertSql(table, batchSize));
+                fullBatchStatements.put(table, statement);
+            }
+            execute(statement, buffer);
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        // Parents first, in case a server ignores the session's foreign_key_checks
+        for (Table table : Table.values()) {
+            List<Object[]> buffer = buffers.getOrDefault(table, Collections.emptyList());
+            if (!buffer.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(insertSql(table, buffer.size()))) {
+                    execute(statement, buffer);
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (PreparedStatement statement : fullBatchStatements.values()) {
+            statement.close();
+        }
+        connection.close();
+    }
+
+    /**
+     * Highest id in a table, or 0 when it is empty.
+     */
+    long maxId(Table table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table.getTableName())) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(PreparedStatement statement, List<Object[]> rows) throws SQLException {
+        int index = 1;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                statement.setObject(index++, value instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : value);
+            }
+        }
+        statement.executeUpdate();
+        rows.clear();
+    }
+
+    private static String insertSql(Table table, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(table.getColumns().size(), "?")) + ")";
+        return "INSERT INTO " + table.getTableName() + " (" + String.join(", ", table.getColumns()) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+}
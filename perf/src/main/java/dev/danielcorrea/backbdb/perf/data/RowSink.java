@@ -0,0 +1,18 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+/**
+ * Destination for generated rows. Values are Long, Integer, String, LocalDateTime, byte[]
+ * (binary(16) ids) or null, in {@link Table#getColumns()} order.
+ */
+interface RowSink extends AutoCloseable {
+
+    void write(Table table, Object[] row) throws Exception;
+
+    /**
+     * Writes any buffered rows. Called at the end of every chunk.
+     */
+    void flush() throws Exception;
+
+    @Override
+    void close() throws Exception;
+}
@@ -0,0 +1,31 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+import java.util.List;
+
+/**
+ * Tables the generator fills, with the columns it writes in order.
+ */
+enum Table {
+
+    USERS("users", List.of("id", "username", "full_name", "email")),
+    REQUEST_TYPES("request_types", List.of("id", "name", "description")),
+    REQUESTS("requests", List.of("id", "title", "description", "status", "created_at", "updated_at",
+            "latest_comment", "last_action_at", "requester_id", "approver_id", "type_id")),
+    APPROVAL_HISTORY("approval_history", List.of("action_taken", "comments", "action_date", "request_id", "user_id"));
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    String getTableName() {
+        return tableName;
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+}
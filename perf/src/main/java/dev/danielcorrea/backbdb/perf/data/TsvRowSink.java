@@ -0,0 +1,116 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes rows as tab-separated files in MySQL's default LOAD DATA format: backslash escapes,
+ * {@code \N} for NULL and binary ids as hex, which {@link #loadStatement} converts back with UNHEX.
+ */
+class TsvRowSink implements RowSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path directory;
+    private final String part;
+    private final Map<Table, BufferedWriter> writers = new EnumMap<>(Table.class);
+
+    TsvRowSink(Path directory, String part) {
+        this.directory = directory;
+        this.part = part;
+    }
+
+    @Override
+    public void write(Table table, Object[] row) throws IOException {
+        BufferedWriter writer = writers.get(table);
+        if (writer == null) {
+            writer = Files.newBufferedWriter(directory.resolve(fileName(table, part)), StandardCharsets.UTF_8);
+            writers.put(table, writer);
+        }
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write('\t');
+            }
+            writer.write(format(row[i]));
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (BufferedWriter writer : writers.values()) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (BufferedWriter writer : writers.values()) {
+            writer.close();
+        }
+    }
+
+    static String fileName(Table table, String part) {
+        return table.getTableName() + "-" + part + ".tsv";
+    }
+
+    /**
+     * LOAD DATA statement for one file written by this sink.
+     */
+    static String loadStatement(Table table, String fileName) {
+        List<String> columns = new ArrayList<>();
+        List<String> conversions = new ArrayList<>();
+        for (String column : table.getColumns()) {
+            if (isBinaryId(table, column)) {
+                columns.add("@" + column);
+                conversions.add(column + " = UNHEX(@" + column + ")");
+            } else {
+                columns.add(column);
+            }
+        }
+        return "LOAD DATA LOCAL INFILE '" + fileName + "' INTO TABLE " + table.getTableName()
+                + " CHARACTER SET utf8mb4 (" + String.join(", ", columns) + ")"
+                + (conversions.isEmpty() ? "" : " SET " + String.join(", ", conversions)) + ";";
+    }
+
+    private static boolean isBinaryId(Table table, String column) {
+        return (table == Table.REQUESTS && column.equals("id"))
+                || (table == Table.APPROVAL_HISTORY && column.equals("request_id"));
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        if (value instanceof byte[] bytes) {
+            return HEX.formatHex(bytes);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME);
+        }
+        String text = value.toString();
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
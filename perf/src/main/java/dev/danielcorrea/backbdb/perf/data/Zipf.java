@@ -0,0 +1,34 @@
+package dev.danielcorrea.backbdb.perf.data;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent, so a few low
+ * ranks take most of the draws. Exponent 0 is uniform.
+ */
+final class Zipf {
+
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf needs at least one rank");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
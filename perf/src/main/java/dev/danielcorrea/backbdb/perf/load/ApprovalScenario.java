@@ -0,0 +1,163 @@
+package dev.danielcorrea.backbdb.perf.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import dev.danielcorrea.backbdb.dto.CreateRequestDTO;
+import dev.danielcorrea.backbdb.dto.RequestActionDTO;
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.dto.RequestTypeDTO;
+import dev.danielcorrea.backbdb.dto.UserDTO;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The approval workflow as seen by the frontend: users create requests, poll their inbox,
+ * open request details and approve or reject what is assigned to them.
+ *
+ * Requests created during the run are remembered so that details and decisions act on real,
+ * still pending requests. When there is nothing pending to decide, a decide arrival creates a
+ * request instead, so the offered rate stays the same.
+ */
+class ApprovalScenario {
+
+    /**
+     * An operation of the scenario mix.
+     */
+    enum Operation {
+        CREATE,
+        INBOX,
+        DETAILS,
+        DECIDE,
+        LOOKUP
+    }
+
+    private static final int RECENT_IDS = 4096;
+
+    private final HttpClient client;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final URI target;
+    private final Duration timeout;
+    private final Map<Operation, OperationStats> stats;
+    private final ConcurrentLinkedQueue<PendingRequest> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<UUID> recentIds = new AtomicReferenceArray<>(RECENT_IDS);
+    private final AtomicInteger recentCount = new AtomicInteger();
+    private List<UserDTO> users = List.of();
+    private List<RequestTypeDTO> requestTypes = List.of();
+
+    private record PendingRequest(UUID id, Long approverId) {
+    }
+
+    ApprovalScenario(HttpClient client, URI target, Duration timeout, Map<Operation, OperationStats> stats) {
+        this.client = client;
+        this.target = target;
+        this.timeout = timeout;
+        this.stats = stats;
+    }
+
+    /**
+     * Loads the users and request types the scenario draws from.
+     */
+    void prepare() throws Exception {
+        users = jsonMapper.readValue(get("/api/users").body(), new TypeReference<List<UserDTO>>() { });
+        requestTypes = jsonMapper.readValue(get("/api/request-types").body(), new TypeReference<List<RequestTypeDTO>>() { });
+        if (users.size() < 2 || requestTypes.isEmpty()) {
+            throw new IllegalStateException("The target needs at least two users and one request type, found "
+                    + users.size() + " users and " + requestTypes.size() + " request types");
+        }
+    }
+
+    /**
+     * Runs one operation that was due at {@code intendedStartNanos} and records its latency.
+     */
+    void run(Operation operation, long intendedStartNanos, boolean measure) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (operation == Operation.DETAILS && recentCount.get() == 0) {
+            operation = Operation.INBOX;
+        }
+        PendingRequest decision = null;
+        if (operation == Operation.DECIDE) {
+            decision = pending.poll();
+            if (decision == null) {
+                operation = Operation.CREATE;
+            }
+        }
+
+        long sent = System.nanoTime();
+        boolean success;
+        try {
+            success = switch (operation) {
+                case CREATE -> create(random);
+                case INBOX -> get("/api/requests/assigned/" + randomUser(random).getId()).statusCode() == 200;
+                case DETAILS -> get("/api/requests/" + recentId(random)).statusCode() == 200;
+                case DECIDE -> decide(decision, random);
+                case LOOKUP -> get(random.nextBoolean() ? "/api/users" : "/api/request-types").statusCode() == 200;
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        if (measure) {
+            stats.get(operation).record(intendedStartNanos, sent, System.nanoTime(), success);
+        }
+    }
+
+    private boolean create(ThreadLocalRandom random) throws Exception {
+        UserDTO requester = randomUser(random);
+        UserDTO approver = randomUser(random);
+        while (approver.getId().equals(requester.getId())) {
+            approver = randomUser(random);
+        }
+        RequestTypeDTO type = requestTypes.get(random.nextInt(requestTypes.size()));
+        CreateRequestDTO body = new CreateRequestDTO("Load test request " + random.nextInt(1_000_000),
+                "Created by the load generator", requester.getId(), approver.getId(), type.getId());
+
+        HttpResponse<byte[]> response = send("POST", "/api/requests", body);
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        UUID id = jsonMapper.readValue(response.body(), RequestSummaryDTO.class).id();
+        pending.add(new PendingRequest(id, approver.getId()));
+        recentIds.set(Math.floorMod(recentCount.getAndIncrement(), RECENT_IDS), id);
+        return true;
+    }
+
+    private boolean decide(PendingRequest decision, ThreadLocalRandom random) throws Exception {
+        // Roughly three approvals for every rejection
+        String action = random.nextInt(4) == 0 ? "reject" : "approve";
+        RequestActionDTO body = new RequestActionDTO("Decided by the load generator", decision.approverId());
+        return send("PATCH", "/api/requests/" + decision.id() + "/" + action, body).statusCode() == 200;
+    }
+
+    private UserDTO randomUser(ThreadLocalRandom random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    private UUID recentId(ThreadLocalRandom random) {
+        int available = Math.min(recentCount.get(), RECENT_IDS);
+        return recentIds.get(random.nextInt(available));
+    }
+
+    private HttpResponse<byte[]> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(target.resolve(path)).timeout(timeout).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpResponse<byte[]> send(String method, String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(target.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,152 @@
+package dev.danielcorrea.backbdb.perf.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import dev.danielcorrea.backbdb.perf.load.ApprovalScenario.Operation;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Open-model HTTP load generator for a running instance of the approval API.
+ *
+ * Operations arrive at a fixed rate regardless of how fast the server answers, each on its own
+ * virtual thread, and are drawn from a weighted mix of {@link Operation}s. Latency is measured
+ * from each operation's scheduled start, so a server that falls behind shows it in the
+ * percentiles instead of quietly lowering the offered load.
+ *
+ * Configured with system properties:
+ * <ul>
+ * <li>{@code load.target} - base URL, default http://localhost:8080</li>
+ * <li>{@code load.rate} - operations per second, default 50</li>
+ * <li>{@code load.seconds} - measured duration, default 60</li>
+ * <li>{@code load.warmupSeconds} - unmeasured lead-in at the same rate, default 10</li>
+ * <li>{@code load.mix} - operation weights, default create=20,inbox=35,details=25,decide=15,lookup=5</li>
+ * <li>{@code load.timeoutMs} - per request timeout, default 30000</li>
+ * <li>{@code load.output} - directory for summary.json and per-operation .hgrm files, optional</li>
+ * </ul>
+ */
+public class LoadGenerator {
+
+    private static final String DEFAULT_MIX = "create=20,inbox=35,details=25,decide=15,lookup=5";
+
+    public static void main(String[] args) throws Exception {
+        URI target = URI.create(System.getProperty("load.target", "http://localhost:8080"));
+        int rate = Integer.getInteger("load.rate", 50);
+        int seconds = Integer.getInteger("load.seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 10);
+        Duration timeout = Duration.ofMillis(Long.getLong("load.timeoutMs", 30_000));
+        Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", DEFAULT_MIX));
+        String output = System.getProperty("load.output");
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation.name().toLowerCase()));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(timeout)
+                    .executor(executor)
+                    .build();
+            ApprovalScenario scenario = new ApprovalScenario(client, target, timeout, stats);
+            scenario.prepare();
+
+            System.out.printf("Offering %d ops/s to %s for %ds after a %ds warmup, mix %s%n",
+                    rate, target, seconds, warmupSeconds, mix);
+            long intervalNanos = 1_000_000_000L / rate;
+            long total = (long) rate * (warmupSeconds + seconds);
+            long warmup = (long) rate * warmupSeconds;
+            long start = System.nanoTime();
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = pick(mix);
+                boolean measure = i >= warmup;
+                executor.execute(() -> scenario.run(operation, intendedStart, measure));
+            }
+        }
+
+        report(stats, seconds, rate, output);
+    }
+
+    private static void report(Map<Operation, OperationStats> stats, int seconds, int rate, String output) throws IOException {
+        System.out.println();
+        OperationStats.printHeader(System.out);
+        long count = 0;
+        long errors = 0;
+        for (OperationStats operation : stats.values()) {
+            if (operation.getCount() > 0) {
+                operation.printRow(System.out, seconds);
+            }
+            count += operation.getCount();
+            errors += operation.getErrorCount();
+        }
+        System.out.printf("%ntotal: %d operations, %d errors, %.1f ops/s offered, %.1f ops/s completed%n",
+                count, errors, (double) rate, (double) count / seconds);
+
+        if (output != null) {
+            Path directory = Files.createDirectories(Path.of(output));
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("offeredRatePerSecond", rate);
+            summary.put("durationSeconds", seconds);
+            summary.put("operations", count);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", Math.round((double) count / seconds * 100) / 100.0);
+            summary.put("responseTimeMs", OperationStats.combinedResponseTime(stats.values()));
+            Map<String, Object> operations = new LinkedHashMap<>();
+            for (OperationStats operation : stats.values()) {
+                if (operation.getCount() > 0) {
+                    operations.put(operation.getName(), operation.summary(seconds));
+                    operation.writeDistribution(directory.resolve(operation.getName() + ".hgrm"));
+                }
+            }
+            summary.put("byOperation", operations);
+            JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build()
+                    .writeValue(directory.resolve("summary.json").toFile(), summary);
+            System.out.println("Results written to " + directory.toAbsolutePath());
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation=weight");
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The mix needs at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int choice = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            choice -= entry.getValue();
+            if (choice < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+}
@@ -0,0 +1,118 @@
+package dev.danielcorrea.backbdb.perf.load;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and counters for one scenario operation.
+ *
+ * Two histograms are kept. Response time runs from the operation's intended start on the
+ * arrival schedule, so time spent waiting behind a slow server is counted (the
+ * coordinated-omission-corrected figure). Service time runs from the moment the request was
+ * actually sent and shows how far the two diverge.
+ */
+class OperationStats {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final String name;
+    private final Histogram responseTime = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+    private final AtomicLong errors = new AtomicLong();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long intendedStartNanos, long sentNanos, long completedNanos, boolean success) {
+        responseTime.recordValue(Math.min(completedNanos - intendedStartNanos, MAX_LATENCY_NANOS));
+        serviceTime.recordValue(Math.min(completedNanos - sentNanos, MAX_LATENCY_NANOS));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    long getCount() {
+        return responseTime.getTotalCount();
+    }
+
+    long getErrorCount() {
+        return errors.get();
+    }
+
+    /**
+     * Count, error count, throughput and percentiles in milliseconds, keyed for the JSON summary.
+     */
+    Map<String, Object> summary(double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("errors", getErrorCount());
+        summary.put("throughputPerSecond", round(getCount() / seconds));
+        summary.put("responseTimeMs", percentiles(responseTime));
+        summary.put("serviceTimeMs", percentiles(serviceTime));
+        return summary;
+    }
+
+    /**
+     * Response time percentiles in milliseconds over all the given operations together.
+     */
+    static Map<String, Double> combinedResponseTime(Iterable<OperationStats> operations) {
+        Histogram combined = new Histogram(MAX_LATENCY_NANOS, 3);
+        for (OperationStats operation : operations) {
+            combined.add(operation.responseTime);
+        }
+        return percentiles(combined);
+    }
+
+    void printRow(PrintStream out, double seconds) {
+        out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, getCount(), getErrorCount(),
+                getCount() / seconds, millis(responseTime, 50), millis(responseTime, 99), millis(responseTime, 99.9),
+                millis(responseTime, 100), millis(serviceTime, 50), millis(serviceTime, 99));
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "errors", "ops/s",
+                "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p50", "svc p99");
+    }
+
+    /**
+     * Writes the full response time distribution in HdrHistogram's .hgrm format, in milliseconds.
+     */
+    void writeDistribution(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+            responseTime.outputPercentileDistribution(out, 5, 1_000_000.0);
+        }
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + (percentile == Math.rint(percentile) ? Long.toString((long) percentile) : percentile),
+                    round(millis(histogram, percentile)));
+        }
+        percentiles.put("max", round(millis(histogram, 100)));
+        return percentiles;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,86 @@
+#!/bin/bash
+# Compares the application's throughput and latency on platform and virtual threads.
+#
+# Usage: perf/thread-models.sh [OUTPUT_DIR]
+#
+# Starts the packaged application once with VIRTUAL_THREADS_ENABLED=false and once with
+# VIRTUAL_THREADS_ENABLED=true, with the same DB_POOL_SIZE, drives each with LoadGenerator at
+# the same offered rate and prints completed ops/s, errors and p50/p99/p99.9 side by side.
+# Both runs use the database configured in the environment (or .env), which needs at least two
+# users and one request type. Requests created by the first run stay in the database, so restore
+# it between runs or swap the order when comparing close results.
+#
+# Environment: DB_POOL_SIZE (default 10), LOAD_RATE (default 200), LOAD_SECONDS (default 120),
+# LOAD_WARMUP_SECONDS (default 10), LOAD_MIX, APP_PORT (default 8080).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+if [ -f .env ]; then
+    export $(grep -v '^#' .env | xargs)
+fi
+
+OUTPUT=${1:-thread-models}
+APP_JAR=$(ls target/back-bdb-*-exec.jar 2>/dev/null | head -n 1 || true)
+PERF_JAR=perf/target/benchmarks.jar
+APP_PORT=${APP_PORT:-8080}
+TARGET=http://localhost:$APP_PORT
+
+if [ -z "$APP_JAR" ] || [ ! -f "$PERF_JAR" ]; then
+    echo "Build first: ./mvnw install -DskipTests && ./mvnw -f perf/pom.xml package" >&2
+    exit 1
+fi
+
+export DB_POOL_SIZE=${DB_POOL_SIZE:-10}
+export RATE_LIMIT_ENABLED=false
+export BULKHEAD_ENABLED=false
+
+run() {
+    local mode=$1 virtual=$2
+    local log="$OUTPUT/$mode/app.log"
+    mkdir -p "$OUTPUT/$mode"
+
+    echo "Starting the application on $mode threads (DB_POOL_SIZE=$DB_POOL_SIZE)"
+    VIRTUAL_THREADS_ENABLED=$virtual SERVER_PORT=$APP_PORT java -jar "$APP_JAR" > "$log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 120); do
+        if curl -fs "$TARGET/actuator/health" > /dev/null; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "The application exited during startup, see $log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    java -Dload.target="$TARGET" \
+        -Dload.rate="${LOAD_RATE:-200}" \
+        -Dload.seconds="${LOAD_SECONDS:-120}" \
+        -Dload.warmupSeconds="${LOAD_WARMUP_SECONDS:-10}" \
+        ${LOAD_MIX:+-Dload.mix="$LOAD_MIX"} \
+        -Dload.output="$OUTPUT/$mode" \
+        -cp "$PERF_JAR" dev.danielcorrea.backbdb.perf.load.LoadGenerator
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform false
+run virtual true
+
+python3 - "$OUTPUT" <<'EOF'
+import json
+import sys
+
+print(f"\n{'threads':<10} {'ops/s':>9} {'errors':>7} {'p50 ms':>9} {'p99 ms':>9} {'p99.9 ms':>9}")
+for mode in ("platform", "virtual"):
+    with open(f"{sys.argv[1]}/{mode}/summary.json") as f:
+        summary = json.load(f)
+    latency = summary["responseTimeMs"]
+    print(f"{mode:<10} {summary['throughputPerSecond']:>9.1f} {summary['errors']:>7} "
+          f"{latency['p50']:>9.2f} {latency['p99']:>9.2f} {latency['p99.9']:>9.2f}")
+EOF
@@ -0,0 +1,80 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executors for {@code @Async} work that must not follow {@code spring.threads.virtual.enabled}.
+ *
+ * With virtual threads enabled, Spring Boot runs servlet requests, the default {@code @Async}
+ * executor and scheduled jobs on virtual threads. Email delivery stays on this small pool of
+ * platform threads: Jakarta Mail's SMTP transport does its socket I/O inside synchronized
+ * methods, which pins the carrier thread on JDK 21, so a burst of slow SMTP sends on virtual
+ * threads could stall every other virtual thread. For the same reason, application code that
+ * holds a lock across JDBC calls uses a {@code ReentrantLock} rather than {@code synchronized}:
+ * a virtual thread blocked on the database inside a synchronized block would pin its carrier.
+ *
+ * The pool is also the bulkhead of notifications: its threads bound concurrent SMTP sends, and its
+ * queue holds at most {@code mail.executor.queue-capacity} emails. When SMTP stalls long enough to
+ * fill the queue, further emails are dropped and counted in {@code bulkhead.rejected} (workload
+ * {@code notification}) rather than run or waited for on the request thread, which would hold the
+ * approval's transaction open.
+ *
+ * The pool's size, active count and queue depth are published by Spring Boot's executor
+ * metrics; the time each email waits in the queue is recorded as {@code email.queue.wait}.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String MAIL_EXECUTOR = "mailTaskExecutor";
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${mail.executor.threads:8}")
+    private int mailThreads;
+
+    @Value("${mail.executor.queue-capacity:1000}")
+    private int mailQueueCapacity;
+
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailTaskExecutor(MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("email.queue.wait")
+                .description("Time a notification email waits for a mail thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("bulkhead.rejected")
+                .description("Calls rejected because their workload class was at its concurrency limit")
+                .tag("workload", "notification")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailThreads);
+        executor.setMaxPoolSize(mailThreads);
+        executor.setQueueCapacity(mailQueueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            logger.warn("Mail queue full ({} emails waiting), notification dropped", pool.getQueue().size());
+        });
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        });
+        return executor;
+    }
+}
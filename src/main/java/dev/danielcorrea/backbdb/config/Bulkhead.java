@@ -0,0 +1,28 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a database call within the concurrency limit of its workload class; calls that find no
+ * permit in time are answered with 503 instead of queueing for a connection. See {@link BulkheadAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    Workload value();
+
+    /**
+     * Workload classes with separate limits. Notification emails have theirs in the mail executor
+     * (see {@link AsyncConfig}).
+     */
+    enum Workload {
+        READ,
+        WRITE
+    }
+}
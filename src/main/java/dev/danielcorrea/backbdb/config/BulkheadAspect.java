@@ -0,0 +1,119 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Semaphore bulkheads for {@link Bulkhead} service methods.
+ *
+ * The aspect runs inside caching and coalescing (see {@link CacheConfig} and {@link CoalescingAspect})
+ * and outside the transaction, so only calls that go to the database take a permit, and a call
+ * waiting for one holds no connection. Each workload class has its own number of permits. A call waits at most {@code maxWaitMs} for a
+ * permit and is otherwise rejected with {@link BulkheadFullException} (503), so an overload of one
+ * class is shed at its own limit and cannot take the threads and connections another class needs.
+ * The limits are shares of the connection pool (see {@link BulkheadConfig}), which reserves the rest
+ * of the pool for the other classes.
+ *
+ * Rejections are counted in {@code bulkhead.rejected} and permits in use are {@code bulkhead.active},
+ * both tagged with the workload.
+ */
+@Aspect
+@Order(BulkheadAspect.ORDER)
+public class BulkheadAspect {
+
+    /** Just outside {@code @Transactional} and {@code @Timed}, which have the lowest precedence. */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    /**
+     * Permits of a workload class and how long a call may wait for one.
+     */
+    public record Limit(int maxConcurrent, long maxWaitMs) {
+
+        public Limit {
+            if (maxConcurrent < 1 || maxWaitMs < 0) {
+                throw new IllegalArgumentException("A bulkhead needs at least one permit and a non-negative wait");
+            }
+        }
+    }
+
+    private final Map<Bulkhead.Workload, Compartment> compartments = new EnumMap<>(Bulkhead.Workload.class);
+
+    public BulkheadAspect(Map<Bulkhead.Workload, Limit> limits, MeterRegistry meterRegistry) {
+        for (Bulkhead.Workload workload : Bulkhead.Workload.values()) {
+            Limit limit = limits.get(workload);
+            if (limit == null) {
+                throw new IllegalArgumentException("No bulkhead limit for " + workload);
+            }
+            String tag = workload.name().toLowerCase();
+            Compartment compartment = new Compartment(limit, Counter.builder("bulkhead.rejected")
+                    .description("Calls rejected because their workload class was at its concurrency limit")
+                    .tag("workload", tag)
+                    .register(meterRegistry));
+            Gauge.builder("bulkhead.active", compartment, Compartment::active)
+                    .description("Calls running within the bulkhead")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            compartments.put(workload, compartment);
+        }
+    }
+
+    @Around("@annotation(dev.danielcorrea.backbdb.config.Bulkhead)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Bulkhead bulkhead = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(Bulkhead.class);
+        Compartment compartment = compartments.get(bulkhead.value());
+        if (!compartment.tryAcquire()) {
+            compartment.rejected.increment();
+            throw new BulkheadFullException(bulkhead.value());
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            compartment.permits.release();
+        }
+    }
+
+    int active(Bulkhead.Workload workload) {
+        return (int) compartments.get(workload).active();
+    }
+
+    private static final class Compartment {
+
+        private final Limit limit;
+        private final Semaphore permits;
+        private final Counter rejected;
+
+        Compartment(Limit limit, Counter rejected) {
+            this.limit = limit;
+            this.permits = new Semaphore(limit.maxConcurrent());
+            this.rejected = rejected;
+        }
+
+        boolean tryAcquire() {
+            try {
+                return limit.maxWaitMs() == 0
+                        ? permits.tryAcquire()
+                        : permits.tryAcquire(limit.maxWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        double active() {
+            return limit.maxConcurrent() - permits.availablePermits();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bulkhead limits per workload class, as shares of the connection pool that serves the class.
+ *
+ * A class with share {@code s} runs at most {@code s * pool size} calls at once, so however overloaded
+ * it is, it holds at most that many connections, and the remaining connections stay available to the
+ * other classes and to background jobs. Writes are served by the primary pool; reads by the replica
+ * pools when {@code datasource.replicas.urls} is set (see {@link ReplicaRoutingConfig}) and by the
+ * primary pool otherwise. The shares may therefore not add up to more than 1. Disable with
+ * {@code bulkhead.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int poolSize;
+
+    @Value("${datasource.replicas.urls:}")
+    private String replicaUrls;
+
+    @Value("${datasource.replicas.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${bulkhead.read.pool-share:0.5}")
+    private double readShare;
+
+    @Value("${bulkhead.read.max-wait-ms:200}")
+    private long readMaxWaitMs;
+
+    @Value("${bulkhead.write.pool-share:0.3}")
+    private double writeShare;
+
+    @Value("${bulkhead.write.max-wait-ms:1000}")
+    private long writeMaxWaitMs;
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(MeterRegistry meterRegistry) {
+        if (readShare <= 0 || writeShare <= 0 || readShare + writeShare > 1) {
+            throw new IllegalStateException("Bulkhead pool shares must be positive and add up to at most 1, got read="
+                    + readShare + " write=" + writeShare);
+        }
+        return new BulkheadAspect(Map.of(
+                Bulkhead.Workload.READ, new BulkheadAspect.Limit(permits(readShare, readPoolSize()), readMaxWaitMs),
+                Bulkhead.Workload.WRITE, new BulkheadAspect.Limit(permits(writeShare, poolSize), writeMaxWaitMs)),
+                meterRegistry);
+    }
+
+    /**
+     * Connections that serve read-only transactions: all replica pools together, or the primary pool.
+     */
+    private int readPoolSize() {
+        long replicas = Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).count();
+        return replicas > 0 ? (int) replicas * replicaPoolSize : poolSize;
+    }
+
+    private static int permits(double share, int poolSize) {
+        return Math.max(1, (int) Math.floor(share * poolSize));
+    }
+}
@@ -0,0 +1,29 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * A call rejected by a full bulkhead; answered with 503 and a Retry-After header.
+ */
+public class BulkheadFullException extends ResponseStatusException {
+
+    private final Bulkhead.Workload workload;
+
+    public BulkheadFullException(Bulkhead.Workload workload) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent " + workload.name().toLowerCase() + " calls");
+        this.workload = workload;
+    }
+
+    public Bulkhead.Workload getWorkload() {
+        return workload;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process Caffeine caches (spring.cache.* properties). Every instance has its own; writes
+ * invalidate them on all instances through {@link dev.danielcorrea.backbdb.service.CacheInvalidationLog}.
+ *
+ * Cache keys are strings, so that the key written to the invalidation log evicts the same entry
+ * on every instance.
+ */
+@Configuration
+@EnableCaching(order = CacheConfig.ORDER)
+public class CacheConfig {
+
+    /** Outermost of the service advice, so cache hits are neither coalesced nor limited by a bulkhead. */
+    public static final int ORDER = BulkheadAspect.ORDER - 2;
+
+    /** All users, single entry. */
+    public static final String USERS = "users";
+
+    /** All request types, single entry. */
+    public static final String REQUEST_TYPES = "requestTypes";
+
+    /** Requests assigned to a user, keyed by the approver id. */
+    public static final String INBOX = "inbox";
+}
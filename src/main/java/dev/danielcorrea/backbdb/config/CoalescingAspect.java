@@ -0,0 +1,117 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import dev.danielcorrea.backbdb.service.Coalesced;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight execution of {@link Coalesced} methods.
+ *
+ * The first call for a method and argument list runs and is registered as in flight; identical calls
+ * arriving meanwhile wait for it and get its result. The entry is removed as soon as the call
+ * completes, so results are never reused afterwards. The aspect runs outside the bulkhead and the
+ * transaction ({@code @Transactional} and {@code @Timed} advice have the lowest precedence), so
+ * waiting callers neither take a bulkhead permit, open a transaction nor hold a connection.
+ *
+ * A call only joins an execution whose caller had at least its own consistency token (see
+ * {@link ConsistencyTokenFilter}); one started before the caller's last write may not see that write,
+ * so the caller runs its own.
+ *
+ * Every call is counted in {@code coalescing.calls}, tagged with the method and the outcome:
+ * {@code executed} (ran the query), {@code joined} (shared another call's result) or {@code bypassed}
+ * (an older execution was in flight).
+ */
+@Aspect
+@Component
+@Order(BulkheadAspect.ORDER - 1)
+public class CoalescingAspect {
+
+    private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CoalescingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(dev.danielcorrea.backbdb.service.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Key key = new Key(method, Arrays.asList(joinPoint.getArgs()));
+        long requiredTimestamp = ConsistencyTokenFilter.requiredTimestamp();
+
+        Flight flight = new Flight(requiredTimestamp);
+        Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight == null) {
+            count(method, "executed");
+            return execute(joinPoint, key, flight);
+        }
+        if (inFlight.requiredTimestamp >= requiredTimestamp) {
+            count(method, "joined");
+            return inFlight.await();
+        }
+        count(method, "bypassed");
+        return joinPoint.proceed();
+    }
+
+    int inFlightCount() {
+        return flights.size();
+    }
+
+    private Object execute(ProceedingJoinPoint joinPoint, Key key, Flight flight) throws Throwable {
+        try {
+            Object result = joinPoint.proceed();
+            flights.remove(key, flight);
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void count(Method method, String outcome) {
+        Counter.builder("coalescing.calls")
+                .description("Calls to @Coalesced methods, by whether they ran or shared a concurrent call")
+                .tag("method", method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(Method method, List<Object> arguments) {
+    }
+
+    private static final class Flight {
+
+        private final long requiredTimestamp;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Flight(long requiredTimestamp) {
+            this.requiredTimestamp = requiredTimestamp;
+        }
+
+        Object await() throws Throwable {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes consistency for replica reads.
+ *
+ * When a read-write transaction commits during a request, the primary's clock is read right after
+ * the commit, on the connection the transaction still holds, and returned in the {@value #HEADER} response header. Any replication heartbeat written
+ * at a later primary time committed after the write, so read-only transactions for requests that
+ * send the token back only use replicas that have applied such a heartbeat (see
+ * {@link ReplicaRoutingDataSource}). Tokens and heartbeats come from the same clock, so the
+ * application nodes' clocks do not matter. Later reads within the writing request also go to the
+ * primary or a caught-up replica.
+ */
+public class ConsistencyTokenFilter extends OncePerRequestFilter implements TransactionExecutionListener {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsistencyTokenFilter.class);
+
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param jdbcTemplate template over the transactional DataSource, so the clock is read on the
+     *                     committed transaction's connection instead of a second one from the pool
+     */
+    public ConsistencyTokenFilter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CURRENT.set(new RequestState(parseToken(request.getHeader(HEADER)), response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        RequestState state = CURRENT.get();
+        if (state == null || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        long committedBefore;
+        try {
+            // A heartbeat stamped with the same millisecond may have started before the commit
+            committedBefore = ReplicaRoutingDataSource.primaryTimeMs(jdbcTemplate) + 1;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the primary clock, reading from the primary for the rest of the request", e);
+            state.primaryOnly = true;
+            return;
+        }
+        state.requiredTimestamp = Math.max(state.requiredTimestamp, committedBefore);
+        if (!state.response.isCommitted()) {
+            state.response.setHeader(HEADER, Long.toString(state.requiredTimestamp));
+        }
+    }
+
+    /**
+     * Oldest primary time a replica must have reached to serve the current request, or 0.
+     */
+    static long requiredTimestamp() {
+        RequestState state = CURRENT.get();
+        if (state == null) {
+            return 0;
+        }
+        return state.primaryOnly ? Long.MAX_VALUE : state.requiredTimestamp;
+    }
+
+    private static long parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class RequestState {
+
+        private long requiredTimestamp;
+        private boolean primaryOnly;
+        private final HttpServletResponse response;
+
+        RequestState(long requiredTimestamp, HttpServletResponse response) {
+            this.requiredTimestamp = requiredTimestamp;
+            this.response = response;
+        }
+    }
+}
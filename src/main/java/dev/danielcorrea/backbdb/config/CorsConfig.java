@@ -1,8 +1,10 @@
 package dev.danielcorrea.backbdb.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -18,7 +20,7 @@ public class CorsConfig {
     private String frontendUrl;
 
     @Bean
-    public CorsFilter corsFilter() {
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
         
@@ -33,10 +35,19 @@ public class CorsConfig {
         
         // Allow all headers
         config.addAllowedHeader("*");
+
+        // Let the frontend read the read-your-writes token returned after writes
+        config.addExposedHeader(ConsistencyTokenFilter.HEADER);
+
+        // And how long to wait after a 429
+        config.addExposedHeader(HttpHeaders.RETRY_AFTER);
         
         // Apply CORS configuration to all endpoints
         source.registerCorsConfiguration("/**", config);
         
-        return new CorsFilter(source);
+        // Run before the rate limit filter so throttled responses also carry the CORS headers
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(RateLimitFilter.ORDER - 1);
+        return registration;
     }
 }
@@ -0,0 +1,79 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.danielcorrea.backbdb.service.CacheInvalidationLog;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the two periodic jobs whose timing other features rely on on platform threads of their own.
+ *
+ * The replica heartbeat bounds how stale a replica read can be ({@code datasource.replicas.max-lag-ms})
+ * and the cache invalidation poll bounds how long another instance serves a changed entry
+ * ({@code cache.invalidation.settle-ms}). On the shared {@code @Scheduled} pool they would wait
+ * behind long jobs such as the analytics snapshot load, the rollup catch-up or the archivers,
+ * so here each has a thread that nothing else uses.
+ */
+@Component
+public class FreshnessScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FreshnessScheduler.class);
+
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final CacheInvalidationLog cacheInvalidationLog;
+    private final ScheduledExecutorService executor =
+        Executors.newScheduledThreadPool(2, Thread.ofPlatform().name("freshness-", 1).daemon().factory());
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    @Value("${datasource.replicas.heartbeat-interval-ms:500}")
+    private long heartbeatIntervalMs;
+
+    @Value("${cache.invalidation.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    public FreshnessScheduler(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                              CacheInvalidationLog cacheInvalidationLog) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.cacheInvalidationLog = cacheInvalidationLog;
+    }
+
+    /**
+     * Starts both jobs once the context is refreshed, when {@code @Scheduled} jobs start too.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        replicaRoutingDataSource.ifAvailable(dataSource ->
+            scheduleWithFixedDelay("Replication heartbeat", dataSource::heartbeat, heartbeatIntervalMs));
+        scheduleWithFixedDelay("Cache invalidation poll", cacheInvalidationLog::poll, pollIntervalMs);
+    }
+
+    private void scheduleWithFixedDelay(String name, Runnable task, long delayMs) {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // An exception would cancel every later run
+                logger.error("{} failed", name, e);
+            }
+        }, delayMs, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
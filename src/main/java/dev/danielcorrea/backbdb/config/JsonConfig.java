@@ -0,0 +1,44 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Response serialization.
+ *
+ * The request DTO serializers of {@link RequestDtoModule} are registered with the JSON and CBOR
+ * mappers Spring Boot configures (it adds every JacksonModule bean). JSON stays the default; internal
+ * clients can ask for the more compact binary encodings with
+ * {@code Accept: application/x-jackson-smile} or {@code Accept: application/cbor}, and send request
+ * bodies in them with the same Content-Type.
+ */
+@Configuration
+public class JsonConfig {
+
+    @Bean
+    public RequestDtoModule requestDtoModule() {
+        return new RequestDtoModule();
+    }
+
+    /**
+     * Replaces the Smile and CBOR converters Spring registers when the formats are on the classpath,
+     * which use unconfigured mappers, with ones that use the DTO serializers. Spring Boot has no Smile
+     * mapper of its own, so this one gets the same modules as the JSON mapper.
+     */
+    @Bean
+    public ServerHttpMessageConvertersCustomizer binaryMessageConverters(CBORMapper cborMapper,
+                                                                         ObjectProvider<JacksonModule> modules) {
+        SmileMapper smileMapper = SmileMapper.builder().addModules(modules.orderedStream().toList()).build();
+        return converters -> converters
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper))
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
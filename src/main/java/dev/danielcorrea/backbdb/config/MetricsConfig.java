@@ -0,0 +1,45 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Cardinality limits for the application's meters.
+ *
+ * Each tag that could grow with the code or the data is capped at {@code metrics.max-tag-values}
+ * distinct values; meters beyond the cap are dropped instead of registered. HTTP server metrics
+ * are capped the same way by {@code management.metrics.web.server.max-uri-tags}. As a last line
+ * of defence, no more than {@code metrics.max-meters} meters are registered in total.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Value("${metrics.max-tag-values:100}")
+    private int maxTagValues;
+
+    @Value("${metrics.max-meters:5000}")
+    private int maxMeters;
+
+    @Bean
+    public MeterFilter approvalServiceMethodLimit() {
+        return MeterFilter.maximumAllowableTags("approval.service", "method", maxTagValues, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter emailTemplateLimit() {
+        return MeterFilter.maximumAllowableTags("email.send", "template", maxTagValues, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter hibernateCacheRegionLimit() {
+        return MeterFilter.maximumAllowableTags("hibernate", "region", maxTagValues, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter meterCountLimit() {
+        return MeterFilter.maximumAllowableMetrics(maxMeters);
+    }
+}
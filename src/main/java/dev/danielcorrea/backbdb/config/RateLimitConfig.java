@@ -0,0 +1,33 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limits of the API, per route class. Disable with {@code rate-limit.enabled=false}, e.g. for
+ * load tests that drive the API from a single address.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Value("${rate-limit.reads.per-second:20}")
+    private double readsPerSecond;
+
+    @Value("${rate-limit.reads.burst:40}")
+    private int readBurst;
+
+    @Value("${rate-limit.writes.per-second:5}")
+    private double writesPerSecond;
+
+    @Value("${rate-limit.writes.burst:10}")
+    private int writeBurst;
+
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(new RateLimitFilter.Limit(readsPerSecond, readBurst),
+                new RateLimitFilter.Limit(writesPerSecond, writeBurst));
+    }
+}
@@ -0,0 +1,168 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.servlet.filter.OrderedFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-client, per-endpoint rate limiting of the {@code /api} routes.
+ *
+ * Every client gets a token bucket per endpoint: {@code burst} calls at once, refilled at
+ * {@code perSecond}, with separate limits for reads (GET, HEAD) and writes. The client is the user
+ * in the path of the per-user list endpoints and the remote address otherwise; behind a load
+ * balancer that is the client address Tomcat resolves from X-Forwarded-For
+ * ({@code server.forward-headers-strategy=native}), which is only trustworthy when the app can be
+ * reached through the balancer alone. The endpoint is the method and the path with numeric and
+ * UUID segments replaced by {id}. A throttled call is answered with 429 and a Retry-After header
+ * here, before the DispatcherServlet, so it never reaches a controller or borrows a database
+ * connection.
+ *
+ * A bucket is kept as the time at which it would be full again (the generic cell rate algorithm):
+ * a call is admitted while that time is at most {@code (burst - 1)} refill intervals ahead, and
+ * admitting it moves the time one interval forward with a compare-and-set, so there is no lock.
+ * Buckets that are full again are dropped by {@link #evictIdleBuckets()}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements OrderedFilter {
+
+    /**
+     * Early in the chain, before anything that does real work, but after the request wrappers.
+     */
+    public static final int ORDER = OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER + 10;
+
+    private static final Pattern USER_PATH = Pattern.compile("^/api/requests/(?:created|assigned)/(\\d+)");
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(?:\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private final Limit reads;
+    private final Limit writes;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Sustained rate and burst size of one bucket.
+     */
+    public record Limit(double perSecond, int burst) {
+
+        public Limit {
+            if (perSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Rate limits need a positive rate and a burst of at least 1");
+            }
+        }
+
+        long intervalNanos() {
+            return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+        }
+    }
+
+    public RateLimitFilter(Limit reads, Limit writes) {
+        this(reads, writes, System::nanoTime);
+    }
+
+    RateLimitFilter(Limit reads, Limit writes, LongSupplier nanoClock) {
+        this.reads = reads;
+        this.writes = writes;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights carry no credentials and cost nothing
+        return !request.getRequestURI().startsWith("/api/") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        Limit limit = "GET".equals(method) || "HEAD".equals(method) ? reads : writes;
+        String key = client(request, path) + ' ' + method + ' ' + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+
+        long now = nanoClock.getAsLong();
+        long waitNanos = buckets.computeIfAbsent(key, k -> new Bucket(limit, now)).tryAcquire(now);
+        if (waitNanos > 0) {
+            long second = TimeUnit.SECONDS.toNanos(1);
+            long retryAfterSeconds = (waitNanos + second - 1) / second;
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Drops the buckets that have refilled completely; a new one starts full, so this loses nothing.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private static String client(HttpServletRequest request, String path) {
+        Matcher user = USER_PATH.matcher(path);
+        return user.find() ? "user:" + user.group(1) : "addr:" + request.getRemoteAddr();
+    }
+
+    static final class Bucket {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        /** Time at which the bucket is full again; calls are admitted while it is within the tolerance. */
+        private final AtomicLong fullAt;
+
+        Bucket(Limit limit, long now) {
+            this.intervalNanos = limit.intervalNanos();
+            this.toleranceNanos = (limit.burst() - 1) * intervalNanos;
+            this.fullAt = new AtomicLong(now);
+        }
+
+        /**
+         * Takes a token if there is one.
+         *
+         * @return 0 when the call is admitted, otherwise the nanoseconds until a token is available
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long base = Math.max(current, now);
+                long waitNanos = base - now - toleranceNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return fullAt.get() <= now;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Read-only connections, spread round-robin over the replicas that are caught up.
+ *
+ * Replication progress is measured with a heartbeat: every {@code datasource.replicas.heartbeat-interval-ms}
+ * the primary's replication_heartbeat row is set to the primary's own clock, and each replica is
+ * asked which heartbeat it has applied. A replica that has applied heartbeat H has every transaction
+ * that committed on the primary before H. Heartbeats, lag and consistency tokens are all primary
+ * time ({@link #primaryTimeMs(JdbcTemplate)}), so application nodes with skewed clocks agree on them. A replica
+ * is used only when it was at most {@code datasource.replicas.max-lag-ms} behind the primary at the
+ * last heartbeat, counting the time since, and its heartbeat is not older than the caller's
+ * consistency token (see {@link ConsistencyTokenFilter}). Otherwise, or when no replica is
+ * reachable, the connection comes from the primary, which is also the case until the first heartbeat.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY_TIME_MS = "ROUND(UNIX_TIMESTAMP(NOW(3)) * 1000)";
+
+    private final DataSource primary;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<String> replicaNames, List<DataSource> replicaDataSources,
+                                    long maxLagMs) {
+        this.primary = primary;
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicas.add(new Replica(replicaNames.get(i), replicaDataSources.get(i)));
+        }
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = choose(ConsistencyTokenFilter.requiredTimestamp(), System.nanoTime());
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                logger.warn("Replica {} is unreachable, reading from the primary", replica.name, e);
+                replica.update(-1, -1, System.nanoTime());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Replicas use the configured credentials, so other credentials can only be served by the primary
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Current time on the primary's clock, in epoch milliseconds, read through the given template.
+     */
+    static long primaryTimeMs(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT " + PRIMARY_TIME_MS, Long.class);
+    }
+
+    /**
+     * Advances the primary heartbeat and records how far each replica has caught up.
+     * Run by {@link FreshnessScheduler}.
+     */
+    public void heartbeat() {
+        long primaryNowMs;
+        try {
+            primaryJdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, " + PRIMARY_TIME_MS + ") "
+                + "ON DUPLICATE KEY UPDATE beat_at_ms = GREATEST(beat_at_ms, VALUES(beat_at_ms))");
+            primaryNowMs = primaryTimeMs(primaryJdbcTemplate);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write the replication heartbeat", e);
+            primaryNowMs = -1;
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            if (primaryNowMs < 0) {
+                // Lag cannot be measured without the primary's clock
+                updateReplica(i, null, primaryNowMs);
+                continue;
+            }
+            Long caughtUpTo;
+            try {
+                List<Long> beats = replicas.get(i).jdbcTemplate.queryForList(
+                    "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1", Long.class);
+                caughtUpTo = beats.isEmpty() ? null : beats.get(0);
+            } catch (RuntimeException e) {
+                caughtUpTo = null;
+            }
+            updateReplica(i, caughtUpTo, primaryNowMs);
+        }
+    }
+
+    /**
+     * Records a replica's applied heartbeat, or null when it could not be read, against the
+     * primary time it was compared with.
+     */
+    void updateReplica(int index, Long caughtUpToMs, long primaryNowMs) {
+        Replica replica = replicas.get(index);
+        long now = System.nanoTime();
+        boolean wasUsable = replica.isUsable(0, now, maxLagMs);
+        replica.update(caughtUpToMs != null ? caughtUpToMs : -1, caughtUpToMs != null ? primaryNowMs - caughtUpToMs : -1, now);
+        boolean usable = replica.isUsable(0, now, maxLagMs);
+        if (wasUsable != usable) {
+            if (usable) {
+                logger.info("Replica {} caught up, routing reads to it", replica.name);
+            } else {
+                logger.warn("Replica {} is {} ms behind or unreachable, routing its reads to the primary",
+                    replica.name, caughtUpToMs != null ? primaryNowMs - caughtUpToMs : "unknown");
+            }
+        }
+    }
+
+    /**
+     * Next usable replica in round-robin order, or null to use the primary.
+     *
+     * @param requiredTimestamp primary time the replica must have reached (consistency token)
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    Replica choose(long requiredTimestamp, long nowNanos) {
+        int count = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (replica.isUsable(requiredTimestamp, nowNanos, maxLagMs)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    static final class Replica {
+
+        final String name;
+        final DataSource dataSource;
+        final JdbcTemplate jdbcTemplate;
+        private volatile Progress progress = new Progress(-1, -1, 0);
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.jdbcTemplate.setQueryTimeout(1);
+        }
+
+        void update(long caughtUpToMs, long lagMs, long measuredAtNanos) {
+            progress = new Progress(caughtUpToMs, lagMs, measuredAtNanos);
+        }
+
+        /**
+         * The lag measured at the last heartbeat plus the time since is an upper bound on the
+         * replica's current lag, so a replica that stopped applying is dropped without a new heartbeat.
+         */
+        boolean isUsable(long requiredTimestamp, long nowNanos, long maxLagMs) {
+            Progress current = progress;
+            if (current.caughtUpToMs < 0) {
+                return false;
+            }
+            long lagMs = current.lagMs + TimeUnit.NANOSECONDS.toMillis(nowNanos - current.measuredAtNanos);
+            return lagMs <= maxLagMs && current.caughtUpToMs >= requiredTimestamp;
+        }
+    }
+
+    /**
+     * Primary time of the last heartbeat the replica has applied (-1 if unknown), how far that was
+     * behind the primary's clock, and when that was measured.
+     */
+    private record Progress(long caughtUpToMs, long lagMs, long measuredAtNanos) {
+    }
+}
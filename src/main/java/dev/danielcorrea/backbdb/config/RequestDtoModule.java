@@ -0,0 +1,192 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.StreamWriteCapability;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Hand-written serializers for the DTOs of the request list and detail endpoints, the largest
+ * and most frequent responses.
+ *
+ * Field names are {@link SerializedString}s, so their quoted and encoded form is computed once
+ * instead of per value, and there is no bean introspection per property. UUIDs and timestamps are
+ * formatted into a char buffer rather than through {@code toString()} or a {@link DateTimeFormatter}.
+ * The output is identical to the default Jackson serialization in JSON, Smile and CBOR: timestamps
+ * as ISO-8601 strings, UUIDs as strings, or as 16 raw bytes in formats with native binary.
+ */
+public class RequestDtoModule extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString TYPE_NAME = new SerializedString("typeName");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString RELATED_USER_NAME = new SerializedString("relatedUserName");
+    private static final SerializableString COMMENTS = new SerializedString("comments");
+    private static final SerializableString LAST_ACTION_AT = new SerializedString("lastActionAt");
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public RequestDtoModule() {
+        super("RequestDtoModule");
+        addSerializer(RequestSummaryDTO.class, new RequestSummarySerializer());
+        addSerializer(RequestDetailsDTO.class, new RequestDetailsSerializer());
+    }
+
+    /**
+     * Writes a {@link RequestSummaryDTO} in record component order.
+     */
+    public static class RequestSummarySerializer extends ValueSerializer<RequestSummaryDTO> {
+
+        @Override
+        public void serialize(RequestSummaryDTO value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ID);
+            writeUuid(value.id(), gen, ctxt);
+            gen.writeName(TITLE);
+            writeString(value.title(), gen);
+            gen.writeName(STATUS);
+            writeString(value.status(), gen);
+            gen.writeName(TYPE_NAME);
+            writeString(value.typeName(), gen);
+            gen.writeName(CREATED_AT);
+            writeDateTime(value.createdAt(), gen);
+            gen.writeName(RELATED_USER_NAME);
+            writeString(value.relatedUserName(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a {@link RequestDetailsDTO} in field declaration order.
+     */
+    public static class RequestDetailsSerializer extends ValueSerializer<RequestDetailsDTO> {
+
+        @Override
+        public void serialize(RequestDetailsDTO value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ID);
+            writeUuid(value.getId(), gen, ctxt);
+            gen.writeName(TITLE);
+            writeString(value.getTitle(), gen);
+            gen.writeName(DESCRIPTION);
+            writeString(value.getDescription(), gen);
+            gen.writeName(STATUS);
+            writeString(value.getStatus(), gen);
+            gen.writeName(TYPE_NAME);
+            writeString(value.getTypeName(), gen);
+            gen.writeName(CREATED_AT);
+            writeDateTime(value.getCreatedAt(), gen);
+            gen.writeName(RELATED_USER_NAME);
+            writeString(value.getRelatedUserName(), gen);
+            gen.writeName(COMMENTS);
+            writeString(value.getComments(), gen);
+            gen.writeName(LAST_ACTION_AT);
+            writeDateTime(value.getLastActionAt(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(String value, JsonGenerator gen) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Same as Jackson's UUID serializer: raw bytes where the format supports them, else the
+     * canonical 36 character form.
+     */
+    static void writeUuid(UUID value, JsonGenerator gen, SerializationContext ctxt) {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (ctxt.isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)) {
+            gen.writeBinary(UuidBinary.toBytes(value));
+            return;
+        }
+        char[] buffer = new char[36];
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        gen.writeString(buffer, 0, 36);
+    }
+
+    /**
+     * Same as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: seconds always present, the fraction
+     * only when non-zero and without trailing zeros.
+     */
+    static void writeDateTime(LocalDateTime value, JsonGenerator gen) {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[29];
+        digits(year, buffer, 0, 4);
+        buffer[4] = '-';
+        digits(value.getMonthValue(), buffer, 5, 2);
+        buffer[7] = '-';
+        digits(value.getDayOfMonth(), buffer, 8, 2);
+        buffer[10] = 'T';
+        digits(value.getHour(), buffer, 11, 2);
+        buffer[13] = ':';
+        digits(value.getMinute(), buffer, 14, 2);
+        buffer[16] = ':';
+        digits(value.getSecond(), buffer, 17, 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            int fractionDigits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                fractionDigits--;
+            }
+            buffer[19] = '.';
+            digits(nano, buffer, 20, fractionDigits);
+            length = 20 + fractionDigits;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void hex(long value, char[] buffer, int offset, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static void digits(int value, char[] buffer, int offset, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.danielcorrea.backbdb.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Sampled request and SQL logging (see {@link RequestLogFilter}). Disable with
+ * {@code request-log.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "request-log.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLogConfig {
+
+    @Value("${request-log.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${request-log.slow-ms:1000}")
+    private long slowMs;
+
+    @Value("${request-log.max-statements:50}")
+    private int maxStatements;
+
+    @Bean
+    public RequestLogFilter requestLogFilter() {
+        return new RequestLogFilter(sampleRate, slowMs, maxStatements);
+    }
+
+    /**
+     * Registers the filter as Hibernate's statement inspector. An inspector that is already configured
+     * (for example through {@code spring.jpa.properties}) keeps running first, and the filter records
+     * the SQL it returns.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestLogStatementInspector(RequestLogFilter requestLogFilter) {
+        return properties -> {
+            StatementInspector configured = configuredInspector(properties.get(AvailableSettings.STATEMENT_INSPECTOR));
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, configured == null
+                    ? requestLogFilter
+                    : (StatementInspector) sql -> requestLogFilter.inspect(configured.inspect(sql)));
+        };
+    }
+
+    /**
+     * Resolves the setting the way Hibernate does: an instance, a class or a class name.
+     */
+    static StatementInspector configuredInspector(Object setting) {
+        if (setting == null || setting instanceof String name && name.isBlank()) {
+            return null;
+        }
+        if (setting instanceof StatementInspector inspector) {
+            return inspector;
+        }
+        try {
+            Class<?> type = setting instanceof Class<?> c
+                    ? c
+                    : ClassUtils.forName(setting.toString(), RequestLogConfig.class.getClassLoader());
+            return (StatementInspector) BeanUtils.instantiateClass(type);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Statement inspector class not found: " + setting, e);
+        }
+    }
+}
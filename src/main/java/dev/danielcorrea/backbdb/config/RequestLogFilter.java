@@ -0,0 +1,141 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.boot.servlet.filter.OrderedFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * One log line per {@code /api} request, with the SQL Hibernate ran for it.
+ *
+ * Registered as Hibernate's statement inspector, the filter collects the statements prepared on the
+ * request thread (at most {@code maxStatements}, the rest are only counted) and decides at the end
+ * of the request whether to log it: server errors are logged at ERROR and requests slower than
+ * {@code slowMs} at WARN, always; every other request only with probability {@code sampleRate}, at
+ * INFO. The statements of unlogged requests are dropped without being formatted, which replaces
+ * {@code spring.jpa.show-sql}. Method, path, status, duration and statement count are key-value pairs
+ * of the event, printed by the console pattern and carried as fields by structured (JSON) output;
+ * the message itself is only the SQL.
+ */
+public class RequestLogFilter extends OncePerRequestFilter implements OrderedFilter, StatementInspector {
+
+    /**
+     * Before the rate limiter and CORS, so throttled and rejected calls are timed and logged too.
+     */
+    public static final int ORDER = RateLimitFilter.ORDER - 5;
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogFilter.class);
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private final double sampleRate;
+    private final long slowMs;
+    private final int maxStatements;
+    private final DoubleSupplier random;
+
+    public RequestLogFilter(double sampleRate, long slowMs, int maxStatements) {
+        this(sampleRate, slowMs, maxStatements, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    RequestLogFilter(double sampleRate, long slowMs, int maxStatements, DoubleSupplier random) {
+        this.sampleRate = sampleRate;
+        this.slowMs = slowMs;
+        this.maxStatements = maxStatements;
+        this.random = random;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Trace trace = new Trace();
+        CURRENT.set(trace);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            CURRENT.remove();
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            log(request, status, durationMs, trace, failure);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Trace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(sql, maxStatements);
+        }
+        return sql;
+    }
+
+    private void log(HttpServletRequest request, int status, long durationMs, Trace trace, Throwable failure) {
+        LoggingEventBuilder event;
+        if (status >= 500) {
+            event = logger.atError().setCause(failure);
+        } else if (durationMs >= slowMs) {
+            event = logger.atWarn();
+        } else if (sampleRate > 0 && random.getAsDouble() < sampleRate) {
+            event = logger.atInfo();
+        } else {
+            return;
+        }
+        StringBuilder message = new StringBuilder(trace.count == 0 ? "No SQL" : "SQL:");
+        for (String sql : trace.statements) {
+            message.append("\n  ").append(sql);
+        }
+        if (trace.count > trace.statements.size()) {
+            message.append("\n  ... ").append(trace.count - trace.statements.size()).append(" more");
+        }
+        event.addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", durationMs)
+                .addKeyValue("sqlCount", trace.count)
+                .log(message.toString());
+    }
+
+    /**
+     * SQL of the current request.
+     */
+    private static final class Trace {
+
+        private final List<String> statements = new ArrayList<>();
+        private int count;
+
+        void add(String sql, int max) {
+            count++;
+            if (statements.size() < max) {
+                statements.add(sql);
+            }
+        }
+    }
+}
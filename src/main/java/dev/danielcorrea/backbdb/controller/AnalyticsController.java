@@ -0,0 +1,42 @@
+package dev.danielcorrea.backbdb.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.danielcorrea.backbdb.dto.AnalyticsQueryDTO;
+import dev.danielcorrea.backbdb.dto.AnalyticsResultDTO;
+import dev.danielcorrea.backbdb.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for ad hoc request analytics.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Filters and groups all requests from the in-memory analytics snapshot.
+     * 
+     * @param query Filters and group-by dimensions
+     * @return AnalyticsResultDTO with one entry per group, 400 for unknown dimensions or statuses,
+     *         or 503 when the snapshot is disabled on this instance
+     */
+    @PostMapping("/aggregate")
+    public ResponseEntity<AnalyticsResultDTO> aggregate(@RequestBody AnalyticsQueryDTO query) {
+        try {
+            return ResponseEntity.ok(analyticsService.aggregate(query));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
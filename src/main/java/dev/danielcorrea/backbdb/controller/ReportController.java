@@ -0,0 +1,132 @@
+package dev.danielcorrea.backbdb.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import dev.danielcorrea.backbdb.dto.CreateReportDTO;
+import dev.danielcorrea.backbdb.dto.ReportJobDTO;
+import dev.danielcorrea.backbdb.service.ReportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for asynchronous request reports.
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    // Tomcat's sendfile support: the connector copies the file with FileChannel.transferTo
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ReportJobService reportJobService;
+
+    /**
+     * Queues a report of every request created in the given date range.
+     * 
+     * @param dto The date range (from inclusive, to exclusive)
+     * @return ResponseEntity with the queued job and HTTP 202 status
+     */
+    @PostMapping
+    public ResponseEntity<ReportJobDTO> createReport(@Valid @RequestBody CreateReportDTO dto) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobService.submit(dto.getFrom(), dto.getTo()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            // Report queue is full
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * Fetches the status and progress of a report job.
+     * 
+     * @param id The ID of the report job
+     * @return ResponseEntity with ReportJobDTO
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ReportJobDTO> getReport(@PathVariable("id") UUID id) {
+        try {
+            return ResponseEntity.ok(reportJobService.getJob(id));
+        } catch (RuntimeException e) {
+            // Return 404 if job not found
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Downloads a completed report as a gzip-compressed CSV file.
+     * Tomcat sends the file with sendfile when the connector supports it; otherwise it is
+     * copied with FileChannel.transferTo into the response.
+     * 
+     * @param id The ID of the report job
+     * @return The report file, 404 if the job is unknown, 409 if it has not completed
+     */
+    @GetMapping("/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadReport(@PathVariable("id") UUID id,
+                                                                HttpServletRequest request) throws IOException {
+        Path file;
+        try {
+            file = reportJobService.getReportFile(id);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.internalServerError().build();
+        }
+
+        long size = Files.size(file);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(size)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return response.build();
+        }
+
+        return response.body(outputStream -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        });
+    }
+}
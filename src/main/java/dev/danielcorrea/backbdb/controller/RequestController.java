@@ -11,10 +11,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.danielcorrea.backbdb.config.BulkheadFullException;
 import dev.danielcorrea.backbdb.dto.CreateRequestDTO;
 import dev.danielcorrea.backbdb.dto.RequestActionDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryPageDTO;
 import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
 import dev.danielcorrea.backbdb.service.ApprovalService;
 import jakarta.validation.Valid;
@@ -22,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * REST Controller for approval request operations.
+ * The service's database reads and writes run in separate bulkheads; their 503 rejections are
+ * passed through unchanged.
  */
 @RestController
 @RequestMapping("/api/requests")
@@ -43,13 +48,17 @@ public class RequestController {
      * Shows requests where the user is the REQUESTER.
      * 
      * @param userId The ID of the user who created the requests
+     * @param includeArchived Whether to include archived closed requests
      * @return List of RequestSummaryDTO with approver names
      */
     @GetMapping("/created/{userId}")
     public ResponseEntity<List<RequestSummaryDTO>> getRequestsCreatedByUser(
-            @PathVariable("userId") Long userId) {
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "includeArchived", defaultValue = "false") boolean includeArchived) {
         
-        List<RequestSummaryDTO> requests = approvalService.getRequestsCreatedByUser(userId);
+        List<RequestSummaryDTO> requests = includeArchived
+            ? approvalService.getRequestsCreatedByUserIncludingArchived(userId)
+            : approvalService.getRequestsCreatedByUser(userId);
         return ResponseEntity.ok(requests);
     }
 
@@ -58,13 +67,17 @@ public class RequestController {
      * Shows requests where the user is the APPROVER.
      * 
      * @param userId The ID of the user assigned to approve
+     * @param includeArchived Whether to include archived closed requests
      * @return List of RequestSummaryDTO with requester names
      */
     @GetMapping("/assigned/{userId}")
     public ResponseEntity<List<RequestSummaryDTO>> getRequestsAssignedToUser(
-            @PathVariable("userId") Long userId) {
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "includeArchived", defaultValue = "false") boolean includeArchived) {
         
-        List<RequestSummaryDTO> requests = approvalService.getRequestsAssignedToUser(userId);
+        List<RequestSummaryDTO> requests = includeArchived
+            ? approvalService.getRequestsAssignedToUserIncludingArchived(userId)
+            : approvalService.getRequestsAssignedToUser(userId);
         return ResponseEntity.ok(requests);
     }
 
@@ -81,6 +94,8 @@ public class RequestController {
         try {
             RequestSummaryDTO createdRequest = approvalService.createRequest(dto);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdRequest);
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (RuntimeException e) {
             // Return 404 if user or request type not found
             return ResponseEntity.notFound().build();
@@ -106,6 +121,8 @@ public class RequestController {
                 actionDTO.getApproverId()
             );
             return ResponseEntity.ok(approvedRequest);
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (RuntimeException e) {
             String message = e.getMessage();
             
@@ -141,6 +158,8 @@ public class RequestController {
                 actionDTO.getApproverId()
             );
             return ResponseEntity.ok(rejectedRequest);
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (RuntimeException e) {
             String message = e.getMessage();
             
@@ -171,6 +190,42 @@ public class RequestController {
             dev.danielcorrea.backbdb.dto.RequestDetailsDTO requestDetails = 
                 approvalService.getRequestDetails(id);
             return ResponseEntity.ok(requestDetails);
+        } catch (BulkheadFullException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Return 404 if request not found
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Fetches the approval timeline of a request, newest first, one page at a time.
+     * 
+     * @param id The ID of the request
+     * @param cursor The nextCursor of the previous page; omit for the first page
+     * @param limit Page size, between 1 and 100
+     * @return ResponseEntity with RequestHistoryPageDTO
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<RequestHistoryPageDTO> getRequestHistory(
+            @PathVariable("id") UUID id,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(approvalService.getRequestHistory(id, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (RuntimeException e) {
             // Return 404 if request not found
             if (e.getMessage().contains("not found")) {
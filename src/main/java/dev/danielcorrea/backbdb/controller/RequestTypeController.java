@@ -2,6 +2,8 @@ package dev.danielcorrea.backbdb.controller;
 
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RequestTypeController {
 
+    private static final Logger logger = LoggerFactory.getLogger(RequestTypeController.class);
+
     private final RequestTypeService requestTypeService;
 
     /**
@@ -33,7 +37,7 @@ public class RequestTypeController {
             List<RequestTypeDTO> requestTypes = requestTypeService.getAllRequestTypes();
             return ResponseEntity.ok(requestTypes);
         } catch (Exception e) {
-            // Log the error (you can use a logger here)
+            logger.error("Failed to load request types", e);
             // Return 500 Internal Server Error if something goes wrong
             return ResponseEntity.internalServerError().build();
         }
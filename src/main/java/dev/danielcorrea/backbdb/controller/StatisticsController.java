@@ -0,0 +1,95 @@
+package dev.danielcorrea.backbdb.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.danielcorrea.backbdb.dto.DecisionLatencyDTO;
+import dev.danielcorrea.backbdb.dto.StatisticsDTO;
+import dev.danielcorrea.backbdb.dto.VolumeSeriesDTO;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.service.DecisionLatencyService;
+import dev.danielcorrea.backbdb.service.RequestVolumeService;
+import dev.danielcorrea.backbdb.service.StatisticsService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for the approval dashboard statistics.
+ */
+@RestController
+@RequestMapping("/api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+    private final DecisionLatencyService decisionLatencyService;
+    private final RequestVolumeService requestVolumeService;
+
+    /**
+     * Retrieves live request totals by status, request type and approver.
+     * Served from memory, so dashboards can poll it frequently.
+     * 
+     * @return StatisticsDTO with the current totals
+     */
+    @GetMapping
+    public ResponseEntity<StatisticsDTO> getStatistics() {
+        try {
+            return ResponseEntity.ok(statisticsService.getStatistics());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Retrieves time-to-decision percentiles overall, per request type and per approver.
+     * 
+     * @param view "window" for the last completed window, "rolling" for the rolling period
+     * @return DecisionLatencyDTO with the percentiles, or 400 for an unknown view
+     */
+    @GetMapping("/decision-latency")
+    public ResponseEntity<DecisionLatencyDTO> getDecisionLatency(
+            @RequestParam(name = "view", defaultValue = "rolling") String view) {
+        
+        DecisionLatencyService.View selected;
+        try {
+            selected = DecisionLatencyService.View.valueOf(view.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(decisionLatencyService.getDecisionLatency(selected));
+    }
+
+    /**
+     * Retrieves request creation and decision counts over time from the rollup tables.
+     * 
+     * @param from Start of the period (ISO date-time)
+     * @param to End of the period, exclusive (ISO date-time)
+     * @param granularity "minute" (up to 7 days) or "hour" (up to 400 days)
+     * @param typeId Optional request type filter
+     * @param status Optional status filter; PENDING counts created requests
+     * @return VolumeSeriesDTO with one point per bucket and status, or 400 for invalid parameters
+     */
+    @GetMapping("/volume")
+    public ResponseEntity<VolumeSeriesDTO> getVolume(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "granularity", defaultValue = "hour") String granularity,
+            @RequestParam(name = "typeId", required = false) Integer typeId,
+            @RequestParam(name = "status", required = false) String status) {
+        
+        try {
+            return ResponseEntity.ok(requestVolumeService.getVolume(
+                RequestVolumeService.Granularity.valueOf(granularity.toUpperCase()),
+                from, to, typeId,
+                status != null ? RequestStatus.valueOf(status.toUpperCase()) : null));
+        } catch (IllegalArgumentException e) {
+            // Unknown granularity or status, or a range that is empty or too long
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
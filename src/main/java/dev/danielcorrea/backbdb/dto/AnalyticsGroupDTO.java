@@ -0,0 +1,14 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.util.Map;
+
+/**
+ * One group of an analytics result: its dimension values, the number of matching requests
+ * and the average seconds from creation to decision of the decided ones (null if none).
+ */
+public record AnalyticsGroupDTO(
+    Map<String, String> key,
+    long count,
+    Double avgDecisionSeconds
+) {
+}
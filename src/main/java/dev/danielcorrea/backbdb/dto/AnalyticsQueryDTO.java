@@ -0,0 +1,33 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an analytics aggregation over all requests.
+ * Empty or missing filters match everything; createdTo is exclusive.
+ * groupBy takes STATUS, TYPE, REQUESTER, APPROVER, CREATED_DAY, CREATED_WEEK or CREATED_MONTH.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsQueryDTO {
+
+    private List<String> statuses;
+
+    private List<Integer> typeIds;
+
+    private List<Long> requesterIds;
+
+    private List<Long> approverIds;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+
+    private List<String> groupBy;
+}
@@ -0,0 +1,19 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of an analytics aggregation, largest groups first.
+ * truncated is set when more groups matched than are returned.
+ */
+public record AnalyticsResultDTO(
+    List<String> groupBy,
+    List<AnalyticsGroupDTO> groups,
+    boolean truncated,
+    long matchedRequests,
+    long scannedRequests,
+    LocalDateTime snapshotRefreshedAt,
+    long elapsedMicros
+) {
+}
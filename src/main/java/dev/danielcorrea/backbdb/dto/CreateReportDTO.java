@@ -0,0 +1,24 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for requesting a report of the requests created between two dates.
+ * from is inclusive and to is exclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReportDTO {
+
+    @NotNull(message = "From date is required")
+    private LocalDate from;
+
+    @NotNull(message = "To date is required")
+    private LocalDate to;
+}
@@ -0,0 +1,18 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Time-to-decision percentiles over the last window or the rolling period.
+ * periodSeconds is the length of the period covered; updatedAt is when it ended.
+ */
+public record DecisionLatencyDTO(
+    String view,
+    long periodSeconds,
+    LatencyPercentilesDTO overall,
+    List<LatencyPercentilesDTO> byType,
+    List<LatencyPercentilesDTO> byApprover,
+    LocalDateTime updatedAt
+) {
+}
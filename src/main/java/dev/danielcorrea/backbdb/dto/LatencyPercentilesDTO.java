@@ -0,0 +1,16 @@
+package dev.danielcorrea.backbdb.dto;
+
+/**
+ * Time-to-decision percentiles, in seconds, for one approver, one request type or all requests.
+ * id is null for the overall and "Other" entries.
+ */
+public record LatencyPercentilesDTO(
+    Long id,
+    String name,
+    long count,
+    long p50Seconds,
+    long p90Seconds,
+    long p99Seconds,
+    long maxSeconds
+) {
+}
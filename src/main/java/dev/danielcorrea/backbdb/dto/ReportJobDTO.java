@@ -0,0 +1,23 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State and progress of a report job.
+ * fileBytes is set once the report has completed; error is set if it failed.
+ */
+public record ReportJobDTO(
+    UUID id,
+    String status,
+    LocalDate from,
+    LocalDate to,
+    long rowsWritten,
+    long totalRows,
+    Long fileBytes,
+    String error,
+    LocalDateTime submittedAt,
+    LocalDateTime completedAt
+) {
+}
@@ -0,0 +1,16 @@
+package dev.danielcorrea.backbdb.dto;
+
+import dev.danielcorrea.backbdb.model.RequestStatus;
+
+/**
+ * Number of requests with a given type, status and approver.
+ */
+public record RequestCountDTO(
+    Integer typeId,
+    String typeName,
+    RequestStatus status,
+    Long approverId,
+    String approverName,
+    Long count
+) {
+}
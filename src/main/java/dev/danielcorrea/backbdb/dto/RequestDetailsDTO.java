@@ -24,4 +24,5 @@ public class RequestDetailsDTO {
     private LocalDateTime createdAt;
     private String relatedUserName;
     private String comments;
+    private LocalDateTime lastActionAt;
 }
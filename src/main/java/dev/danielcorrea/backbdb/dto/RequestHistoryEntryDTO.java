@@ -0,0 +1,16 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a request's approval timeline.
+ */
+public record RequestHistoryEntryDTO(
+    Long id,
+    String actionTaken,
+    String comments,
+    LocalDateTime actionDate,
+    Long actorId,
+    String actorName
+) {
+}
@@ -0,0 +1,13 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.util.List;
+
+/**
+ * A page of a request's approval timeline, newest first.
+ * Pass nextCursor back to fetch the following page; it is null on the last page.
+ */
+public record RequestHistoryPageDTO(
+    List<RequestHistoryEntryDTO> entries,
+    String nextCursor
+) {
+}
@@ -0,0 +1,14 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.util.Map;
+
+/**
+ * Request totals for one request type or one approver, broken down by status.
+ */
+public record StatisticsBucketDTO(
+    Long id,
+    String name,
+    long total,
+    Map<String, Long> byStatus
+) {
+}
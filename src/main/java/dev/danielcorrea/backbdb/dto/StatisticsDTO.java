@@ -0,0 +1,18 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live request totals for the approval dashboard.
+ * reconciledAt is when the counters were last checked against the database.
+ */
+public record StatisticsDTO(
+    long total,
+    Map<String, Long> byStatus,
+    List<StatisticsBucketDTO> byType,
+    List<StatisticsBucketDTO> byApprover,
+    LocalDateTime reconciledAt
+) {
+}
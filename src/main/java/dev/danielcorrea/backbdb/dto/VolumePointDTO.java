@@ -0,0 +1,13 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of requests that entered a status during one bucket.
+ */
+public record VolumePointDTO(
+    LocalDateTime bucketStart,
+    String status,
+    long count
+) {
+}
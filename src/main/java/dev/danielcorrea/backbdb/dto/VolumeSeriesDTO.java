@@ -0,0 +1,15 @@
+package dev.danielcorrea.backbdb.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request volume time series. Buckets without requests are omitted.
+ */
+public record VolumeSeriesDTO(
+    String granularity,
+    LocalDateTime from,
+    LocalDateTime to,
+    List<VolumePointDTO> points
+) {
+}
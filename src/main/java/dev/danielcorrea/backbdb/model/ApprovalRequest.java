@@ -26,6 +26,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// Indexes are defined by the db/migration scripts
 @Table(name = "requests")
 @Data
 @NoArgsConstructor
@@ -55,6 +56,12 @@ public class ApprovalRequest {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Denormalized from the latest approval_history entry, set at decision time
+    @Column(columnDefinition = "TEXT")
+    private String latestComment;
+
+    private LocalDateTime lastActionAt;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "requester_id", nullable = false)
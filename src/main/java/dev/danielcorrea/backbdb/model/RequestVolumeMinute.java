@@ -0,0 +1,27 @@
+package dev.danielcorrea.backbdb.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of requests that entered a status during one minute, per request type.
+ * PENDING counts created requests. Maintained by RequestVolumeService.
+ */
+@Entity
+@Table(name = "request_volume_minute")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestVolumeMinute {
+
+    @EmbeddedId
+    private RequestVolumeKey key;
+
+    @Column(nullable = false)
+    private long requestCount;
+}
@@ -0,0 +1,36 @@
+package dev.danielcorrea.backbdb.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How far a rollup job has read its source table.
+ * Sources ordered by id use lastId; sources ordered by time use lastTime and lastKey.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupWatermark {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private Long lastId;
+
+    private LocalDateTime lastTime;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private byte[] lastKey;
+}
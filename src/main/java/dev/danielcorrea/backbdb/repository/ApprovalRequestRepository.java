@@ -1,11 +1,15 @@
 package dev.danielcorrea.backbdb.repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import dev.danielcorrea.backbdb.dto.RequestCountDTO;
 import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.RequestStatus;
 import dev.danielcorrea.backbdb.model.User;
@@ -30,10 +34,24 @@ public interface ApprovalRequestRepository extends JpaRepository<ApprovalRequest
     
     // Count requests by status
     long countByStatus(RequestStatus status);
-    
-    // Find all requests created by a specific user (for "My Requests" tab)
+
+    // Count requests grouped by type, status and approver (seeds the in-memory statistics)
+    @Query("""
+        SELECT new dev.danielcorrea.backbdb.dto.RequestCountDTO(t.id, t.name, r.status, a.id, a.fullName, COUNT(r))
+        FROM ApprovalRequest r JOIN r.type t LEFT JOIN r.approver a
+        GROUP BY t.id, t.name, r.status, a.id, a.fullName
+        """)
+    List<RequestCountDTO> countGroupedByTypeStatusAndApprover();
+    
+    // Find a request with its requester, approver and type fetched in the same query
+    @EntityGraph(attributePaths = {"requester", "approver", "type"})
+    Optional<ApprovalRequest> findDetailedById(UUID id);
+    
+    // Find all requests created by a specific user (for "My Requests" tab), with approver and type
+    @EntityGraph(attributePaths = {"approver", "type"})
     List<ApprovalRequest> findByRequester_IdOrderByCreatedAtDesc(Long requesterId);
     
-    // Find all requests assigned to a specific user for approval (for "My Inbox" tab)
+    // Find all requests assigned to a specific user for approval (for "My Inbox" tab), with requester and type
+    @EntityGraph(attributePaths = {"requester", "type"})
     List<ApprovalRequest> findByApprover_IdOrderByCreatedAtDesc(Long approverId);
 }
@@ -1,10 +1,16 @@
 package dev.danielcorrea.backbdb.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO;
 import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.RequestLog;
 import dev.danielcorrea.backbdb.model.User;
@@ -20,4 +26,29 @@ public interface RequestLogRepository extends JpaRepository<RequestLog, Long> {
     
     // Find all logs for a request ordered by action date
     List<RequestLog> findByRequestOrderByActionDateDesc(ApprovalRequest request);
+
+    // First page of a request's timeline with actor names, newest first
+    @Query("""
+        SELECT new dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO(
+            l.id, l.actionTaken, l.comments, l.actionDate, u.id, u.fullName)
+        FROM RequestLog l JOIN l.user u
+        WHERE l.request.id = :requestId
+        ORDER BY l.actionDate DESC, l.id DESC
+        """)
+    List<RequestHistoryEntryDTO> findHistoryPage(@Param("requestId") UUID requestId, Limit limit);
+
+    // Next page of a request's timeline, strictly older than the (actionDate, id) keyset cursor
+    @Query("""
+        SELECT new dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO(
+            l.id, l.actionTaken, l.comments, l.actionDate, u.id, u.fullName)
+        FROM RequestLog l JOIN l.user u
+        WHERE l.request.id = :requestId
+          AND (l.actionDate < :beforeDate OR (l.actionDate = :beforeDate AND l.id < :beforeId))
+        ORDER BY l.actionDate DESC, l.id DESC
+        """)
+    List<RequestHistoryEntryDTO> findHistoryPageBefore(
+        @Param("requestId") UUID requestId,
+        @Param("beforeDate") LocalDateTime beforeDate,
+        @Param("beforeId") Long beforeId,
+        Limit limit);
 }
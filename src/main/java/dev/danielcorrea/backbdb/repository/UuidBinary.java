@@ -0,0 +1,26 @@
+package dev.danielcorrea.backbdb.repository;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversions between {@link UUID} and the {@code binary(16)} columns Hibernate uses for UUID ids on MySQL.
+ * Needed by the plain JDBC code paths that bypass the entity mappings.
+ */
+public final class UuidBinary {
+
+    private UuidBinary() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
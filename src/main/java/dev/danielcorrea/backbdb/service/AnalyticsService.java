@@ -0,0 +1,433 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.dto.AnalyticsGroupDTO;
+import dev.danielcorrea.backbdb.dto.AnalyticsQueryDTO;
+import dev.danielcorrea.backbdb.dto.AnalyticsResultDTO;
+import dev.danielcorrea.backbdb.dto.RequestTypeDTO;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ad hoc filter and group-by aggregations over the {@link AnalyticsSnapshot}, without touching
+ * the database.
+ *
+ * Filters are turned into lookup tables indexed by dictionary code, and each row's group is a
+ * mixed-radix number built from its dimension codes, so the scan is a tight loop over primitive
+ * arrays. The rows are split across a dedicated fork-join pool; each leaf accumulates into dense
+ * arrays when the number of possible groups is small, or a hash map otherwise, and partial
+ * results are merged as the tasks join.
+ */
+@Service
+public class AnalyticsService {
+
+    /**
+     * Dimensions a query can group by.
+     */
+    public enum Dimension {
+        STATUS,
+        TYPE,
+        REQUESTER,
+        APPROVER,
+        CREATED_DAY,
+        CREATED_WEEK,
+        CREATED_MONTH
+    }
+
+    private static final int DENSE_GROUP_LIMIT = 1 << 16;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private final AnalyticsSnapshot analyticsSnapshot;
+    private final RequestTypeService requestTypeService;
+
+    @Value("${analytics.parallelism:0}")
+    private int parallelism;
+
+    @Value("${analytics.max-groups:10000}")
+    private int maxGroups;
+
+    private ForkJoinPool pool;
+
+    public AnalyticsService(AnalyticsSnapshot analyticsSnapshot, RequestTypeService requestTypeService) {
+        this.analyticsSnapshot = analyticsSnapshot;
+        this.requestTypeService = requestTypeService;
+    }
+
+    @PostConstruct
+    public void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Counts matching requests per group, with the average time to decision of decided ones.
+     *
+     * @throws IllegalArgumentException for unknown dimensions or statuses
+     * @throws IllegalStateException if the analytics snapshot is disabled
+     */
+    public AnalyticsResultDTO aggregate(AnalyticsQueryDTO query) {
+        if (!analyticsSnapshot.isEnabled()) {
+            throw new IllegalStateException("Analytics snapshot is disabled (analytics.snapshot.enabled)");
+        }
+        long started = System.nanoTime();
+
+        // Size first: rows below it are complete in the columns and dictionaries read after it
+        int rows = analyticsSnapshot.size();
+        AnalyticsSnapshot.Columns columns = analyticsSnapshot.columns();
+        AnalyticsSnapshot.Dictionaries dictionaries = analyticsSnapshot.dictionaries();
+
+        Filter filter = Filter.of(query, dictionaries);
+        List<Dimension> dimensions = query.getGroupBy() == null ? List.of()
+            : query.getGroupBy().stream().map(name -> Dimension.valueOf(name.toUpperCase())).toList();
+        Grouping grouping = Grouping.of(dimensions, dictionaries, columns, rows, filter);
+
+        Accumulator result = rows == 0 ? grouping.newAccumulator()
+            : pool.invoke(new ScanTask(columns, filter, grouping, 0, rows,
+                Math.max(64 * 1024, rows / (pool.getParallelism() * 4) + 1)));
+
+        Map<Integer, String> typeNames = new HashMap<>();
+        if (dimensions.contains(Dimension.TYPE)) {
+            // Cached by RequestTypeService, so grouping by type does not query the database
+            for (RequestTypeDTO type : requestTypeService.getAllRequestTypes()) {
+                typeNames.put(type.getId(), type.getName());
+            }
+        }
+
+        List<AnalyticsGroupDTO> groups = new ArrayList<>();
+        long matched = result.forEach((group, count, decided, decisionSeconds) -> groups.add(new AnalyticsGroupDTO(
+            grouping.describe(group, dictionaries, typeNames),
+            count,
+            decided > 0 ? (double) decisionSeconds / decided : null)));
+
+        groups.sort(Comparator.comparingLong(AnalyticsGroupDTO::count).reversed());
+        boolean truncated = groups.size() > maxGroups;
+        return new AnalyticsResultDTO(
+            dimensions.stream().map(Enum::name).toList(),
+            truncated ? List.copyOf(groups.subList(0, maxGroups)) : groups,
+            truncated,
+            matched,
+            rows,
+            analyticsSnapshot.refreshedAt(),
+            (System.nanoTime() - started) / 1000);
+    }
+
+    /**
+     * Row predicate as lookup tables; a null table accepts everything.
+     */
+    private record Filter(boolean[] statuses, boolean[] types, boolean[] requesters, boolean[] approvers,
+                          int createdFrom, int createdTo) {
+
+        static Filter of(AnalyticsQueryDTO query, AnalyticsSnapshot.Dictionaries dictionaries) {
+            boolean[] statuses = null;
+            if (query.getStatuses() != null && !query.getStatuses().isEmpty()) {
+                statuses = new boolean[RequestStatus.values().length];
+                for (String status : query.getStatuses()) {
+                    statuses[RequestStatus.valueOf(status.toUpperCase()).ordinal()] = true;
+                }
+            }
+
+            boolean[] types = null;
+            if (query.getTypeIds() != null && !query.getTypeIds().isEmpty()) {
+                types = new boolean[dictionaries.typeIds().length];
+                for (int code = 0; code < types.length; code++) {
+                    types[code] = query.getTypeIds().contains(dictionaries.typeIds()[code]);
+                }
+            }
+
+            return new Filter(statuses, types,
+                userTable(query.getRequesterIds(), dictionaries),
+                userTable(query.getApproverIds(), dictionaries),
+                query.getCreatedFrom() != null ? AnalyticsSnapshot.toSeconds(query.getCreatedFrom()) : Integer.MIN_VALUE,
+                query.getCreatedTo() != null ? AnalyticsSnapshot.toSeconds(query.getCreatedTo()) : Integer.MAX_VALUE);
+        }
+
+        private static boolean[] userTable(List<Long> userIds, AnalyticsSnapshot.Dictionaries dictionaries) {
+            if (userIds == null || userIds.isEmpty()) {
+                return null;
+            }
+            boolean[] table = new boolean[dictionaries.userIds().length];
+            for (int code = 1; code < table.length; code++) {
+                table[code] = userIds.contains(dictionaries.userIds()[code]);
+            }
+            return table;
+        }
+
+        boolean accepts(AnalyticsSnapshot.Columns c, int row) {
+            int created = c.created[row];
+            return created >= createdFrom && created < createdTo
+                && (statuses == null || statuses[c.status[row]])
+                && (types == null || (c.type[row] < types.length && types[c.type[row]]))
+                && (requesters == null || (c.requester[row] < requesters.length && requesters[c.requester[row]]))
+                && (approvers == null || (c.approver[row] < approvers.length && approvers[c.approver[row]]));
+        }
+    }
+
+    /**
+     * Maps a row to a group number and back to a description.
+     * Time dimensions are day offsets from firstDay looked up in per-dimension bucket tables.
+     */
+    private record Grouping(List<Dimension> dimensions, int[] radix, long groups, int firstDay,
+                            Map<Dimension, int[]> dayBuckets, Map<Dimension, List<String>> bucketLabels) {
+
+        static Grouping of(List<Dimension> dimensions, AnalyticsSnapshot.Dictionaries dictionaries,
+                           AnalyticsSnapshot.Columns columns, int rows, Filter filter) {
+            int firstDay = 0;
+            int lastDay = 0;
+            boolean timeDimension = dimensions.stream().anyMatch(d -> d.name().startsWith("CREATED_"));
+            if (timeDimension && rows > 0) {
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int row = 0; row < rows; row++) {
+                    min = Math.min(min, columns.created[row]);
+                    max = Math.max(max, columns.created[row]);
+                }
+                firstDay = Math.floorDiv(Math.max(min, filter.createdFrom()), SECONDS_PER_DAY);
+                lastDay = Math.max(firstDay, Math.floorDiv(Math.min(max, filter.createdTo()), SECONDS_PER_DAY));
+            }
+
+            Map<Dimension, int[]> dayBuckets = new HashMap<>();
+            Map<Dimension, List<String>> bucketLabels = new HashMap<>();
+            int[] radix = new int[dimensions.size()];
+            long groups = 1;
+            for (int i = 0; i < dimensions.size(); i++) {
+                Dimension dimension = dimensions.get(i);
+                radix[i] = switch (dimension) {
+                    case STATUS -> RequestStatus.values().length;
+                    case TYPE -> Math.max(1, dictionaries.typeIds().length);
+                    case REQUESTER, APPROVER -> dictionaries.userIds().length;
+                    case CREATED_DAY, CREATED_WEEK, CREATED_MONTH ->
+                        timeBuckets(dimension, firstDay, lastDay, dayBuckets, bucketLabels);
+                };
+                groups *= radix[i];
+            }
+            return new Grouping(dimensions, radix, groups, firstDay, dayBuckets, bucketLabels);
+        }
+
+        private static int timeBuckets(Dimension dimension, int firstDay, int lastDay,
+                                       Map<Dimension, int[]> dayBuckets, Map<Dimension, List<String>> bucketLabels) {
+            int[] buckets = new int[lastDay - firstDay + 1];
+            Map<String, Integer> codes = new LinkedHashMap<>();
+            for (int day = firstDay; day <= lastDay; day++) {
+                LocalDate date = AnalyticsSnapshot.fromSeconds((long) day * SECONDS_PER_DAY).toLocalDate();
+                String label = switch (dimension) {
+                    case CREATED_WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
+                    case CREATED_MONTH -> YearMonth.from(date).toString();
+                    default -> date.toString();
+                };
+                buckets[day - firstDay] = codes.computeIfAbsent(label, l -> codes.size());
+            }
+            dayBuckets.put(dimension, buckets);
+            bucketLabels.put(dimension, new ArrayList<>(codes.keySet()));
+            return Math.max(1, codes.size());
+        }
+
+        long groupOf(AnalyticsSnapshot.Columns c, int row) {
+            long group = 0;
+            for (int i = 0; i < radix.length; i++) {
+                int code = switch (dimensions.get(i)) {
+                    case STATUS -> c.status[row];
+                    case TYPE -> c.type[row];
+                    case REQUESTER -> c.requester[row];
+                    case APPROVER -> c.approver[row];
+                    case CREATED_DAY, CREATED_WEEK, CREATED_MONTH ->
+                        dayBuckets.get(dimensions.get(i))[Math.floorDiv(c.created[row], SECONDS_PER_DAY) - firstDay];
+                };
+                group = group * radix[i] + code;
+            }
+            return group;
+        }
+
+        Accumulator newAccumulator() {
+            return groups <= DENSE_GROUP_LIMIT ? new DenseAccumulator((int) groups) : new SparseAccumulator();
+        }
+
+        Map<String, String> describe(long group, AnalyticsSnapshot.Dictionaries dictionaries, Map<Integer, String> typeNames) {
+            String[] values = new String[radix.length];
+            for (int i = radix.length - 1; i >= 0; i--) {
+                int code = (int) (group % radix[i]);
+                group /= radix[i];
+                Dimension dimension = dimensions.get(i);
+                values[i] = switch (dimension) {
+                    case STATUS -> RequestStatus.values()[code].name();
+                    case TYPE -> {
+                        int typeId = dictionaries.typeIds()[code];
+                        yield typeNames.getOrDefault(typeId, String.valueOf(typeId));
+                    }
+                    case REQUESTER, APPROVER -> code == AnalyticsSnapshot.NO_USER ? "Unassigned"
+                        : String.valueOf(dictionaries.userIds()[code]);
+                    case CREATED_DAY, CREATED_WEEK, CREATED_MONTH -> bucketLabels.get(dimension).get(code);
+                };
+            }
+            Map<String, String> key = new LinkedHashMap<>();
+            for (int i = 0; i < radix.length; i++) {
+                key.put(dimensions.get(i).name(), values[i]);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Per-group count, decided count and summed decision seconds.
+     */
+    private interface Accumulator {
+
+        void add(long group, int decisionSeconds);
+
+        Accumulator merge(Accumulator other);
+
+        /**
+         * Visits non-empty groups.
+         *
+         * @return Total count over all groups
+         */
+        long forEach(GroupVisitor visitor);
+    }
+
+    @FunctionalInterface
+    private interface GroupVisitor {
+        void visit(long group, long count, long decided, long decisionSeconds);
+    }
+
+    private static final class DenseAccumulator implements Accumulator {
+
+        private final long[] counts;
+        private final long[] decided;
+        private final long[] decisionSeconds;
+
+        DenseAccumulator(int groups) {
+            counts = new long[groups];
+            decided = new long[groups];
+            decisionSeconds = new long[groups];
+        }
+
+        @Override
+        public void add(long group, int seconds) {
+            int g = (int) group;
+            counts[g]++;
+            if (seconds >= 0) {
+                decided[g]++;
+                decisionSeconds[g] += seconds;
+            }
+        }
+
+        @Override
+        public Accumulator merge(Accumulator other) {
+            DenseAccumulator dense = (DenseAccumulator) other;
+            for (int g = 0; g < counts.length; g++) {
+                counts[g] += dense.counts[g];
+                decided[g] += dense.decided[g];
+                decisionSeconds[g] += dense.decisionSeconds[g];
+            }
+            return this;
+        }
+
+        @Override
+        public long forEach(GroupVisitor visitor) {
+            long total = 0;
+            for (int g = 0; g < counts.length; g++) {
+                if (counts[g] > 0) {
+                    visitor.visit(g, counts[g], decided[g], decisionSeconds[g]);
+                    total += counts[g];
+                }
+            }
+            return total;
+        }
+    }
+
+    private static final class SparseAccumulator implements Accumulator {
+
+        private final Map<Long, long[]> groups = new HashMap<>();
+
+        @Override
+        public void add(long group, int seconds) {
+            long[] values = groups.computeIfAbsent(group, g -> new long[3]);
+            values[0]++;
+            if (seconds >= 0) {
+                values[1]++;
+                values[2] += seconds;
+            }
+        }
+
+        @Override
+        public Accumulator merge(Accumulator other) {
+            ((SparseAccumulator) other).groups.forEach((group, values) -> groups.merge(group, values, (a, b) -> {
+                a[0] += b[0];
+                a[1] += b[1];
+                a[2] += b[2];
+                return a;
+            }));
+            return this;
+        }
+
+        @Override
+        public long forEach(GroupVisitor visitor) {
+            long total = 0;
+            for (Map.Entry<Long, long[]> entry : groups.entrySet()) {
+                long[] values = entry.getValue();
+                visitor.visit(entry.getKey(), values[0], values[1], values[2]);
+                total += values[0];
+            }
+            return total;
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<Accumulator> {
+
+        private final AnalyticsSnapshot.Columns columns;
+        private final Filter filter;
+        private final Grouping grouping;
+        private final int from;
+        private final int to;
+        private final int leafRows;
+
+        ScanTask(AnalyticsSnapshot.Columns columns, Filter filter, Grouping grouping, int from, int to, int leafRows) {
+            this.columns = columns;
+            this.filter = filter;
+            this.grouping = grouping;
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from > leafRows) {
+                int middle = (from + to) >>> 1;
+                ScanTask left = new ScanTask(columns, filter, grouping, from, middle, leafRows);
+                ScanTask right = new ScanTask(columns, filter, grouping, middle, to, leafRows);
+                left.fork();
+                Accumulator rightResult = right.compute();
+                return left.join().merge(rightResult);
+            }
+
+            Accumulator accumulator = grouping.newAccumulator();
+            for (int row = from; row < to; row++) {
+                if (filter.accepts(columns, row)) {
+                    int decided = columns.decided[row];
+                    accumulator.add(grouping.groupOf(columns, row),
+                        decided == AnalyticsSnapshot.NO_TIME ? -1 : decided - columns.created[row]);
+                }
+            }
+            return accumulator;
+        }
+    }}
@@ -0,0 +1,341 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Column-oriented in-memory copy of request metadata for {@link AnalyticsService}.
+ *
+ * Each request is one row across primitive arrays: status ordinal, dictionary codes for the
+ * request type and the requester and approver users, and creation and decision times as
+ * seconds since 2000-01-01. Rows are found by id through an open-addressing hash table over
+ * the id columns, kept at most half full.
+ *
+ * Memory per request: 37 bytes of columns, 8 to 16 bytes of id table, and up to half again of
+ * unused column capacity after the arrays grow; 10M requests take 450MB to 700MB, and while the
+ * arrays grow the old and new copies are briefly held together. Off by default
+ * ({@code analytics.snapshot.enabled}): every instance that enables it loads the whole request
+ * history on its first refresh.
+ *
+ * The snapshot is refreshed from {@code updated_at} of requests and requests_archive in keyset
+ * order past a watermark, re-reading a short overlap window to catch transactions that committed
+ * late; applying a row twice is harmless. There is a single writer (the refresh) and any number
+ * of readers: new rows are published by a volatile size, and updates to existing rows are visible
+ * eventually, so a reader may see a decision's status before its decision time. Requests are
+ * never removed, archiving one does not change it.
+ */
+@Service
+public class AnalyticsSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsSnapshot.class);
+
+    /** Seconds are stored relative to this instant to fit in an int until 2068. */
+    static final LocalDateTime TIME_BASE = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final long TIME_BASE_SECONDS = TIME_BASE.toEpochSecond(ZoneOffset.UTC);
+
+    /** Dictionary code of "no user", used for unassigned approvers. */
+    static final int NO_USER = 0;
+    static final int NO_TIME = -1;
+
+    private static final String REFRESH_COLUMNS =
+        "SELECT id, status, type_id, requester_id, approver_id, created_at, last_action_at, updated_at ";
+
+    private static final String REFRESH_KEYSET =
+        "WHERE updated_at > ? OR (updated_at = ? AND id > ?) ORDER BY updated_at, id LIMIT ?";
+
+    // Archived requests keep their updated_at, so one keyset covers both tables
+    private static final String REFRESH_QUERY =
+        "(" + REFRESH_COLUMNS + "FROM requests " + REFRESH_KEYSET + ") UNION ALL ("
+            + REFRESH_COLUMNS + "FROM requests_archive " + REFRESH_KEYSET + ") "
+            + "ORDER BY updated_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${analytics.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${analytics.snapshot.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${analytics.snapshot.overlap-seconds:10}")
+    private long overlapSeconds;
+
+    private volatile Columns columns = new Columns(1024);
+    private volatile int size;
+    private volatile Dictionaries dictionaries = new Dictionaries(new int[0], new long[] {0});
+    private volatile LocalDateTime refreshedAt;
+
+    // Writer-only state
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int[] slots = new int[2048];
+    private final Map<Integer, Integer> typeCodes = new HashMap<>();
+    private final Map<Long, Integer> userCodes = new HashMap<>();
+    private int[] typeIds = new int[0];
+    private long[] userIds = new long[] {0};
+    private LocalDateTime watermark = TIME_BASE;
+
+    public AnalyticsSnapshot(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads requests changed since the last refresh. The first run loads everything.
+     */
+    @Scheduled(fixedDelayString = "${analytics.snapshot.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            load();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void load() {
+        long started = System.nanoTime();
+        LocalDateTime from = watermark.minusSeconds(overlapSeconds);
+        Timestamp lastUpdatedAt = Timestamp.valueOf(from.isBefore(TIME_BASE) ? TIME_BASE : from);
+        byte[] lastId = new byte[16];
+        int loaded = 0;
+
+        while (true) {
+            List<SnapshotRow> rows = jdbcTemplate.query(REFRESH_QUERY, (resultSet, rowNum) -> {
+                Timestamp lastActionAt = resultSet.getTimestamp("last_action_at");
+                long approverId = resultSet.getLong("approver_id");
+                return new SnapshotRow(
+                    UuidBinary.fromBytes(resultSet.getBytes("id")),
+                    RequestStatus.valueOf(resultSet.getString("status")),
+                    resultSet.getInt("type_id"),
+                    resultSet.getLong("requester_id"),
+                    resultSet.wasNull() ? null : approverId,
+                    resultSet.getTimestamp("created_at").toLocalDateTime(),
+                    lastActionAt != null ? lastActionAt.toLocalDateTime() : null,
+                    resultSet.getTimestamp("updated_at").toLocalDateTime());
+            }, lastUpdatedAt, lastUpdatedAt, lastId, chunkSize, lastUpdatedAt, lastUpdatedAt, lastId, chunkSize, chunkSize);
+
+            apply(rows);
+            loaded += rows.size();
+            if (rows.size() < chunkSize) {
+                break;
+            }
+            SnapshotRow last = rows.get(rows.size() - 1);
+            lastUpdatedAt = Timestamp.valueOf(last.updatedAt());
+            lastId = UuidBinary.toBytes(last.id());
+        }
+
+        refreshedAt = LocalDateTime.now();
+        if (loaded > chunkSize) {
+            logger.info("Analytics snapshot loaded {} changed requests in {} ms ({} total)",
+                    loaded, (System.nanoTime() - started) / 1_000_000, size);
+        }
+    }
+
+    /**
+     * Inserts or updates rows and publishes them to readers.
+     */
+    void apply(List<SnapshotRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            applyRows(rows);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyRows(List<SnapshotRow> rows) {
+        Columns target = columns;
+        int newSize = size;
+        for (SnapshotRow row : rows) {
+            int index = find(row.id().getMostSignificantBits(), row.id().getLeastSignificantBits(), target, newSize);
+            if (index < 0) {
+                if (newSize == target.capacity()) {
+                    target = target.grow(newSize);
+                    // Readers pick up the larger arrays before the new size
+                    columns = target;
+                }
+                index = newSize++;
+                target.idHigh[index] = row.id().getMostSignificantBits();
+                target.idLow[index] = row.id().getLeastSignificantBits();
+                insertSlot(index, target, newSize);
+            }
+
+            target.status[index] = (byte) row.status().ordinal();
+            target.type[index] = typeCode(row.typeId());
+            target.requester[index] = userCode(row.requesterId());
+            target.approver[index] = row.approverId() != null ? userCode(row.approverId()) : NO_USER;
+            target.created[index] = toSeconds(row.createdAt());
+            target.decided[index] = row.decidedAt() != null ? toSeconds(row.decidedAt()) : NO_TIME;
+            if (row.updatedAt().isAfter(watermark)) {
+                watermark = row.updatedAt();
+            }
+        }
+        dictionaries = new Dictionaries(typeIds.clone(), userIds.clone());
+        size = newSize;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Columns columns() {
+        return columns;
+    }
+
+    Dictionaries dictionaries() {
+        return dictionaries;
+    }
+
+    LocalDateTime refreshedAt() {
+        return refreshedAt;
+    }
+
+    static int toSeconds(LocalDateTime time) {
+        return (int) (time.toEpochSecond(ZoneOffset.UTC) - TIME_BASE_SECONDS);
+    }
+
+    static LocalDateTime fromSeconds(long seconds) {
+        return LocalDateTime.ofEpochSecond(TIME_BASE_SECONDS + seconds, 0, ZoneOffset.UTC);
+    }
+
+    private int typeCode(int typeId) {
+        Integer code = typeCodes.get(typeId);
+        if (code == null) {
+            code = typeIds.length;
+            typeIds = Arrays.copyOf(typeIds, code + 1);
+            typeIds[code] = typeId;
+            typeCodes.put(typeId, code);
+        }
+        return code;
+    }
+
+    private int userCode(long userId) {
+        Integer code = userCodes.get(userId);
+        if (code == null) {
+            code = userIds.length;
+            userIds = Arrays.copyOf(userIds, code + 1);
+            userIds[code] = userId;
+            userCodes.put(userId, code);
+        }
+        return code;
+    }
+
+    private int find(long high, long low, Columns target, int rows) {
+        int mask = slots.length - 1;
+        for (int slot = hash(high, low) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (index < rows && target.idHigh[index] == high && target.idLow[index] == low) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSlot(int index, Columns target, int rows) {
+        if (rows * 2 > slots.length) {
+            slots = new int[slots.length * 2];
+            for (int i = 0; i < rows - 1; i++) {
+                placeSlot(i, target);
+            }
+        }
+        placeSlot(index, target);
+    }
+
+    private void placeSlot(int index, Columns target) {
+        int mask = slots.length - 1;
+        int slot = hash(target.idHigh[index], target.idLow[index]) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * The column arrays. Rows below the published size are valid.
+     */
+    static final class Columns {
+
+        final long[] idHigh;
+        final long[] idLow;
+        final byte[] status;
+        final int[] type;
+        final int[] requester;
+        final int[] approver;
+        final int[] created;
+        final int[] decided;
+
+        Columns(int capacity) {
+            idHigh = new long[capacity];
+            idLow = new long[capacity];
+            status = new byte[capacity];
+            type = new int[capacity];
+            requester = new int[capacity];
+            approver = new int[capacity];
+            created = new int[capacity];
+            decided = new int[capacity];
+        }
+
+        private Columns(Columns source, int capacity) {
+            idHigh = Arrays.copyOf(source.idHigh, capacity);
+            idLow = Arrays.copyOf(source.idLow, capacity);
+            status = Arrays.copyOf(source.status, capacity);
+            type = Arrays.copyOf(source.type, capacity);
+            requester = Arrays.copyOf(source.requester, capacity);
+            approver = Arrays.copyOf(source.approver, capacity);
+            created = Arrays.copyOf(source.created, capacity);
+            decided = Arrays.copyOf(source.decided, capacity);
+        }
+
+        int capacity() {
+            return status.length;
+        }
+
+        Columns grow(int rows) {
+            return new Columns(this, Math.max(1024, rows + (rows >> 1)));
+        }
+    }
+
+    /**
+     * Code-to-id lookups for the dictionary-encoded columns. Code 0 of users is {@link #NO_USER}.
+     */
+    record Dictionaries(int[] typeIds, long[] userIds) {
+    }
+
+    /**
+     * Request metadata as read from the database.
+     */
+    record SnapshotRow(UUID id, RequestStatus status, int typeId, long requesterId, Long approverId,
+                       LocalDateTime createdAt, LocalDateTime decidedAt, LocalDateTime updatedAt) {
+    }
+}
@@ -1,13 +1,25 @@
 package dev.danielcorrea.backbdb.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.danielcorrea.backbdb.config.Bulkhead;
+import dev.danielcorrea.backbdb.config.Bulkhead.Workload;
+import dev.danielcorrea.backbdb.config.CacheConfig;
 import dev.danielcorrea.backbdb.dto.CreateRequestDTO;
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryPageDTO;
 import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
 import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.RequestLog;
@@ -18,14 +30,23 @@ import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
 import dev.danielcorrea.backbdb.repository.RequestLogRepository;
 import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
 import dev.danielcorrea.backbdb.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Service layer for approval request business logic.
+ * Every public method is timed as {@code approval.service}, tagged with the method name.
+ * The request list and details reads are {@link Coalesced}: concurrent identical calls share one query.
+ * Inboxes are cached on every instance and invalidated through {@link CacheInvalidationLog} by the writes.
+ * Request reads and writes that reach the database run in separate {@link Bulkhead}s; cache hits and
+ * coalesced calls do not take a permit.
+ * Closed requests moved out by {@link RequestArchiver} are still found by the details and history reads,
+ * and by the list reads when archived requests are asked for.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "approval.service", description = "Time spent in ApprovalService methods", histogram = true)
 public class ApprovalService {
 
     private final ApprovalRequestRepository approvalRequestRepository;
@@ -33,6 +54,12 @@ public class ApprovalService {
     private final RequestTypeRepository requestTypeRepository;
     private final RequestLogRepository requestLogRepository;
     private final EmailNotificationService emailNotificationService;
+    private final AuditLogWriter auditLogWriter;
+    private final HistoryArchiveReader historyArchiveReader;
+    private final StatisticsService statisticsService;
+    private final DecisionLatencyService decisionLatencyService;
+    private final CacheInvalidationLog cacheInvalidationLog;
+    private final RequestArchiveReader requestArchiveReader;
 
     /**
      * Retrieves all requests CREATED BY the user (for "My Requests" tab).
@@ -41,6 +68,8 @@ public class ApprovalService {
      * @param userId The ID of the requester
      * @return List of RequestSummaryDTO
      */
+    @Coalesced
+    @Bulkhead(Workload.READ)
     public List<RequestSummaryDTO> getRequestsCreatedByUser(Long userId) {
         List<ApprovalRequest> requests = approvalRequestRepository
             .findByRequester_IdOrderByCreatedAtDesc(userId);
@@ -57,6 +86,9 @@ public class ApprovalService {
      * @param userId The ID of the approver
      * @return List of RequestSummaryDTO
      */
+    @Coalesced
+    @Cacheable(cacheNames = CacheConfig.INBOX, key = "#userId.toString()")
+    @Bulkhead(Workload.READ)
     public List<RequestSummaryDTO> getRequestsAssignedToUser(Long userId) {
         List<ApprovalRequest> requests = approvalRequestRepository
             .findByApprover_IdOrderByCreatedAtDesc(userId);
@@ -66,6 +98,50 @@ public class ApprovalService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves all requests created by the user, including archived ones, newest first.
+     *
+     * @param userId The ID of the requester
+     * @return List of RequestSummaryDTO
+     */
+    @Coalesced
+    @Bulkhead(Workload.READ)
+    public List<RequestSummaryDTO> getRequestsCreatedByUserIncludingArchived(Long userId) {
+        List<RequestSummaryDTO> requests = new ArrayList<>();
+        approvalRequestRepository.findByRequester_IdOrderByCreatedAtDesc(userId).stream()
+            .map(this::mapToDTOForCreated)
+            .forEach(requests::add);
+        return withArchived(requests, requestArchiveReader.findCreatedBy(userId));
+    }
+
+    /**
+     * Retrieves all requests assigned to the user, including archived ones, newest first.
+     * Not cached: only the inbox of active work is.
+     *
+     * @param userId The ID of the approver
+     * @return List of RequestSummaryDTO
+     */
+    @Coalesced
+    @Bulkhead(Workload.READ)
+    public List<RequestSummaryDTO> getRequestsAssignedToUserIncludingArchived(Long userId) {
+        List<RequestSummaryDTO> requests = new ArrayList<>();
+        approvalRequestRepository.findByApprover_IdOrderByCreatedAtDesc(userId).stream()
+            .map(this::mapToDTOForAssigned)
+            .forEach(requests::add);
+        return withArchived(requests, requestArchiveReader.findAssignedTo(userId));
+    }
+
+    /**
+     * Adds archived requests to a list of hot ones, keeping it newest first.
+     */
+    private static List<RequestSummaryDTO> withArchived(List<RequestSummaryDTO> requests, List<RequestSummaryDTO> archived) {
+        if (!archived.isEmpty()) {
+            requests.addAll(archived);
+            requests.sort(Comparator.comparing(RequestSummaryDTO::createdAt).reversed());
+        }
+        return requests;
+    }
+
     /**
      * Maps an ApprovalRequest to DTO for "My Requests" view.
      * Related user = Approver (the person who will approve my request).
@@ -104,6 +180,7 @@ public class ApprovalService {
      * @throws RuntimeException if requester, approver, or request type not found
      */
     @Transactional
+    @Bulkhead(Workload.WRITE)
     public RequestSummaryDTO createRequest(CreateRequestDTO dto) {
         // Validate requester exists
         User requester = userRepository.findById(dto.getRequesterId())
@@ -133,6 +210,17 @@ public class ApprovalService {
         ApprovalRequest savedRequest = approvalRequestRepository.save(request);
         approvalRequestRepository.flush(); // Ensure timestamps are set by Hibernate
 
+        RequestLog log = RequestLog.builder()
+            .actionTaken("CREATED")
+            .actionDate(savedRequest.getCreatedAt())
+            .request(savedRequest)
+            .user(requester)
+            .build();
+
+        auditLogWriter.journal(log);
+        statisticsService.recordCreated(savedRequest);
+        cacheInvalidationLog.invalidate(CacheConfig.INBOX, approver.getId());
+
         // Send email notification to approver
         emailNotificationService.sendRequestCreatedNotification(savedRequest, approver);
 
@@ -150,9 +238,10 @@ public class ApprovalService {
      * @throws RuntimeException if request not found, not pending, or wrong approver
      */
     @Transactional
+    @Bulkhead(Workload.WRITE)
     public RequestSummaryDTO approveRequest(UUID requestId, String comments, Long approverId) {
         // Fetch the request
-        ApprovalRequest request = approvalRequestRepository.findById(requestId)
+        ApprovalRequest request = approvalRequestRepository.findDetailedById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
 
         // Validate request is in PENDING status
@@ -165,8 +254,11 @@ public class ApprovalService {
             throw new RuntimeException("User with ID " + approverId + " is not authorized to approve this request");
         }
 
-        // Update request status
+        // Update request status and the denormalized latest action
+        LocalDateTime actionDate = LocalDateTime.now();
         request.setStatus(RequestStatus.APPROVED);
+        request.setLatestComment(comments);
+        request.setLastActionAt(actionDate);
         ApprovalRequest updatedRequest = approvalRequestRepository.save(request);
 
         // Create log entry
@@ -176,11 +268,15 @@ public class ApprovalService {
         RequestLog log = RequestLog.builder()
             .actionTaken("APPROVED")
             .comments(comments)
+            .actionDate(actionDate)
             .request(request)
             .user(approver)
             .build();
 
-        requestLogRepository.save(log);
+        auditLogWriter.append(log);
+        statisticsService.recordTransition(updatedRequest, RequestStatus.PENDING);
+        TransactionCallbacks.afterCommit(() -> decisionLatencyService.recordDecision(updatedRequest, actionDate));
+        cacheInvalidationLog.invalidate(CacheConfig.INBOX, approverId);
 
         // Send email notification to requester
         emailNotificationService.sendRequestStatusUpdateNotification(updatedRequest, approver, comments);
@@ -199,9 +295,10 @@ public class ApprovalService {
      * @throws RuntimeException if request not found, not pending, or wrong approver
      */
     @Transactional
+    @Bulkhead(Workload.WRITE)
     public RequestSummaryDTO rejectRequest(UUID requestId, String comments, Long approverId) {
         // Fetch the request
-        ApprovalRequest request = approvalRequestRepository.findById(requestId)
+        ApprovalRequest request = approvalRequestRepository.findDetailedById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
 
         // Validate request is in PENDING status
@@ -214,8 +311,11 @@ public class ApprovalService {
             throw new RuntimeException("User with ID " + approverId + " is not authorized to reject this request");
         }
 
-        // Update request status
+        // Update request status and the denormalized latest action
+        LocalDateTime actionDate = LocalDateTime.now();
         request.setStatus(RequestStatus.REJECTED);
+        request.setLatestComment(comments);
+        request.setLastActionAt(actionDate);
         ApprovalRequest updatedRequest = approvalRequestRepository.save(request);
 
         // Create log entry
@@ -225,11 +325,15 @@ public class ApprovalService {
         RequestLog log = RequestLog.builder()
             .actionTaken("REJECTED")
             .comments(comments)
+            .actionDate(actionDate)
             .request(request)
             .user(approver)
             .build();
 
-        requestLogRepository.save(log);
+        auditLogWriter.append(log);
+        statisticsService.recordTransition(updatedRequest, RequestStatus.PENDING);
+        TransactionCallbacks.afterCommit(() -> decisionLatencyService.recordDecision(updatedRequest, actionDate));
+        cacheInvalidationLog.invalidate(CacheConfig.INBOX, approverId);
 
         // Send email notification to requester
         emailNotificationService.sendRequestStatusUpdateNotification(updatedRequest, approver, comments);
@@ -240,20 +344,28 @@ public class ApprovalService {
 
     /**
      * Fetches full details of a specific request by its ID.
+     * The latest comment comes from the request row itself; approval history is only
+     * read for requests decided before that column existed. Archived requests are read
+     * from the archive when the request is not in the hot table.
      * 
      * @param requestId The ID of the request
      * @return RequestDetailsDTO containing full request details
      * @throws RuntimeException if request not found
      */
+    @Coalesced
     @Transactional(readOnly = true)
-    public dev.danielcorrea.backbdb.dto.RequestDetailsDTO getRequestDetails(UUID requestId) {
+    @Bulkhead(Workload.READ)
+    public RequestDetailsDTO getRequestDetails(UUID requestId) {
         // Fetch the request
-        ApprovalRequest request = approvalRequestRepository.findById(requestId)
-            .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
+        Optional<ApprovalRequest> found = approvalRequestRepository.findDetailedById(requestId);
+        if (found.isEmpty()) {
+            return getArchivedRequestDetails(requestId);
+        }
+        ApprovalRequest request = found.get();
 
-        // Fetch the most recent comment from approval history
-        List<RequestLog> logs = requestLogRepository.findByRequestOrderByActionDateDesc(request);
-        String mostRecentComment = logs.isEmpty() ? null : logs.get(0).getComments();
+        String mostRecentComment = request.getLastActionAt() != null || request.getStatus() == RequestStatus.PENDING
+            ? request.getLatestComment()
+            : findLatestCommentInHistory(request);
 
         // Determine related user name (approver's name for this view)
         String relatedUserName = request.getApprover() != null 
@@ -261,7 +373,7 @@ public class ApprovalService {
             : "Unassigned";
 
         // Map to DTO
-        return new dev.danielcorrea.backbdb.dto.RequestDetailsDTO(
+        return new RequestDetailsDTO(
             request.getId(),
             request.getTitle(),
             request.getDescription(),
@@ -269,7 +381,125 @@ public class ApprovalService {
             request.getType().getName(),
             request.getCreatedAt(),
             relatedUserName,
-            mostRecentComment
+            mostRecentComment,
+            request.getLastActionAt()
         );
     }
+
+    /**
+     * Details of an archived request; history moved to archive files is the last resort for the comment.
+     */
+    private RequestDetailsDTO getArchivedRequestDetails(UUID requestId) {
+        RequestDetailsDTO details = requestArchiveReader.findDetails(requestId)
+            .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
+        if (details.getLastActionAt() == null && details.getComments() == null) {
+            historyArchiveReader.findLatest(requestId, details.getCreatedAt())
+                .ifPresent(entry -> details.setComments(entry.comments()));
+        }
+        return details;
+    }
+
+    /**
+     * Looks up the most recent comment in approval history, falling back to archived history.
+     */
+    private String findLatestCommentInHistory(ApprovalRequest request) {
+        List<RequestLog> logs = requestLogRepository.findByRequestOrderByActionDateDesc(request);
+        if (!logs.isEmpty()) {
+            return logs.get(0).getComments();
+        }
+        return historyArchiveReader.findLatest(request.getId(), request.getCreatedAt())
+            .map(HistoryArchive.Entry::comments)
+            .orElse(null);
+    }
+
+    /**
+     * Fetches one page of a request's approval timeline, newest first.
+     * Entries come from approval_history with actor names joined in one query, or from
+     * approval_history_archive for archived requests; once that table is exhausted the
+     * timeline continues into history archive files.
+     * 
+     * @param requestId The ID of the request
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of entries to return
+     * @return RequestHistoryPageDTO with the entries and the cursor of the next page
+     * @throws RuntimeException if request not found
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    @Bulkhead(Workload.READ)
+    public RequestHistoryPageDTO getRequestHistory(UUID requestId, String cursor, int limit) {
+        Optional<ApprovalRequest> request = approvalRequestRepository.findById(requestId);
+        boolean archived = request.isEmpty();
+        LocalDateTime createdAt = archived
+            ? requestArchiveReader.findCreatedAt(requestId)
+                .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId))
+            : request.get().getCreatedAt();
+
+        HistoryCursor after = HistoryCursor.parse(cursor);
+
+        // Fetch one extra entry to know whether another page exists
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<RequestHistoryEntryDTO> entries;
+        if (archived) {
+            entries = new ArrayList<>(requestArchiveReader.findHistoryPage(requestId,
+                after != null ? after.actionDate() : null, after != null ? after.id() : null, limit + 1));
+        } else {
+            entries = new ArrayList<>(after == null
+                ? requestLogRepository.findHistoryPage(requestId, fetchLimit)
+                : requestLogRepository.findHistoryPageBefore(requestId, after.actionDate(), after.id(), fetchLimit));
+        }
+
+        if (entries.size() <= limit) {
+            HistoryCursor archiveStart = entries.isEmpty()
+                ? after
+                : HistoryCursor.of(entries.get(entries.size() - 1));
+            historyArchiveReader.findByRequest(requestId, createdAt).stream()
+                .filter(entry -> archiveStart == null || archiveStart.isAfter(entry.actionDate(), entry.id()))
+                .limit(limit + 1L - entries.size())
+                .map(entry -> new RequestHistoryEntryDTO(entry.id(), entry.actionTaken(), entry.comments(),
+                    entry.actionDate(), entry.userId(), entry.userFullName()))
+                .forEach(entries::add);
+        }
+
+        if (entries.size() <= limit) {
+            return new RequestHistoryPageDTO(entries, null);
+        }
+        List<RequestHistoryEntryDTO> page = entries.subList(0, limit);
+        return new RequestHistoryPageDTO(List.copyOf(page), HistoryCursor.of(page.get(limit - 1)).toString());
+    }
+
+    /**
+     * Keyset position in a timeline: the (actionDate, id) of the last entry already returned.
+     * Serialized as {@code <actionDate>_<id>}.
+     */
+    private record HistoryCursor(LocalDateTime actionDate, Long id) {
+
+        static HistoryCursor of(RequestHistoryEntryDTO entry) {
+            return new HistoryCursor(entry.actionDate(), entry.id());
+        }
+
+        static HistoryCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            int separator = cursor.lastIndexOf('_');
+            try {
+                return new HistoryCursor(
+                    LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid history cursor: " + cursor, e);
+            }
+        }
+
+        boolean isAfter(LocalDateTime otherDate, long otherId) {
+            int byDate = actionDate.compareTo(otherDate);
+            return byDate > 0 || (byDate == 0 && id > otherId);
+        }
+
+        @Override
+        public String toString() {
+            return actionDate + "_" + id;
+        }
+    }
 }
@@ -0,0 +1,351 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local append-only journal of approval events (create/approve/reject). Creation events are
+ * only kept here; decisions are also shipped to approval_history.
+ *
+ * Records go into fixed-size memory-mapped segment files, so an append is a copy into
+ * the page cache with no system call and no database round trip. Each record is framed as
+ * {@code [length:int][crc32c:int][payload]}; the length is written last, so a reader never
+ * sees a half-written record, and a torn write after a crash fails its CRC and marks the
+ * end of the journal on recovery. When a record does not fit, the journal rotates to a
+ * new segment; a zero length marks the unused tail of a sealed segment.
+ *
+ * {@link AuditJournalShipper} turns records into approval_history rows in the background and
+ * {@link AuditJournalReplayer} can rebuild approval_history from the journal after an outage.
+ */
+@Service
+public class AuditJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    /**
+     * Location in the journal: a segment number and a byte offset inside it.
+     */
+    public record Position(long segment, int offset) implements Comparable<Position> {
+
+        public static final Position START = new Position(0, 0);
+
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * Records read from the journal and the position right after the last one.
+     */
+    record ReadResult(List<AuditLogWriter.AuditEntry> entries, Position next) {
+    }
+
+    @Value("${audit.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${audit.journal.dir:./data/audit-journal}")
+    private String journalDir;
+
+    @Value("${audit.journal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${audit.journal.force-on-append:false}")
+    private boolean forceOnAppend;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Map<Long, MappedByteBuffer> readMappings = new ConcurrentHashMap<>();
+
+    private Path dir;
+    private MappedByteBuffer activeSegment;
+    private long activeSegmentNumber;
+
+    /** End of the last fully written record; readers never go past it. */
+    private volatile Position committed = Position.START;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+
+        TreeSet<Long> segments = listSegments();
+        activeSegmentNumber = segments.isEmpty() ? 1 : segments.last();
+        activeSegment = map(activeSegmentNumber, FileChannel.MapMode.READ_WRITE);
+        int end = recoverEnd(activeSegment);
+        activeSegment.position(end);
+        committed = new Position(activeSegmentNumber, end);
+        logger.info("Audit journal opened at {} (segment {}, offset {})", dir.toAbsolutePath(), activeSegmentNumber, end);
+    }
+
+    /**
+     * Appends one event. Only copies bytes into the mapped active segment, unless
+     * {@code audit.journal.force-on-append} asks for the record to be flushed to disk as well.
+     */
+    public void append(AuditLogWriter.AuditEntry entry) {
+        byte[] payload = encode(entry);
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("Audit record of " + recordBytes + " bytes exceeds the journal segment size");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        appendLock.lock();
+        try {
+            if (activeSegment.remaining() < recordBytes) {
+                rotate();
+            }
+            int offset = activeSegment.position();
+            activeSegment.putInt(offset + 4, (int) crc.getValue());
+            activeSegment.put(offset + HEADER_BYTES, payload);
+            // Publishing the length makes the record visible
+            activeSegment.putInt(offset, payload.length);
+            activeSegment.position(offset + recordBytes);
+            if (forceOnAppend) {
+                activeSegment.force(offset, recordBytes);
+            }
+            committed = new Position(activeSegmentNumber, offset + recordBytes);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public Position committedPosition() {
+        return committed;
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records starting at {@code from}.
+     */
+    ReadResult read(Position from, int maxRecords) {
+        Position end = committed;
+        List<AuditLogWriter.AuditEntry> entries = new ArrayList<>(Math.min(maxRecords, 1024));
+        long segment = from.segment() == 0 ? firstSegment() : from.segment();
+        int offset = from.offset();
+
+        while (entries.size() < maxRecords && segment <= end.segment()) {
+            MappedByteBuffer buffer = readMapping(segment);
+            int limit = segment == end.segment() ? end.offset() : buffer.capacity();
+            int length = offset + HEADER_BYTES <= limit ? buffer.getInt(offset) : 0;
+
+            if (length == 0 || offset + HEADER_BYTES + length > limit) {
+                if (segment == end.segment()) {
+                    break;
+                }
+                // Unused tail of a sealed segment
+                segment++;
+                offset = 0;
+                continue;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                if (segment == end.segment()) {
+                    // Later records of the active segment are still to come; stay at the bad record
+                    // and skip it only once the segment is sealed
+                    logger.error("Audit journal CRC mismatch in active segment {} at offset {}; stopping there", segment, offset);
+                    break;
+                }
+                logger.error("Audit journal CRC mismatch in segment {} at offset {}; skipping rest of segment", segment, offset);
+                segment++;
+                offset = 0;
+                continue;
+            }
+
+            entries.add(decode(payload));
+            offset += HEADER_BYTES + length;
+        }
+        return new ReadResult(entries, new Position(segment, offset));
+    }
+
+    /**
+     * Deletes sealed segments numbered below {@code segment}.
+     */
+    void deleteSegmentsBefore(long segment) {
+        for (long number : listSegments()) {
+            if (number >= segment || number >= committed.segment()) {
+                return;
+            }
+            readMappings.remove(number);
+            try {
+                Files.deleteIfExists(segmentPath(number));
+            } catch (IOException e) {
+                logger.warn("Failed to delete audit journal segment {}", number, e);
+            }
+        }
+    }
+
+    long firstSegment() {
+        TreeSet<Long> segments = listSegments();
+        return segments.isEmpty() ? committed.segment() : segments.first();
+    }
+
+    private void rotate() {
+        activeSegment.force();
+        activeSegmentNumber++;
+        try {
+            activeSegment = map(activeSegmentNumber, FileChannel.MapMode.READ_WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create audit journal segment " + activeSegmentNumber, e);
+        }
+        logger.info("Audit journal rotated to segment {}", activeSegmentNumber);
+    }
+
+    /**
+     * Finds the end of the valid records in a segment and zeroes anything torn after it.
+     */
+    private int recoverEnd(MappedByteBuffer segment) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segment.capacity()) {
+            int length = segment.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segment.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != segment.getInt(offset + 4)) {
+                logger.warn("Discarding torn audit journal record at offset {}", offset);
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+
+        if (offset + HEADER_BYTES <= segment.capacity() && segment.getInt(offset) != 0) {
+            for (int i = offset; i < segment.capacity(); i++) {
+                segment.put(i, (byte) 0);
+            }
+            segment.force();
+        }
+        return offset;
+    }
+
+    private MappedByteBuffer readMapping(long segment) {
+        // Separate read-only mappings share the page cache with the writer's mapping
+        return readMappings.computeIfAbsent(segment, number -> {
+            try {
+                return map(number, FileChannel.MapMode.READ_ONLY);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map audit journal segment " + number, e);
+            }
+        });
+    }
+
+    private MappedByteBuffer map(long segment, FileChannel.MapMode mode) throws IOException {
+        Path path = segmentPath(segment);
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_WRITE
+            ? new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+            : new StandardOpenOption[] {StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = mode == FileChannel.MapMode.READ_WRITE ? segmentBytes : channel.size();
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    private TreeSet<Long> listSegments() {
+        TreeSet<Long> segments = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list audit journal segments in " + dir, e);
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static byte[] encode(AuditLogWriter.AuditEntry entry) {
+        byte[] action = entry.actionTaken().getBytes(StandardCharsets.UTF_8);
+        byte[] comments = entry.comments() != null ? entry.comments().getBytes(StandardCharsets.UTF_8) : null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 + action.length + 8 + 4 + 16 + 8 + 4 + (comments != null ? comments.length : 0));
+        buffer.putInt(action.length).put(action);
+        buffer.putLong(entry.actionDate().toEpochSecond(ZoneOffset.UTC)).putInt(entry.actionDate().getNano());
+        buffer.putLong(entry.requestId().getMostSignificantBits()).putLong(entry.requestId().getLeastSignificantBits());
+        buffer.putLong(entry.userId());
+        if (comments == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(comments.length).put(comments);
+        }
+        return buffer.array();
+    }
+
+    private static AuditLogWriter.AuditEntry decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte[] action = new byte[buffer.getInt()];
+        buffer.get(action);
+        LocalDateTime actionDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        UUID requestId = new UUID(buffer.getLong(), buffer.getLong());
+        long userId = buffer.getLong();
+        int commentsLength = buffer.getInt();
+        String comments = null;
+        if (commentsLength >= 0) {
+            byte[] bytes = new byte[commentsLength];
+            buffer.get(bytes);
+            comments = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new AuditLogWriter.AuditEntry(new String(action, StandardCharsets.UTF_8), comments, actionDate, requestId, userId);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (activeSegment != null) {
+            appendLock.lock();
+            try {
+                activeSegment.force();
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+}
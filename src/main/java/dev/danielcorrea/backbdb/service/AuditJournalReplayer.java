@@ -0,0 +1,151 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Rebuilds approval_history from the audit journal, for example after restoring the
+ * database from a backup taken before an outage.
+ *
+ * Journal-only records (request creation) are not replayed. A record goes to approval_history,
+ * or to approval_history_archive when {@link RequestArchiver} has moved its request to
+ * requests_archive. Inserts are idempotent: a journal record is skipped when a row with the same
+ * request, action, date and user already exists there, or when its request exists in neither
+ * table; skipped records are counted in the replay summary.
+ * Triggered at startup with {@code --audit.journal.replay-since=2026-01-31T00:00}.
+ */
+@Service
+public class AuditJournalReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournalReplayer.class);
+
+    private static final String INSERT_IF_MISSING =
+        "INSERT INTO approval_history (action_taken, comments, action_date, request_id, user_id) "
+            + "SELECT ?, ?, ?, r.id, ? FROM requests r "
+            + "WHERE r.id = ? AND NOT EXISTS (SELECT 1 FROM approval_history h "
+            + "WHERE h.request_id = r.id AND h.action_taken = ? AND h.action_date = ? AND h.user_id = ?)";
+
+    // An archived request's history keeps the ids approval_history gave it, so the row takes an id
+    // there and moves to the archive table in the same transaction
+    private static final String INSERT_ARCHIVED_IF_MISSING =
+        "INSERT INTO approval_history (action_taken, comments, action_date, request_id, user_id) "
+            + "SELECT ?, ?, ?, r.id, ? FROM requests_archive r "
+            + "WHERE r.id = ? AND NOT EXISTS (SELECT 1 FROM approval_history_archive h "
+            + "WHERE h.request_id = r.id AND h.action_taken = ? AND h.action_date = ? AND h.user_id = ?)";
+
+    private static final String MOVE_INSERTED_TO_ARCHIVE =
+        "INSERT INTO approval_history_archive (id, action_taken, comments, action_date, request_id, user_id) "
+            + "SELECT id, action_taken, comments, action_date, request_id, user_id FROM approval_history WHERE id = LAST_INSERT_ID()";
+
+    private static final int READ_BATCH = 1000;
+
+    private final AuditJournal auditJournal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${audit.journal.replay-since:}")
+    private String replaySince;
+
+    public AuditJournalReplayer(AuditJournal auditJournal, JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.auditJournal = auditJournal;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (replaySince == null || replaySince.isBlank()) {
+            return;
+        }
+        if (!auditJournal.isEnabled()) {
+            logger.warn("audit.journal.replay-since is set but the audit journal is disabled; nothing to replay");
+            return;
+        }
+        replay(LocalDateTime.parse(replaySince));
+    }
+
+    /**
+     * Re-inserts every retained journal record dated at or after {@code since} that is missing
+     * from approval_history.
+     *
+     * @return Number of rows inserted
+     */
+    public long replay(LocalDateTime since) {
+        long read = 0;
+        long inserted = 0;
+        AuditJournal.Position position = AuditJournal.Position.START;
+        while (true) {
+            AuditJournal.ReadResult result = auditJournal.read(position, READ_BATCH);
+            if (result.entries().isEmpty()) {
+                break;
+            }
+            List<AuditLogWriter.AuditEntry> entries = result.entries().stream()
+                .filter(entry -> !entry.journalOnly() && !entry.actionDate().isBefore(since))
+                .toList();
+            read += entries.size();
+            inserted += insertMissing(entries);
+            position = result.next();
+        }
+        long skipped = read - inserted;
+        if (skipped > 0) {
+            logger.warn("Audit journal replay since {}: {} records read, {} rows inserted, {} skipped as already present "
+                    + "or for requests that exist in neither requests nor requests_archive", since, read, inserted, skipped);
+        } else {
+            logger.info("Audit journal replay since {}: {} records read, {} rows inserted", since, read, inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * Inserts the entries that are not in approval_history, or in approval_history_archive for
+     * archived requests, yet.
+     *
+     * @return Number of rows inserted
+     */
+    int insertMissing(List<AuditLogWriter.AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IF_MISSING, entries.stream().map(AuditJournalReplayer::params).toList());
+        int inserted = 0;
+        for (int i = 0; i < counts.length; i++) {
+            // Not inserted: present already, or its request is archived (a request is never in both tables)
+            inserted += counts[i] > 0 ? counts[i] : insertArchivedIfMissing(entries.get(i));
+        }
+        return inserted;
+    }
+
+    private int insertArchivedIfMissing(AuditLogWriter.AuditEntry entry) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(INSERT_ARCHIVED_IF_MISSING, params(entry)) == 0) {
+                return 0;
+            }
+            jdbcTemplate.update(MOVE_INSERTED_TO_ARCHIVE);
+            jdbcTemplate.update("DELETE FROM approval_history WHERE id = LAST_INSERT_ID()");
+            return 1;
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private static Object[] params(AuditLogWriter.AuditEntry entry) {
+        Timestamp actionDate = Timestamp.valueOf(entry.actionDate());
+        return new Object[] {
+            entry.actionTaken(), entry.comments(), actionDate, entry.userId(),
+            UuidBinary.toBytes(entry.requestId()), entry.actionTaken(), actionDate, entry.userId()
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Ships audit journal records into approval_history in the background. Journal-only records
+ * (request creation) are skipped, so approval_history holds the same decisions with the journal
+ * on or off.
+ *
+ * Records are read from the last checkpoint and written with {@link AuditLogWriter#writeBatch},
+ * then the checkpoint advances. If the database is down the batch fails and is retried on the
+ * next run; decisions keep appending to the journal meanwhile. The first batch after a start
+ * may overlap rows shipped just before a crash, so it goes through the idempotent replay insert.
+ * Segments are deleted once shipped, keeping the newest {@code audit.journal.retained-segments}
+ * for {@link AuditJournalReplayer}.
+ */
+@Service
+public class AuditJournalShipper {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournalShipper.class);
+
+    private final AuditJournal auditJournal;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditJournalReplayer auditJournalReplayer;
+
+    @Value("${audit.journal.dir:./data/audit-journal}")
+    private String journalDir;
+
+    @Value("${audit.journal.ship-batch-size:1000}")
+    private int shipBatchSize;
+
+    @Value("${audit.journal.retained-segments:16}")
+    private int retainedSegments;
+
+    private Path checkpointFile;
+    private AuditJournal.Position checkpoint = AuditJournal.Position.START;
+    private boolean firstBatch = true;
+
+    public AuditJournalShipper(AuditJournal auditJournal, AuditLogWriter auditLogWriter,
+                               AuditJournalReplayer auditJournalReplayer) {
+        this.auditJournal = auditJournal;
+        this.auditLogWriter = auditLogWriter;
+        this.auditJournalReplayer = auditJournalReplayer;
+    }
+
+    @PostConstruct
+    public void loadCheckpoint() throws IOException {
+        checkpointFile = Paths.get(journalDir).resolve("checkpoint");
+        if (Files.exists(checkpointFile)) {
+            String[] parts = Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim().split(" ");
+            checkpoint = new AuditJournal.Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+        }
+    }
+
+    /**
+     * Ships everything appended since the last checkpoint.
+     */
+    @Scheduled(fixedDelayString = "${audit.journal.ship-interval-ms:200}")
+    public void ship() {
+        if (!auditJournal.isEnabled()) {
+            return;
+        }
+
+        try {
+            while (true) {
+                AuditJournal.ReadResult result = auditJournal.read(checkpoint, shipBatchSize);
+                if (result.entries().isEmpty()) {
+                    return;
+                }
+
+                List<AuditLogWriter.AuditEntry> entries = result.entries().stream()
+                    .filter(entry -> !entry.journalOnly())
+                    .toList();
+                if (firstBatch) {
+                    auditJournalReplayer.insertMissing(entries);
+                    firstBatch = false;
+                } else if (!entries.isEmpty()) {
+                    auditLogWriter.writeBatch(entries);
+                }
+                saveCheckpoint(result.next());
+                auditJournal.deleteSegmentsBefore(checkpoint.segment() - retainedSegments);
+            }
+        } catch (RuntimeException | IOException e) {
+            logger.warn("Audit journal shipping paused at segment {} offset {}: {}",
+                    checkpoint.segment(), checkpoint.offset(), e.getMessage());
+        }
+    }
+
+    private void saveCheckpoint(AuditJournal.Position position) throws IOException {
+        Path temp = checkpointFile.resolveSibling("checkpoint.tmp");
+        Files.writeString(temp, position.segment() + " " + position.offset(), StandardCharsets.US_ASCII);
+        Files.move(temp, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        checkpoint = position;
+    }
+}
@@ -0,0 +1,288 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.danielcorrea.backbdb.model.RequestLog;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Append-only writer for approval audit entries ({@link RequestLog} rows).
+ *
+ * In {@link DurabilityMode#SYNC} mode the row is inserted in the caller's transaction, so it
+ * commits atomically with the decision and costs no connection or commit of its own;
+ * concurrent decisions share log flushes through the database's own group commit.
+ *
+ * In {@link DurabilityMode#ASYNC} mode entries are queued after their transaction commits and
+ * flushed by a single background thread as one multi-row INSERT per batch, in one transaction.
+ * A batch is flushed when it reaches {@code audit.writer.max-batch-size} entries or when its
+ * oldest entry has waited {@code audit.writer.flush-interval-ms}. The caller returns
+ * immediately; entries still queued are lost if the process dies.
+ *
+ * When the {@link AuditJournal} is enabled, entries are appended to the local journal
+ * instead and {@link AuditJournalShipper} writes them to the database in the background.
+ * Request creation is recorded with {@link #journal} and only ever kept in the journal:
+ * approval_history holds decisions only.
+ *
+ * Writes that happen after the caller's transaction committed (journal appends, ASYNC flushes)
+ * cannot fail the caller's already committed decision, so their failures are logged and counted
+ * in {@code audit.writer.failed} (tag {@code path}: {@code journal} or {@code async}) instead.
+ */
+@Service
+public class AuditLogWriter {
+
+    /**
+     * How long callers wait for their audit entry to reach the database.
+     */
+    public enum DurabilityMode {
+        /** The entry is written in the caller's transaction. */
+        SYNC,
+        /** Caller returns immediately; the entry is written behind. */
+        ASYNC
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO approval_history (action_taken, comments, action_date, request_id, user_id) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditJournal auditJournal;
+    private final Counter journalFailures;
+    private final Counter asyncFailures;
+
+    @Value("${audit.writer.mode:SYNC}")
+    private DurabilityMode mode;
+
+    @Value("${audit.writer.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${audit.writer.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${audit.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<AuditEntry> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          AuditJournal auditJournal, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditJournal = auditJournal;
+        this.journalFailures = failureCounter(meterRegistry, "journal");
+        this.asyncFailures = failureCounter(meterRegistry, "async");
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("audit.writer.failed")
+            .description("Audit entries that could not be written after their transaction committed")
+            .tag("path", path)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = new Thread(this::flushLoop, "audit-log-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("Audit log writer started in {} mode (batch size {}, flush interval {} ms)",
+                mode, maxBatchSize, flushIntervalMs);
+    }
+
+    /**
+     * Appends an audit entry: in SYNC mode within the current transaction, otherwise once
+     * it commits. Only the ids of the referenced request and user are used.
+     *
+     * @param log The log entry to write
+     * @throws org.springframework.dao.DataAccessException in SYNC mode if the row cannot be inserted
+     */
+    public void append(RequestLog log) {
+        AuditEntry entry = toEntry(log);
+        if (auditJournal.isEnabled()) {
+            TransactionCallbacks.afterCommit(() -> appendToJournal(entry));
+        } else if (mode == DurabilityMode.SYNC) {
+            insertBatch(List.of(entry));
+        } else {
+            TransactionCallbacks.afterCommit(() -> submit(entry));
+        }
+    }
+
+    /**
+     * Appends an event to the audit journal once the current transaction commits, without ever
+     * writing it to approval_history; does nothing when the journal is disabled.
+     *
+     * @param log The log entry to journal
+     */
+    public void journal(RequestLog log) {
+        if (auditJournal.isEnabled()) {
+            AuditEntry entry = toEntry(log);
+            TransactionCallbacks.afterCommit(() -> appendToJournal(entry));
+        }
+    }
+
+    /**
+     * Appends to the journal after commit; a failure (disk full, corrupt segment) is logged and
+     * counted, since the decision it records has already committed.
+     */
+    private void appendToJournal(AuditEntry entry) {
+        try {
+            auditJournal.append(entry);
+        } catch (RuntimeException e) {
+            journalFailures.increment();
+            logger.error("Failed to append audit entry to the journal: {}", entry, e);
+        }
+    }
+
+    private static AuditEntry toEntry(RequestLog log) {
+        return new AuditEntry(
+            log.getActionTaken(),
+            log.getComments(),
+            log.getActionDate() != null ? log.getActionDate() : LocalDateTime.now(),
+            log.getRequest().getId(),
+            log.getUser().getId()
+        );
+    }
+
+    /**
+     * Writes entries straight to the database as multi-row INSERTs in one transaction,
+     * bypassing the queue. Used to ship entries that are already durable in the journal.
+     */
+    void writeBatch(List<AuditEntry> entries) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < entries.size(); from += maxBatchSize) {
+                insertBatch(entries.subList(from, Math.min(entries.size(), from + maxBatchSize)));
+            }
+        });
+    }
+
+    /**
+     * Queues an entry that is already committed on the caller's side for the background flusher.
+     */
+    void submit(AuditEntry entry) {
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing audit entry for request " + entry.requestId(), e);
+        }
+    }
+
+    private void flushLoop() {
+        List<AuditEntry> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Fills the batch until it is full or the first entry has waited the flush interval.
+     */
+    private void collectBatch(List<AuditEntry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            AuditEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch));
+        } catch (RuntimeException e) {
+            asyncFailures.increment(batch.size());
+            logger.error("Failed to write {} audit entries: {}", batch.size(), batch, e);
+        }
+    }
+
+    private void insertBatch(List<AuditEntry> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] params = new Object[batch.size() * 5];
+        int p = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+
+            AuditEntry entry = batch.get(i);
+            params[p++] = entry.actionTaken();
+            params[p++] = entry.comments();
+            params[p++] = Timestamp.valueOf(entry.actionDate());
+            params[p++] = UuidBinary.toBytes(entry.requestId());
+            params[p++] = entry.userId();
+        }
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    /**
+     * Stops accepting work and flushes everything still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Column values of one approval_history row.
+     */
+    record AuditEntry(String actionTaken, String comments, LocalDateTime actionDate, UUID requestId, Long userId) {
+
+        /**
+         * Whether the entry stays in the journal and is never written to approval_history.
+         */
+        boolean journalOnly() {
+            return "CREATED".equals(actionTaken);
+        }
+    }
+}
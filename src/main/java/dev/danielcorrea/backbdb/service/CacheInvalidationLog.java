@@ -0,0 +1,223 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the in-process caches of every instance through the cache_invalidation_log table.
+ *
+ * {@link #invalidate} appends a row just before the surrounding transaction commits, so the row
+ * exists exactly when the change does, and evicts the local entry after the commit. Every instance
+ * tails the table from its high-water mark every {@code cache.invalidation.poll-interval-ms} and
+ * evicts the logged entries, so caches converge within that interval of a commit.
+ *
+ * Ids are allocated before commit, so a row can become visible after a higher id was read. Rows
+ * newer than {@code cache.invalidation.settle-ms} (by the database clock) are therefore applied
+ * but kept above the high-water mark and read again; the mark only passes a row once it and every
+ * lower row are older than that. A row first seen unsettled is applied a second time when it
+ * settles, which also evicts values reloaded from a replica that had not caught up yet, so the
+ * settle time should be at least {@code datasource.replicas.max-lag-ms}.
+ *
+ * If the log cannot be read for {@code cache.invalidation.max-staleness-ms}, every cache is cleared
+ * and tailing restarts from the end of the log.
+ */
+@Service
+public class CacheInvalidationLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationLog.class);
+
+    private static final String INSERT = "INSERT INTO cache_invalidation_log (cache_name, cache_key) VALUES (?, ?)";
+
+    private static final String TAIL =
+        "SELECT id, cache_name, cache_key, created_at < NOW(6) - INTERVAL ? MICROSECOND AS settled "
+            + "FROM cache_invalidation_log WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String PURGE =
+        "DELETE FROM cache_invalidation_log WHERE created_at < NOW(6) - INTERVAL ? HOUR LIMIT ?";
+
+    private static final int PURGE_CHUNK = 10_000;
+
+    /**
+     * One logged invalidation; a null key invalidates the whole cache.
+     */
+    record Entry(long id, String cacheName, String cacheKey, boolean settled) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    @Value("${cache.invalidation.settle-ms:3000}")
+    private long settleMs;
+
+    @Value("${cache.invalidation.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${cache.invalidation.max-staleness-ms:30000}")
+    private long maxStalenessMs;
+
+    @Value("${cache.invalidation.retention-hours:24}")
+    private int retentionHours;
+
+    /** Every row up to this id has settled and been applied; -1 until the first read of the log. */
+    private long highWaterMark = -1;
+
+    /** Rows above the high-water mark that were applied before they settled. */
+    private final Set<Long> pending = new HashSet<>();
+
+    private long lastPollMs = System.currentTimeMillis();
+
+    // Guards the poll state
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public CacheInvalidationLog(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Invalidates an entry, or the whole cache when the key is null, on every instance once the
+     * current transaction commits. Without a transaction it is logged and evicted immediately.
+     *
+     * @param cacheName One of the cache names of {@code CacheConfig}
+     * @param key The cache key, or null for all entries
+     */
+    public void invalidate(String cacheName, Object key) {
+        String cacheKey = key != null ? key.toString() : null;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            jdbcTemplate.update(INSERT, cacheName, cacheKey);
+            evict(cacheName, cacheKey);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jdbcTemplate.update(INSERT, cacheName, cacheKey);
+            }
+
+            @Override
+            public void afterCommit() {
+                evict(cacheName, cacheKey);
+            }
+        });
+    }
+
+    /**
+     * Applies the invalidations logged since the last poll.
+     * Run by {@code FreshnessScheduler} on a thread of its own.
+     */
+    public void poll() {
+        pollLock.lock();
+        try {
+            pollOnce();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void pollOnce() {
+        long now = System.currentTimeMillis();
+        try {
+            if (highWaterMark < 0) {
+                highWaterMark = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_log", Long.class);
+            }
+            long cursor = highWaterMark;
+            boolean settledSoFar = true;
+            List<Entry> entries;
+            do {
+                entries = jdbcTemplate.query(TAIL,
+                    (rs, rowNum) -> new Entry(rs.getLong("id"), rs.getString("cache_name"),
+                        rs.getString("cache_key"), rs.getBoolean("settled")),
+                    settleMs * 1000, cursor, batchSize);
+                settledSoFar = apply(entries, settledSoFar);
+                if (!entries.isEmpty()) {
+                    cursor = entries.get(entries.size() - 1).id();
+                }
+            } while (entries.size() == batchSize);
+            lastPollMs = now;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the cache invalidation log", e);
+            if (now - lastPollMs > maxStalenessMs) {
+                logger.warn("Cache invalidations unread for {} ms, clearing all caches", now - lastPollMs);
+                cacheManager.getCacheNames().forEach(name -> evict(name, null));
+                highWaterMark = -1;
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * Applies a page of the log, in id order, and advances the high-water mark over the settled prefix.
+     *
+     * @param settledSoFar Whether every row before this page has settled
+     * @return Whether every row up to the end of this page has settled
+     */
+    boolean apply(List<Entry> entries, boolean settledSoFar) {
+        for (Entry entry : entries) {
+            boolean appliedBefore = pending.contains(entry.id());
+            if (!appliedBefore) {
+                evict(entry.cacheName(), entry.cacheKey());
+            }
+            if (settledSoFar && entry.settled()) {
+                if (appliedBefore) {
+                    evict(entry.cacheName(), entry.cacheKey());
+                    pending.remove(entry.id());
+                }
+                highWaterMark = entry.id();
+            } else {
+                settledSoFar = false;
+                pending.add(entry.id());
+            }
+        }
+        return settledSoFar;
+    }
+
+    long getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    void setHighWaterMark(long highWaterMark) {
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * Deletes log rows older than the retention, in chunks.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval-ms:3600000}",
+        initialDelayString = "${cache.invalidation.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE, retentionHours, PURGE_CHUNK);
+            } while (deleted == PURGE_CHUNK);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to purge the cache invalidation log", e);
+        }
+    }
+
+    private void evict(String cacheName, String cacheKey) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (cacheKey == null) {
+            cache.invalidate();
+        } else {
+            cache.evictIfPresent(cacheKey);
+        }
+    }
+}
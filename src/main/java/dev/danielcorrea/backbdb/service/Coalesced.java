@@ -0,0 +1,20 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose concurrent identical calls share one execution: a call with the same method and
+ * equal arguments as one already running waits for that call and returns its result (or exception)
+ * instead of running the query again. See {@code CoalescingAspect}.
+ *
+ * The result object is shared by every caller of the execution, so it must not be modified.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
@@ -0,0 +1,235 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.dto.DecisionLatencyDTO;
+import dev.danielcorrea.backbdb.dto.LatencyPercentilesDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Time-to-decision histograms (request creation to approval or rejection), overall,
+ * per approver and per request type.
+ *
+ * Decisions are recorded into HdrHistogram {@link Recorder}s, whose recordValue is wait-free
+ * and does not allocate, with one-second resolution. Every {@code latency.window-ms} the
+ * recorders are swapped: the finished interval becomes the "window" view and is added to a
+ * "rolling" histogram covering the last {@code latency.rolling-windows} intervals (expired
+ * intervals are kept compressed and subtracted when they fall out). Percentiles are computed
+ * at rotation, so reading them is free.
+ *
+ * At most {@code latency.max-approvers} approvers and {@code latency.max-types} request types
+ * get their own histogram; the rest share an "Other" histogram.
+ */
+@Service
+public class DecisionLatencyService {
+
+    /**
+     * Which period the percentiles cover.
+     */
+    public enum View {
+        /** The last completed window. */
+        WINDOW,
+        /** The last {@code latency.rolling-windows} windows. */
+        ROLLING
+    }
+
+    private static final String OTHER = "Other";
+
+    @Value("${latency.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${latency.rolling-windows:60}")
+    private int rollingWindows;
+
+    @Value("${latency.max-approvers:100}")
+    private int maxApprovers;
+
+    @Value("${latency.max-types:50}")
+    private int maxTypes;
+
+    @Value("${latency.max-trackable-days:365}")
+    private int maxTrackableDays;
+
+    private final Map<Long, Series> approverSeries = new ConcurrentHashMap<>();
+    private final Map<Integer, Series> typeSeries = new ConcurrentHashMap<>();
+
+    private long maxTrackableSeconds;
+    private Series overall;
+    private Series otherApprovers;
+    private Series otherTypes;
+    private volatile LocalDateTime updatedAt;
+
+    @PostConstruct
+    public void init() {
+        maxTrackableSeconds = maxTrackableDays * 86_400L;
+        overall = new Series(null, "All");
+        otherApprovers = new Series(null, OTHER);
+        otherTypes = new Series(null, OTHER);
+    }
+
+    /**
+     * Records how long a request waited for its decision.
+     * Does not allocate once the approver's and type's histograms exist.
+     *
+     * @param request The decided request
+     * @param decidedAt When the decision was taken
+     */
+    public void recordDecision(ApprovalRequest request, LocalDateTime decidedAt) {
+        LocalDateTime createdAt = request.getCreatedAt();
+        if (createdAt == null) {
+            return;
+        }
+        long seconds = decidedAt.toEpochSecond(ZoneOffset.UTC) - createdAt.toEpochSecond(ZoneOffset.UTC);
+        seconds = Math.min(Math.max(seconds, 0), maxTrackableSeconds);
+
+        overall.recorder.recordValue(seconds);
+        if (request.getApprover() != null) {
+            seriesFor(approverSeries, request.getApprover().getId(), request.getApprover().getFullName(),
+                maxApprovers, otherApprovers).recorder.recordValue(seconds);
+        }
+        seriesFor(typeSeries, request.getType().getId(), request.getType().getName(),
+            maxTypes, otherTypes).recorder.recordValue(seconds);
+    }
+
+    /**
+     * Percentiles for the requested view.
+     */
+    public DecisionLatencyDTO getDecisionLatency(View view) {
+        return new DecisionLatencyDTO(
+            view.name(),
+            view == View.WINDOW ? windowMs / 1000 : windowMs * rollingWindows / 1000,
+            overall.percentiles(view),
+            percentiles(typeSeries.values(), otherTypes, view),
+            percentiles(approverSeries.values(), otherApprovers, view),
+            updatedAt
+        );
+    }
+
+    /**
+     * Closes the current window and refreshes both views.
+     */
+    @Scheduled(fixedRateString = "${latency.window-ms:60000}", initialDelayString = "${latency.window-ms:60000}")
+    public synchronized void rotate() {
+        overall.rotate();
+        otherApprovers.rotate();
+        otherTypes.rotate();
+        approverSeries.values().forEach(Series::rotate);
+        typeSeries.values().forEach(Series::rotate);
+        updatedAt = LocalDateTime.now();
+    }
+
+    private <K> Series seriesFor(Map<K, Series> series, K key, String name, int max, Series other) {
+        Series existing = series.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        // Checked without locking, so the limit can be overshot by a few concurrent first decisions
+        if (series.size() >= max) {
+            return other;
+        }
+        return series.computeIfAbsent(key, k -> new Series(k instanceof Number number ? number.longValue() : null, name));
+    }
+
+    private static List<LatencyPercentilesDTO> percentiles(Iterable<Series> series, Series other, View view) {
+        List<LatencyPercentilesDTO> result = new ArrayList<>();
+        for (Series s : series) {
+            result.add(s.percentiles(view));
+        }
+        result.add(other.percentiles(view));
+        return result.stream()
+            .filter(p -> p.count() > 0)
+            .sorted(Comparator.comparingLong(LatencyPercentilesDTO::p90Seconds).reversed())
+            .toList();
+    }
+
+    /**
+     * Histograms for one approver, one request type or everything.
+     * Only the rotation thread touches anything but the recorder.
+     */
+    private final class Series {
+
+        private final Long id;
+        private final String name;
+        private final Recorder recorder;
+        private final Histogram rolling;
+        private final byte[][] expired;
+        private int expiredPosition;
+        private Histogram recycled;
+
+        private volatile LatencyPercentilesDTO windowPercentiles;
+        private volatile LatencyPercentilesDTO rollingPercentiles;
+
+        Series(Long id, String name) {
+            this.id = id;
+            this.name = name;
+            this.recorder = new Recorder(1, maxTrackableSeconds, 2);
+            this.rolling = new Histogram(1, maxTrackableSeconds, 2);
+            this.expired = new byte[rollingWindows][];
+            this.windowPercentiles = summarize(rolling);
+            this.rollingPercentiles = windowPercentiles;
+        }
+
+        LatencyPercentilesDTO percentiles(View view) {
+            return view == View.WINDOW ? windowPercentiles : rollingPercentiles;
+        }
+
+        void rotate() {
+            Histogram interval = recorder.getIntervalHistogram(recycled);
+
+            byte[] evicted = expired[expiredPosition];
+            if (evicted != null) {
+                rolling.subtract(decode(evicted));
+            }
+            rolling.add(interval);
+            expired[expiredPosition] = interval.getTotalCount() > 0 ? encode(interval) : null;
+            expiredPosition = (expiredPosition + 1) % expired.length;
+
+            windowPercentiles = summarize(interval);
+            rollingPercentiles = summarize(rolling);
+            recycled = interval;
+        }
+
+        private LatencyPercentilesDTO summarize(Histogram histogram) {
+            return new LatencyPercentilesDTO(
+                id,
+                name,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getMaxValue()
+            );
+        }
+
+        private static byte[] encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            byte[] bytes = new byte[length];
+            buffer.get(0, bytes);
+            return bytes;
+        }
+
+        private static Histogram decode(byte[] bytes) {
+            try {
+                return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Corrupt decision latency window", e);
+            }
+        }
+    }
+}
@@ -12,10 +12,18 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import dev.danielcorrea.backbdb.config.AsyncConfig;
 import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.MimeMessage;
 
+/**
+ * Renders and sends notification emails on the mail executor.
+ * Each notification is timed as {@code email.send}, tagged with its template and outcome;
+ * time spent waiting for a mail thread is {@code email.queue.wait} (see {@link AsyncConfig}).
+ */
 @Service
 public class EmailNotificationService {
 
@@ -23,6 +31,7 @@ public class EmailNotificationService {
 
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
 
     @Value("${mail.from.address}")
     private String fromAddress;
@@ -30,9 +39,11 @@ public class EmailNotificationService {
     @Value("${mail.from.name}")
     private String fromName;
 
-    public EmailNotificationService(JavaMailSender mailSender, SpringTemplateEngine templateEngine) {
+    public EmailNotificationService(JavaMailSender mailSender, SpringTemplateEngine templateEngine,
+                                    MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.templateEngine = templateEngine;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -42,12 +53,10 @@ public class EmailNotificationService {
      * @param request The approval request that was created
      * @param approver The user who needs to approve the request
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendRequestCreatedNotification(ApprovalRequest request, User approver) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            logger.info("Sending request created notification for request ID: {} to approver email: {}",
-                    request.getId(), approver.getEmail());
-
             Context context = new Context();
             context.setVariable("approverName", approver.getFullName());
             context.setVariable("requestId", request.getId().toString());
@@ -65,8 +74,10 @@ public class EmailNotificationService {
                     htmlContent
             );
 
-            logger.info("Request created notification sent successfully to: {}", approver.getEmail());
+            logger.info("Request created notification for request ID: {} sent to: {}", request.getId(), approver.getEmail());
+            recordSend(sample, "request-created", "success");
         } catch (Exception e) {
+            recordSend(sample, "request-created", "failure");
             logger.error("Failed to send request created notification for request ID: {} to approver: {}",
                     request.getId(), approver.getEmail(), e);
         }
@@ -80,12 +91,10 @@ public class EmailNotificationService {
      * @param actionPerformer The user who approved or rejected the request
      * @param comments Optional comments provided during approval/rejection
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendRequestStatusUpdateNotification(ApprovalRequest request, User actionPerformer, String comments) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            logger.info("Sending request status update notification for request ID: {} to creator email: {}",
-                    request.getId(), request.getRequester().getEmail());
-
             Context context = new Context();
             context.setVariable("creatorName", request.getRequester().getFullName());
             context.setVariable("requestId", request.getId().toString());
@@ -107,13 +116,24 @@ public class EmailNotificationService {
                     htmlContent
             );
 
-            logger.info("Request status update notification sent successfully to: {}", request.getRequester().getEmail());
+            logger.info("Request status update notification for request ID: {} sent to: {}",
+                    request.getId(), request.getRequester().getEmail());
+            recordSend(sample, "request-status-update", "success");
         } catch (Exception e) {
+            recordSend(sample, "request-status-update", "failure");
             logger.error("Failed to send request status update notification for request ID: {} to creator email: {}",
                     request.getId(), request.getRequester().getEmail(), e);
         }
     }
 
+    private void recordSend(Timer.Sample sample, String template, String outcome) {
+        sample.stop(Timer.builder("email.send")
+                .description("Time to render and send a notification email")
+                .tag("template", template)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
     /**
      * Helper method to send an email using JavaMailSender.
      *
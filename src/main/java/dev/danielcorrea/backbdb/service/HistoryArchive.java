@@ -0,0 +1,259 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk format for archived approval history, one file per month.
+ *
+ * Rows are written sorted by request id and grouped into gzip-compressed chunks.
+ * An index of chunk key ranges sits at the end of the file, so a lookup for one
+ * request reads the small index and decompresses only the chunks that can contain it.
+ *
+ * Layout: {@code [chunk]* [index] [indexOffset:long] [MAGIC:int]}, where each index
+ * entry is {@code [firstRequestId:16][lastRequestId:16][offset:long][length:int][rows:int]}.
+ */
+public final class HistoryArchive {
+
+    static final int MAGIC = 0x41484152; // "AHAR"
+    private static final int INDEX_ENTRY_BYTES = 16 + 16 + 8 + 4 + 4;
+    private static final int FOOTER_BYTES = 8 + 4;
+
+    private HistoryArchive() {
+    }
+
+    /**
+     * One archived approval_history row, with the actor's name resolved at archive time.
+     */
+    public record Entry(
+        long id,
+        UUID requestId,
+        long userId,
+        String userFullName,
+        String actionTaken,
+        String comments,
+        LocalDateTime actionDate
+    ) {
+    }
+
+    /**
+     * Key range and location of one compressed chunk.
+     */
+    record Chunk(UUID firstRequestId, UUID lastRequestId, long offset, int length, int rows) {
+
+        boolean mayContain(UUID requestId) {
+            return compare(firstRequestId, requestId) <= 0 && compare(requestId, lastRequestId) <= 0;
+        }
+    }
+
+    /**
+     * Orders UUIDs the way MySQL orders their binary(16) form (unsigned, byte by byte).
+     */
+    static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * Streams rows into an archive file. Rows must arrive sorted by request id.
+     */
+    static final class Writer implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final int chunkRows;
+        private final List<Chunk> chunks = new ArrayList<>();
+        private final List<Entry> pending = new ArrayList<>();
+        private long position;
+
+        Writer(Path file, int chunkRows) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.chunkRows = chunkRows;
+        }
+
+        void write(Entry entry) throws IOException {
+            pending.add(entry);
+            if (pending.size() >= chunkRows) {
+                flushChunk();
+            }
+        }
+
+        long rowCount() {
+            return chunks.stream().mapToLong(Chunk::rows).sum() + pending.size();
+        }
+
+        private void flushChunk() throws IOException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            byte[] compressed = compress(pending);
+            writeFully(ByteBuffer.wrap(compressed));
+            chunks.add(new Chunk(
+                pending.get(0).requestId(),
+                pending.get(pending.size() - 1).requestId(),
+                position,
+                compressed.length,
+                pending.size()));
+            position += compressed.length;
+            pending.clear();
+        }
+
+        /**
+         * Writes the remaining rows and the index, and forces the file to disk.
+         */
+        void finish() throws IOException {
+            flushChunk();
+            ByteBuffer index = ByteBuffer.allocate(4 + chunks.size() * INDEX_ENTRY_BYTES + FOOTER_BYTES);
+            index.putInt(chunks.size());
+            for (Chunk chunk : chunks) {
+                putUuid(index, chunk.firstRequestId());
+                putUuid(index, chunk.lastRequestId());
+                index.putLong(chunk.offset());
+                index.putInt(chunk.length());
+                index.putInt(chunk.rows());
+            }
+            index.putLong(position);
+            index.putInt(MAGIC);
+            index.flip();
+            writeFully(index);
+            channel.force(true);
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads the chunk index of an archive file.
+     */
+    static List<Chunk> readIndex(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer footer = readAt(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("Not a history archive: " + file);
+            }
+
+            ByteBuffer index = readAt(channel, indexOffset, (int) (size - FOOTER_BYTES - indexOffset));
+            int count = index.getInt();
+            List<Chunk> chunks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                chunks.add(new Chunk(getUuid(index), getUuid(index), index.getLong(), index.getInt(), index.getInt()));
+            }
+            return chunks;
+        }
+    }
+
+    /**
+     * Decompresses one chunk and returns its rows.
+     */
+    static List<Entry> readChunk(Path file, Chunk chunk) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer compressed = readAt(channel, chunk.offset(), chunk.length());
+            try (DataInputStream in = new DataInputStream(new GZIPInputStream(
+                    new ByteArrayInputStream(compressed.array(), 0, chunk.length())))) {
+                List<Entry> entries = new ArrayList<>(chunk.rows());
+                for (int i = 0; i < chunk.rows(); i++) {
+                    entries.add(readEntry(in));
+                }
+                return entries;
+            }
+        }
+    }
+
+    private static byte[] compress(List<Entry> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            for (Entry entry : entries) {
+                writeEntry(out, entry);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+        out.writeLong(entry.id());
+        out.writeLong(entry.requestId().getMostSignificantBits());
+        out.writeLong(entry.requestId().getLeastSignificantBits());
+        out.writeLong(entry.userId());
+        writeString(out, entry.userFullName());
+        writeString(out, entry.actionTaken());
+        writeString(out, entry.comments());
+        out.writeLong(entry.actionDate().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(entry.actionDate().getNano());
+    }
+
+    private static Entry readEntry(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        UUID requestId = new UUID(in.readLong(), in.readLong());
+        long userId = in.readLong();
+        String userFullName = readString(in);
+        String actionTaken = readString(in);
+        String comments = readString(in);
+        LocalDateTime actionDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        return new Entry(id, requestId, userId, userFullName, actionTaken, comments, actionDate);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive at offset " + (offset + buffer.position()));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,203 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Read side of the approval history archive.
+ * Finds archived rows for a request without touching the database.
+ *
+ * {@code history.archive.dir} must be storage shared by every instance: rows are deleted from the
+ * database once any instance has archived them. Files written by other instances are picked up on
+ * the next lookup after the directory's modification time changes.
+ *
+ * Only months at or after the request's creation month are searched, and within a month
+ * only the chunks whose request id range covers the request are decompressed.
+ * Chunk indexes are cached in memory after first use.
+ */
+@Service
+public class HistoryArchiveReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryArchiveReader.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("approval_history-(\\d{4}-\\d{2})(?:\\.(\\d+))?\\.arc");
+    private static final Comparator<HistoryArchive.Entry> NEWEST_FIRST = Comparator
+        .comparing(HistoryArchive.Entry::actionDate)
+        .thenComparingLong(HistoryArchive.Entry::id)
+        .reversed();
+
+    @Value("${history.archive.dir:./data/history-archive}")
+    private String archiveDir;
+
+    /** Archive files per month; a month has more than one file if it was archived in several passes. */
+    private final NavigableMap<YearMonth, List<Path>> filesByMonth = new ConcurrentSkipListMap<>();
+    private final Map<Path, List<HistoryArchive.Chunk>> indexCache = new ConcurrentHashMap<>();
+
+    /** Modification time of the directory when it was last listed, or null to list it on the next lookup. */
+    private volatile FileTime scannedModifiedTime;
+
+    @PostConstruct
+    public void scanArchiveDirectory() throws IOException {
+        Path dir = Paths.get(archiveDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        scan(dir);
+        logger.info("History archive: {} archived months in {}", filesByMonth.size(), dir.toAbsolutePath());
+    }
+
+    /**
+     * Lists the directory again if files may have been added since the last listing.
+     */
+    private void refresh() {
+        Path dir = Paths.get(archiveDir);
+        try {
+            if (Files.isDirectory(dir) && !Files.getLastModifiedTime(dir).equals(scannedModifiedTime)) {
+                int added = scan(dir);
+                if (added > 0) {
+                    logger.info("History archive: picked up {} new archive files", added);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list history archive directory " + dir, e);
+        }
+    }
+
+    private int scan(Path dir) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(dir);
+        int added = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "approval_history-*.arc")) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && register(YearMonth.parse(matcher.group(1)), file)) {
+                    added++;
+                }
+            }
+        }
+        // A file added within the same clock tick may not move the time, so keep listing until it is older
+        scannedModifiedTime = modified.toMillis() < System.currentTimeMillis() - 1_000 ? modified : null;
+        return added;
+    }
+
+    /**
+     * Returns the path for the next archive file of a month: the first name not yet taken in the
+     * directory, including by files other instances wrote.
+     */
+    Path nextFileFor(YearMonth month) {
+        Path dir = Paths.get(archiveDir);
+        for (int n = 0; ; n++) {
+            Path file = dir.resolve("approval_history-" + month + (n == 0 ? "" : "." + n) + ".arc");
+            if (!Files.exists(file)) {
+                return file;
+            }
+        }
+    }
+
+    /**
+     * Makes an archive file visible to lookups.
+     *
+     * @return false if it was already registered
+     */
+    boolean register(YearMonth month, Path file) {
+        List<Path> current = filesByMonth.getOrDefault(month, List.of());
+        if (current.contains(file)) {
+            return false;
+        }
+        filesByMonth.compute(month, (key, files) -> {
+            if (files != null && files.contains(file)) {
+                return files;
+            }
+            List<Path> updated = files == null ? new ArrayList<>() : new ArrayList<>(files);
+            updated.add(file);
+            return List.copyOf(updated);
+        });
+        return true;
+    }
+
+    /**
+     * Returns all archived history rows of a request, newest first.
+     *
+     * @param requestId The request id
+     * @param createdAt Creation time of the request; no history can be older
+     * @return Archived rows, or an empty list if none were archived
+     */
+    public List<HistoryArchive.Entry> findByRequest(UUID requestId, LocalDateTime createdAt) {
+        refresh();
+        if (filesByMonth.isEmpty()) {
+            return List.of();
+        }
+
+        YearMonth from = createdAt != null ? YearMonth.from(createdAt) : filesByMonth.firstKey();
+        List<HistoryArchive.Entry> result = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        for (List<Path> files : filesByMonth.tailMap(from, true).values()) {
+            for (Path file : files) {
+                for (HistoryArchive.Chunk chunk : chunksOf(file)) {
+                    if (!chunk.mayContain(requestId)) {
+                        continue;
+                    }
+                    for (HistoryArchive.Entry entry : readChunk(file, chunk)) {
+                        // A month re-archived after a crash may repeat rows; ids identify them
+                        if (entry.requestId().equals(requestId) && seenIds.add(entry.id())) {
+                            result.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Returns the most recent archived history row of a request.
+     */
+    public Optional<HistoryArchive.Entry> findLatest(UUID requestId, LocalDateTime createdAt) {
+        return findByRequest(requestId, createdAt).stream().findFirst();
+    }
+
+    private List<HistoryArchive.Chunk> chunksOf(Path file) {
+        return indexCache.computeIfAbsent(file, path -> {
+            try {
+                return HistoryArchive.readIndex(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read archive index " + path, e);
+            }
+        });
+    }
+
+    private List<HistoryArchive.Entry> readChunk(Path file, HistoryArchive.Chunk chunk) {
+        try {
+            return HistoryArchive.readChunk(file, chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive chunk at offset " + chunk.offset() + " of " + file, e);
+        }
+    }
+}
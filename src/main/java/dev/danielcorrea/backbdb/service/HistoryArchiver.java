@@ -0,0 +1,174 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Moves approval history older than the retention window out of the database.
+ *
+ * Each expired month is streamed, sorted by request id, into a compressed chunked archive
+ * file ({@link HistoryArchive}) that is forced to disk before anything is deleted. Only rows
+ * up to the highest id seen when the export started are removed, so rows that arrive during
+ * the run are never lost. The month's partition is dropped when it holds nothing newer (see
+ * {@link HistoryPartitionManager#dropPartition(YearMonth, long)}); otherwise rows are deleted in
+ * small batches to keep lock times short.
+ *
+ * Runs on one instance at a time: each run holds the MySQL named lock {@value #LOCK_NAME}, which
+ * partition maintenance also takes, on a connection of its own that the server frees if that
+ * instance dies. Files go to
+ * {@code history.archive.dir}, which must be shared by every instance (see {@link HistoryArchiveReader}).
+ */
+@Service
+public class HistoryArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryArchiver.class);
+
+    static final String LOCK_NAME = "history-archive";
+
+    private static final String EXPORT_QUERY =
+        "SELECT h.id, h.request_id, h.user_id, u.full_name, h.action_taken, h.comments, h.action_date "
+            + "FROM approval_history h JOIN users u ON u.id = h.user_id "
+            + "WHERE h.action_date >= ? AND h.action_date < ? AND h.id <= ? "
+            + "ORDER BY h.request_id, h.action_date, h.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final HistoryArchiveReader historyArchiveReader;
+    private final HistoryPartitionManager historyPartitionManager;
+
+    @Value("${history.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${history.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${history.archive.chunk-rows:1000}")
+    private int chunkRows;
+
+    @Value("${history.archive.delete-batch-size:5000}")
+    private int deleteBatchSize;
+
+    public HistoryArchiver(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                           HistoryArchiveReader historyArchiveReader, HistoryPartitionManager historyPartitionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyArchiveReader = historyArchiveReader;
+        this.historyPartitionManager = historyPartitionManager;
+
+        // MySQL Connector/J streams rows one by one only with this fetch size
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Archives every month that is entirely older than the retention window, unless another
+     * instance is already doing so.
+     */
+    @Scheduled(cron = "${history.archive.cron:0 30 2 * * *}")
+    public void archiveExpiredHistory() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!NamedLocks.runExclusively(jdbcTemplate, LOCK_NAME, this::archiveExpiredMonths)) {
+            logger.info("History archiving is already running on another instance, skipping");
+        }
+    }
+
+    private void archiveExpiredMonths() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(action_date) FROM approval_history", Timestamp.class);
+        if (oldest == null) {
+            return;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        for (YearMonth month = YearMonth.from(oldest.toLocalDateTime()); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            archiveMonth(month);
+        }
+    }
+
+    /**
+     * Exports one month to an archive file and removes the exported rows from approval_history.
+     * Callers other than the scheduled run must make sure no other instance archives at the same time.
+     *
+     * @return Number of rows archived
+     */
+    public long archiveMonth(YearMonth month) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        Long maxId = jdbcTemplate.queryForObject(
+            "SELECT MAX(id) FROM approval_history WHERE action_date >= ? AND action_date < ?", Long.class, from, to);
+        if (maxId == null) {
+            historyPartitionManager.dropPartition(month, 0);
+            return 0;
+        }
+
+        long rows = export(month, from, to, maxId);
+        purge(month, from, to, maxId);
+        logger.info("Archived {} approval_history rows for {}", rows, month);
+        return rows;
+    }
+
+    private long export(YearMonth month, Timestamp from, Timestamp to, long maxId) {
+        Path target = historyArchiveReader.nextFileFor(month);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.deleteIfExists(temp);
+
+            long rows;
+            try (HistoryArchive.Writer writer = new HistoryArchive.Writer(temp, chunkRows)) {
+                streamingJdbcTemplate.query(EXPORT_QUERY, resultSet -> {
+                    try {
+                        writer.write(new HistoryArchive.Entry(
+                            resultSet.getLong("id"),
+                            UuidBinary.fromBytes(resultSet.getBytes("request_id")),
+                            resultSet.getLong("user_id"),
+                            resultSet.getString("full_name"),
+                            resultSet.getString("action_taken"),
+                            resultSet.getString("comments"),
+                            resultSet.getTimestamp("action_date").toLocalDateTime()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, from, to, maxId);
+                writer.finish();
+                rows = writer.rowCount();
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            historyArchiveReader.register(month, target);
+            return rows;
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to archive approval history for " + month, e);
+        }
+    }
+
+    private void purge(YearMonth month, Timestamp from, Timestamp to, long maxId) {
+        if (historyPartitionManager.dropPartition(month, maxId)) {
+            return;
+        }
+
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                "DELETE FROM approval_history WHERE action_date >= ? AND action_date < ? AND id <= ? LIMIT ?",
+                from, to, maxId, deleteBatchSize);
+        } while (deleted == deleteBatchSize);
+    }
+}
@@ -0,0 +1,139 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the monthly RANGE partitions of approval_history.
+ *
+ * The table is partitioned by the V8 migration. This service adds the partitions for the next
+ * {@code history.partitioning.months-ahead} months ahead of time, holding the named lock
+ * {@value HistoryArchiver#LOCK_NAME} so that instances never alter the table at the same time
+ * as each other or as {@link HistoryArchiver}, which removes archived months with
+ * {@link #dropPartition(YearMonth, long)}.
+ */
+@Service
+public class HistoryPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryPartitionManager.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String CATCH_ALL_PARTITION = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${history.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    public HistoryPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates upcoming monthly partitions, unless another instance is altering the table.
+     * Runs at startup and daily afterwards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${history.partitioning.cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        if (!NamedLocks.runExclusively(jdbcTemplate, HistoryArchiver.LOCK_NAME, this::addUpcomingPartitions)) {
+            logger.info("approval_history is being maintained by another instance, skipping partition maintenance");
+        }
+    }
+
+    private void addUpcomingPartitions() {
+        Set<String> partitions = existingPartitions();
+        if (!partitions.contains(CATCH_ALL_PARTITION)) {
+            logger.warn("approval_history has no {} partition, not adding partitions", CATCH_ALL_PARTITION);
+            return;
+        }
+
+        // Continue right after the newest monthly partition, so a month is never skipped and no
+        // partition ever spans more than one month, even after a long downtime
+        YearMonth next = partitions.stream()
+            .filter(name -> !name.equals(CATCH_ALL_PARTITION))
+            .map(name -> YearMonth.parse(name, PARTITION_NAME))
+            .max(YearMonth::compareTo)
+            .map(newest -> newest.plusMonths(1))
+            .orElse(YearMonth.now());
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE approval_history REORGANIZE PARTITION " + CATCH_ALL_PARTITION
+                    + " INTO (" + partitionClause(month) + ", " + catchAllClause() + ")");
+            logger.info("Added approval_history partition {}", partitionName(month));
+        }
+    }
+
+    /**
+     * Drops the partition holding a month if it exists and holds no row with an id above maxId.
+     * The table is write-locked from the check to the drop, so a row written to the month
+     * meanwhile (journal shipping or replay can write old action dates) is never dropped unseen.
+     * Callers must hold the named lock {@value HistoryArchiver#LOCK_NAME}.
+     *
+     * @return true if a partition was dropped
+     */
+    public boolean dropPartition(YearMonth month, long maxId) {
+        String partition = partitionName(month);
+        if (!existingPartitions().contains(partition)) {
+            return false;
+        }
+        Boolean dropped = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LOCK TABLES approval_history WRITE");
+                try {
+                    long newestId;
+                    try (ResultSet resultSet = statement.executeQuery(
+                            "SELECT COALESCE(MAX(id), 0) FROM approval_history PARTITION (" + partition + ")")) {
+                        resultSet.next();
+                        newestId = resultSet.getLong(1);
+                    }
+                    if (newestId > maxId) {
+                        return false;
+                    }
+                    statement.execute("ALTER TABLE approval_history DROP PARTITION " + partition);
+                    return true;
+                } finally {
+                    statement.execute("UNLOCK TABLES");
+                }
+            }
+        });
+        if (Boolean.TRUE.equals(dropped)) {
+            logger.info("Dropped approval_history partition {}", partition);
+            return true;
+        }
+        return false;
+    }
+
+    private Set<String> existingPartitions() {
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'approval_history' AND PARTITION_NAME IS NOT NULL",
+            String.class));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    private static String partitionClause(YearMonth month) {
+        return "PARTITION " + partitionName(month) + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "'))";
+    }
+
+    private static String catchAllClause() {
+        return "PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN MAXVALUE";
+    }
+}
@@ -0,0 +1,51 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Helpers for running work on one instance at a time with a MySQL named lock.
+ */
+public final class NamedLocks {
+
+    private NamedLocks() {
+    }
+
+    /**
+     * Runs the work while holding the named lock, unless another session holds it.
+     * The lock is held on a connection of its own, which the server frees if this instance dies.
+     *
+     * @param jdbcTemplate Template whose DataSource provides the lock connection
+     * @param name The lock name
+     * @param work The work to run
+     * @return true if the lock was taken and the work ran, false if another session holds it
+     */
+    public static boolean runExclusively(JdbcTemplate jdbcTemplate, String name, Runnable work) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)", name)) {
+                return false;
+            }
+            try {
+                work.run();
+                return true;
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)", name);
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean namedLock(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+}
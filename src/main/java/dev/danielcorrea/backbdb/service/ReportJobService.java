@@ -0,0 +1,445 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.dto.ReportJobDTO;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Asynchronous CSV reports of every request created in a date range, with requester,
+ * approver, type and decision.
+ *
+ * Jobs run on a small dedicated executor so they never take web or scheduler threads.
+ * Each job walks {@code requests} in keyset order, {@code report.chunk-size} rows per query,
+ * joining the users, type and decision row of each chunk, so no query holds a long-running
+ * cursor or lock. Output is written as gzip CSV to a temporary file and moved into
+ * {@code report.dir} when complete.
+ *
+ * Job state is stored in report_jobs and {@code report.dir} must be storage shared by every
+ * instance, so any instance answers status and download requests for a job another one ran.
+ * The instance running a job also keeps it in memory and answers polls for it from there.
+ * Unfinished jobs whose instance stopped touching them for {@code report.stale-minutes} are
+ * marked failed. Finished jobs and their files are removed after {@code report.retention-hours}.
+ */
+@Service
+public class ReportJobService {
+
+    /**
+     * Lifecycle of a report job.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final String CSV_HEADER =
+        "request_id,title,status,type,requester,requester_email,approver,approver_email,"
+            + "created_at,decided_at,decision,decision_comment";
+
+    private static final String COUNT_QUERY =
+        "SELECT (SELECT COUNT(*) FROM requests WHERE created_at >= ? AND created_at < ?) "
+            + "+ (SELECT COUNT(*) FROM requests_archive WHERE created_at >= ? AND created_at < ?)";
+
+    private static final String CHUNK_COLUMNS =
+        "SELECT id, title, status, created_at, latest_comment, last_action_at, requester_id, approver_id, type_id ";
+
+    private static final String CHUNK_KEYSET =
+        "WHERE created_at >= ? AND created_at < ? "
+            + "AND (created_at > ? OR (created_at = ? AND id > ?)) ORDER BY created_at, id LIMIT ?";
+
+    // Chunk of requests by keyset over the hot and archive tables, then one join per chunk; the
+    // decision comes from whichever history table has the request's rows, and falls back to the
+    // request's own status and denormalized last action when its history has been archived to a file
+    private static final String CHUNK_QUERY =
+        "SELECT r.id, r.title, r.status, r.created_at, t.name AS type_name, "
+            + "req.full_name AS requester_name, req.email AS requester_email, "
+            + "app.full_name AS approver_name, app.email AS approver_email, "
+            + "COALESCE(h.action_date, ha.action_date, CASE WHEN r.status <> 'PENDING' THEN r.last_action_at END) AS decided_at, "
+            + "COALESCE(h.action_taken, ha.action_taken, CASE WHEN r.status <> 'PENDING' THEN r.status END) AS decision, "
+            + "COALESCE(h.comments, ha.comments, r.latest_comment) AS decision_comment "
+            + "FROM ((" + CHUNK_COLUMNS + "FROM requests " + CHUNK_KEYSET + ") UNION ALL ("
+            + CHUNK_COLUMNS + "FROM requests_archive " + CHUNK_KEYSET + ") ORDER BY created_at, id LIMIT ?) r "
+            + "JOIN request_types t ON t.id = r.type_id "
+            + "JOIN users req ON req.id = r.requester_id "
+            + "LEFT JOIN users app ON app.id = r.approver_id "
+            + "LEFT JOIN approval_history h ON h.id = (SELECT MAX(d.id) FROM approval_history d "
+            + "WHERE d.request_id = r.id AND d.action_taken IN ('APPROVED', 'REJECTED')) "
+            + "LEFT JOIN approval_history_archive ha ON ha.id = (SELECT MAX(d.id) FROM approval_history_archive d "
+            + "WHERE d.request_id = r.id AND d.action_taken IN ('APPROVED', 'REJECTED')) "
+            + "ORDER BY r.created_at, r.id";
+
+    private static final byte[] MIN_ID = new byte[16];
+
+    // First characters that make a spreadsheet evaluate a cell
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String UPDATE_JOB =
+        "UPDATE report_jobs SET status = ?, rows_written = ?, total_rows = ?, file_name = ?, file_bytes = ?, "
+            + "error = ?, completed_at = ?, heartbeat_at = NOW(6) WHERE id = ?";
+
+    private static final String SELECT_JOB =
+        "SELECT id, status, range_from, range_to, rows_written, total_rows, file_name, file_bytes, error, "
+            + "submitted_at, completed_at FROM report_jobs WHERE id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${report.dir:./data/reports}")
+    private String reportDir;
+
+    @Value("${report.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${report.executor.threads:2}")
+    private int threads;
+
+    @Value("${report.executor.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${report.retention-hours:24}")
+    private int retentionHours;
+
+    @Value("${report.stale-minutes:30}")
+    private int staleMinutes;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolExecutor executor;
+
+    public ReportJobService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Jobs mostly wait on JDBC and disk; the pool size and queue still bound how many run at once
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("report-job-", 1).factory()
+            : runnable -> {
+                Thread thread = new Thread(runnable, "report-job-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    /**
+     * Queues a report of the requests created from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @return The queued job
+     * @throws IllegalArgumentException if the range is empty
+     * @throws RuntimeException if too many jobs are already queued
+     */
+    public ReportJobDTO submit(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Report range must have from before to");
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID(), from, to, LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO report_jobs (id, status, range_from, range_to, submitted_at) VALUES (?, ?, ?, ?, ?)",
+            UuidBinary.toBytes(job.id), job.status.name(), job.from, job.to, Timestamp.valueOf(job.submittedAt));
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            jdbcTemplate.update("DELETE FROM report_jobs WHERE id = ?", UuidBinary.toBytes(job.id));
+            throw new RuntimeException("Report queue is full, try again later", e);
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * Current state and progress of a job, whichever instance runs it.
+     *
+     * @throws RuntimeException if the job is not found
+     */
+    public ReportJobDTO getJob(UUID jobId) {
+        return findJob(jobId);
+    }
+
+    /**
+     * Location of a completed report file.
+     *
+     * @throws RuntimeException if the job is not found
+     * @throws IllegalStateException if the job has not completed
+     */
+    public Path getReportFile(UUID jobId) {
+        ReportJobDTO job = findJob(jobId);
+        if (!Status.COMPLETED.name().equals(job.status())) {
+            throw new IllegalStateException("Report " + jobId + " is " + job.status());
+        }
+        return reportFile(jobId);
+    }
+
+    private ReportJobDTO findJob(UUID jobId) {
+        ReportJob local = jobs.get(jobId);
+        if (local != null) {
+            return local.toDTO();
+        }
+        return jdbcTemplate.query(SELECT_JOB, (resultSet, rowNum) -> new ReportJobDTO(
+                UuidBinary.fromBytes(resultSet.getBytes("id")),
+                resultSet.getString("status"),
+                resultSet.getDate("range_from").toLocalDate(),
+                resultSet.getDate("range_to").toLocalDate(),
+                resultSet.getLong("rows_written"),
+                resultSet.getLong("total_rows"),
+                resultSet.getObject("file_bytes", Long.class),
+                resultSet.getString("error"),
+                resultSet.getTimestamp("submitted_at").toLocalDateTime(),
+                toLocalDateTime(resultSet.getTimestamp("completed_at"))),
+            UuidBinary.toBytes(jobId)).stream()
+            .findFirst()
+            .orElseThrow(() -> new RuntimeException("Report job not found with ID: " + jobId));
+    }
+
+    private Path reportFile(UUID jobId) {
+        return Paths.get(reportDir).resolve("report-" + jobId + ".csv.gz");
+    }
+
+    /**
+     * Writes the job's state to report_jobs and marks it alive.
+     */
+    private void save(ReportJob job) {
+        jdbcTemplate.update(UPDATE_JOB, job.status.name(), job.rowsWritten, job.totalRows,
+            job.file != null ? job.file.getFileName().toString() : null, job.status == Status.COMPLETED ? job.fileBytes : null,
+            job.error != null && job.error.length() > MAX_ERROR_LENGTH ? job.error.substring(0, MAX_ERROR_LENGTH) : job.error,
+            job.completedAt != null ? Timestamp.valueOf(job.completedAt) : null, UuidBinary.toBytes(job.id));
+    }
+
+    private void run(ReportJob job) {
+        job.status = Status.RUNNING;
+        Path target = reportFile(job.id);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Timestamp from = Timestamp.valueOf(job.from.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(job.to.atStartOfDay());
+
+        try {
+            Files.createDirectories(target.getParent());
+            Long total = jdbcTemplate.queryForObject(COUNT_QUERY, Long.class, from, to, from, to);
+            job.totalRows = total != null ? total : 0;
+            save(job);
+
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024), StandardCharsets.UTF_8))) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+
+                Timestamp lastCreatedAt = from;
+                byte[] lastId = MIN_ID;
+                while (true) {
+                    List<ReportRow> rows = jdbcTemplate.query(CHUNK_QUERY, (resultSet, rowNum) -> new ReportRow(
+                            resultSet.getBytes("id"),
+                            resultSet.getTimestamp("created_at"),
+                            new String[] {
+                                UuidBinary.fromBytes(resultSet.getBytes("id")).toString(),
+                                resultSet.getString("title"),
+                                resultSet.getString("status"),
+                                resultSet.getString("type_name"),
+                                resultSet.getString("requester_name"),
+                                resultSet.getString("requester_email"),
+                                resultSet.getString("approver_name"),
+                                resultSet.getString("approver_email"),
+                                format(resultSet.getTimestamp("created_at")),
+                                format(resultSet.getTimestamp("decided_at")),
+                                resultSet.getString("decision"),
+                                resultSet.getString("decision_comment")
+                            }),
+                        from, to, lastCreatedAt, lastCreatedAt, lastId, chunkSize,
+                        from, to, lastCreatedAt, lastCreatedAt, lastId, chunkSize, chunkSize);
+
+                    for (ReportRow row : rows) {
+                        writeCsvLine(out, row.columns());
+                    }
+                    job.rowsWritten += rows.size();
+                    save(job);
+
+                    if (rows.size() < chunkSize) {
+                        break;
+                    }
+                    ReportRow last = rows.get(rows.size() - 1);
+                    lastCreatedAt = last.createdAt();
+                    lastId = last.id();
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.file = target;
+            job.fileBytes = Files.size(target);
+            job.status = Status.COMPLETED;
+            job.completedAt = LocalDateTime.now();
+            save(job);
+            logger.info("Report {} completed: {} rows, {} bytes", job.id, job.rowsWritten, job.fileBytes);
+        } catch (IOException | RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+            job.completedAt = LocalDateTime.now();
+            logger.error("Report {} failed after {} rows", job.id, job.rowsWritten, e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Nothing else to clean up
+            }
+            try {
+                save(job);
+            } catch (RuntimeException saveFailure) {
+                // Shown as failed once its heartbeat goes stale
+                logger.warn("Failed to record the failure of report {}", job.id, saveFailure);
+            }
+        }
+    }
+
+    /**
+     * Keeps this instance's unfinished jobs alive, marks jobs abandoned by a stopped instance as failed,
+     * and removes finished jobs and their files once they are older than the retention period.
+     * Every instance runs it; each step is idempotent.
+     */
+    @Scheduled(fixedDelayString = "${report.cleanup-interval-ms:600000}")
+    public void removeExpiredReports() {
+        jobs.values().stream()
+            .filter(job -> job.completedAt == null)
+            .forEach(job -> jdbcTemplate.update("UPDATE report_jobs SET heartbeat_at = NOW(6) WHERE id = ?",
+                UuidBinary.toBytes(job.id)));
+        int abandoned = jdbcTemplate.update("UPDATE report_jobs SET status = ?, error = ?, completed_at = ? "
+                + "WHERE status IN (?, ?) AND heartbeat_at < NOW(6) - INTERVAL ? MINUTE",
+            Status.FAILED.name(), "Interrupted: the instance running the report stopped", Timestamp.valueOf(LocalDateTime.now()),
+            Status.QUEUED.name(), Status.RUNNING.name(), staleMinutes);
+        if (abandoned > 0) {
+            logger.warn("Marked {} abandoned report jobs as failed", abandoned);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+        List<UUID> expired = jdbcTemplate.query("SELECT id FROM report_jobs WHERE completed_at < ? ORDER BY completed_at",
+            (resultSet, rowNum) -> UuidBinary.fromBytes(resultSet.getBytes("id")), Timestamp.valueOf(cutoff));
+        for (UUID jobId : expired) {
+            try {
+                Files.deleteIfExists(reportFile(jobId));
+            } catch (IOException e) {
+                logger.warn("Failed to delete expired report {}", jobId, e);
+                continue;
+            }
+            jdbcTemplate.update("DELETE FROM report_jobs WHERE id = ?", UuidBinary.toBytes(jobId));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+
+    /**
+     * Writes one RFC 4180 line; fields with separators, quotes or line breaks are quoted.
+     * Titles and comments come from users and the files are opened in spreadsheets, so a field
+     * a spreadsheet would read as a formula is prefixed with an apostrophe and quoted.
+     */
+    static void writeCsvLine(Writer out, String[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = columns[i];
+            if (value == null) {
+                continue;
+            }
+            boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+            if (formula) {
+                value = "'" + value;
+            }
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (quote) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write('\n');
+    }
+
+    /**
+     * One CSV line and the keyset position of its request.
+     */
+    record ReportRow(byte[] id, Timestamp createdAt, String[] columns) {
+    }
+
+    /**
+     * Mutable job state; written only by the job's thread and read by pollers.
+     */
+    private static final class ReportJob {
+
+        private final UUID id;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final LocalDateTime submittedAt;
+        private volatile Status status = Status.QUEUED;
+        private volatile long rowsWritten;
+        private volatile long totalRows;
+        private volatile Path file;
+        private volatile long fileBytes;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        ReportJob(UUID id, LocalDate from, LocalDate to, LocalDateTime submittedAt) {
+            this.id = id;
+            this.from = from;
+            this.to = to;
+            this.submittedAt = submittedAt;
+        }
+
+        ReportJobDTO toDTO() {
+            return new ReportJobDTO(id, status.name(), from, to, rowsWritten, totalRows,
+                status == Status.COMPLETED ? fileBytes : null, error, submittedAt, completedAt);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.dto.RequestCountDTO;
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO;
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Read side of the request archive written by {@link RequestArchiver}.
+ * Answers the same questions as the repositories, for requests that are no longer in the hot tables.
+ */
+@Service
+public class RequestArchiveReader {
+
+    private static final String LIST_QUERY =
+        "SELECT r.id, r.title, r.status, t.name AS type_name, r.created_at, u.full_name AS related_user_name "
+            + "FROM requests_archive r JOIN request_types t ON t.id = r.type_id ";
+
+    // The latest comment comes from the row itself unless it was decided before that column existed
+    private static final String DETAILS_QUERY =
+        "SELECT r.id, r.title, r.description, r.status, t.name AS type_name, r.created_at, "
+            + "a.full_name AS approver_name, r.last_action_at, "
+            + "CASE WHEN r.last_action_at IS NOT NULL THEN r.latest_comment ELSE "
+            + "(SELECT h.comments FROM approval_history_archive h WHERE h.request_id = r.id "
+            + "ORDER BY h.action_date DESC, h.id DESC LIMIT 1) END AS comments "
+            + "FROM requests_archive r JOIN request_types t ON t.id = r.type_id "
+            + "LEFT JOIN users a ON a.id = r.approver_id WHERE r.id = ?";
+
+    private static final String HISTORY_QUERY =
+        "SELECT h.id, h.action_taken, h.comments, h.action_date, u.id AS user_id, u.full_name "
+            + "FROM approval_history_archive h JOIN users u ON u.id = h.user_id WHERE h.request_id = ? ";
+
+    private static final String COUNT_QUERY =
+        "SELECT c.type_id, t.name AS type_name, c.status, NULLIF(c.approver_id, 0) AS approver_id, "
+            + "a.full_name AS approver_name, c.request_count AS count "
+            + "FROM request_archive_counts c JOIN request_types t ON t.id = c.type_id "
+            + "LEFT JOIN users a ON a.id = c.approver_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RequestArchiveReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Archived requests created by a user, newest first, with the approver as related user.
+     */
+    public List<RequestSummaryDTO> findCreatedBy(Long requesterId) {
+        return jdbcTemplate.query(LIST_QUERY + "LEFT JOIN users u ON u.id = r.approver_id "
+                + "WHERE r.requester_id = ? ORDER BY r.created_at DESC",
+            (resultSet, rowNum) -> summary(resultSet), requesterId);
+    }
+
+    /**
+     * Archived requests assigned to a user, newest first, with the requester as related user.
+     */
+    public List<RequestSummaryDTO> findAssignedTo(Long approverId) {
+        return jdbcTemplate.query(LIST_QUERY + "JOIN users u ON u.id = r.requester_id "
+                + "WHERE r.approver_id = ? ORDER BY r.created_at DESC",
+            (resultSet, rowNum) -> summary(resultSet), approverId);
+    }
+
+    /**
+     * Details of an archived request, from the approver's point of view.
+     */
+    public Optional<RequestDetailsDTO> findDetails(UUID requestId) {
+        return jdbcTemplate.query(DETAILS_QUERY, (resultSet, rowNum) -> new RequestDetailsDTO(
+                UuidBinary.fromBytes(resultSet.getBytes("id")),
+                resultSet.getString("title"),
+                resultSet.getString("description"),
+                resultSet.getString("status"),
+                resultSet.getString("type_name"),
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getString("approver_name") != null ? resultSet.getString("approver_name") : "Unassigned",
+                resultSet.getString("comments"),
+                toLocalDateTime(resultSet.getTimestamp("last_action_at"))),
+            UuidBinary.toBytes(requestId)).stream().findFirst();
+    }
+
+    /**
+     * Creation time of an archived request, if the request is archived.
+     */
+    public Optional<LocalDateTime> findCreatedAt(UUID requestId) {
+        return jdbcTemplate.query("SELECT created_at FROM requests_archive WHERE id = ?",
+            (resultSet, rowNum) -> resultSet.getTimestamp("created_at").toLocalDateTime(),
+            UuidBinary.toBytes(requestId)).stream().findFirst();
+    }
+
+    /**
+     * One page of an archived request's timeline, newest first, strictly older than the
+     * (beforeDate, beforeId) keyset position when one is given.
+     */
+    public List<RequestHistoryEntryDTO> findHistoryPage(UUID requestId, LocalDateTime beforeDate, Long beforeId, int limit) {
+        byte[] id = UuidBinary.toBytes(requestId);
+        String order = "ORDER BY h.action_date DESC, h.id DESC LIMIT ?";
+        return beforeDate == null
+            ? jdbcTemplate.query(HISTORY_QUERY + order, (resultSet, rowNum) -> historyEntry(resultSet), id, limit)
+            : jdbcTemplate.query(HISTORY_QUERY
+                    + "AND (h.action_date < ? OR (h.action_date = ? AND h.id < ?)) " + order,
+                (resultSet, rowNum) -> historyEntry(resultSet),
+                id, Timestamp.valueOf(beforeDate), Timestamp.valueOf(beforeDate), beforeId, limit);
+    }
+
+    /**
+     * Number of archived requests per type, status and approver, from the counts RequestArchiver
+     * keeps, so the cost does not grow with the archive.
+     */
+    public List<RequestCountDTO> countGroupedByTypeStatusAndApprover() {
+        return jdbcTemplate.query(COUNT_QUERY, (resultSet, rowNum) -> {
+            long approverId = resultSet.getLong("approver_id");
+            Long approver = resultSet.wasNull() ? null : approverId;
+            return new RequestCountDTO(
+                resultSet.getInt("type_id"),
+                resultSet.getString("type_name"),
+                RequestStatus.valueOf(resultSet.getString("status")),
+                approver,
+                resultSet.getString("approver_name"),
+                resultSet.getLong("count"));
+        });
+    }
+
+    private static RequestSummaryDTO summary(ResultSet resultSet) throws SQLException {
+        return new RequestSummaryDTO(
+            UuidBinary.fromBytes(resultSet.getBytes("id")),
+            resultSet.getString("title"),
+            resultSet.getString("status"),
+            resultSet.getString("type_name"),
+            resultSet.getTimestamp("created_at").toLocalDateTime(),
+            resultSet.getString("related_user_name") != null ? resultSet.getString("related_user_name") : "Unassigned");
+    }
+
+    private static RequestHistoryEntryDTO historyEntry(ResultSet resultSet) throws SQLException {
+        return new RequestHistoryEntryDTO(
+            resultSet.getLong("id"),
+            resultSet.getString("action_taken"),
+            resultSet.getString("comments"),
+            resultSet.getTimestamp("action_date").toLocalDateTime(),
+            resultSet.getLong("user_id"),
+            resultSet.getString("full_name"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
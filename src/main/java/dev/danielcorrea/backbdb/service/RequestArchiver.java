@@ -0,0 +1,137 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.danielcorrea.backbdb.config.CacheConfig;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+
+/**
+ * Moves closed requests out of the hot requests table.
+ *
+ * APPROVED and REJECTED requests last updated more than {@code request-archive.retention-days}
+ * ago are moved, with their approval history, to requests_archive and approval_history_archive
+ * (see {@link RequestArchiveReader} for the read side). Each chunk of
+ * {@code request-archive.chunk-size} requests is one transaction: copy with INSERT ... SELECT,
+ * then DELETE, history first, and add the chunk to request_archive_counts, which statistics read
+ * instead of grouping the whole archive. The chunk is picked with FOR UPDATE SKIP LOCKED, so instances that
+ * run the job at the same time move disjoint chunks. Closed requests never change again, so
+ * moving them does not race with the API; inboxes of the affected approvers are invalidated
+ * when the chunk commits.
+ */
+@Service
+public class RequestArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestArchiver.class);
+
+    private static final String REQUEST_COLUMNS =
+        "id, title, description, status, created_at, updated_at, latest_comment, last_action_at, "
+            + "requester_id, approver_id, type_id";
+
+    private static final String HISTORY_COLUMNS = "id, action_taken, comments, action_date, request_id, user_id";
+
+    private static final String CHUNK_QUERY =
+        "SELECT id, approver_id FROM requests WHERE status = ? AND updated_at < ? "
+            + "ORDER BY updated_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String COUNT_CHUNK_PREFIX =
+        "INSERT INTO request_archive_counts (type_id, status, approver_id, request_count) "
+            + "SELECT type_id, status, COALESCE(approver_id, 0), COUNT(*) FROM requests WHERE id";
+
+    private static final String COUNT_CHUNK_SUFFIX =
+        " GROUP BY type_id, status, COALESCE(approver_id, 0) "
+            + "ON DUPLICATE KEY UPDATE request_count = request_count + VALUES(request_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationLog cacheInvalidationLog;
+
+    @Value("${request-archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${request-archive.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${request-archive.chunk-size:1000}")
+    private int chunkSize;
+
+    public RequestArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           CacheInvalidationLog cacheInvalidationLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidationLog = cacheInvalidationLog;
+    }
+
+    /**
+     * Archives every closed request older than the retention window.
+     */
+    @Scheduled(cron = "${request-archive.cron:0 0 3 * * *}")
+    public void archiveClosedRequests() {
+        if (!enabled) {
+            return;
+        }
+
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        long archived = 0;
+        for (RequestStatus status : List.of(RequestStatus.APPROVED, RequestStatus.REJECTED)) {
+            int moved;
+            do {
+                moved = archiveChunk(status, cutoff);
+                archived += moved;
+            } while (moved == chunkSize);
+        }
+        if (archived > 0) {
+            logger.info("Archived {} closed requests last updated before {}", archived, cutoff);
+        }
+    }
+
+    /**
+     * Moves one chunk of requests with the given status, and their history, in one transaction.
+     *
+     * @return Number of requests moved
+     */
+    int archiveChunk(RequestStatus status, Timestamp cutoff) {
+        Integer moved = transactionTemplate.execute(transaction -> {
+            List<byte[]> ids = new ArrayList<>();
+            Set<Long> approverIds = new HashSet<>();
+            jdbcTemplate.query(CHUNK_QUERY, resultSet -> {
+                ids.add(resultSet.getBytes("id"));
+                long approverId = resultSet.getLong("approver_id");
+                if (!resultSet.wasNull()) {
+                    approverIds.add(approverId);
+                }
+            }, status.name(), cutoff, chunkSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            String in = " IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+            Object[] args = ids.toArray();
+            jdbcTemplate.update("INSERT INTO approval_history_archive (" + HISTORY_COLUMNS + ") SELECT "
+                + HISTORY_COLUMNS + " FROM approval_history WHERE request_id" + in, args);
+            jdbcTemplate.update("DELETE FROM approval_history WHERE request_id" + in, args);
+            jdbcTemplate.update("INSERT INTO requests_archive (" + REQUEST_COLUMNS + ") SELECT "
+                + REQUEST_COLUMNS + " FROM requests WHERE id" + in, args);
+            jdbcTemplate.update(COUNT_CHUNK_PREFIX + in + COUNT_CHUNK_SUFFIX, args);
+            jdbcTemplate.update("DELETE FROM requests WHERE id" + in, args);
+
+            approverIds.forEach(approverId -> cacheInvalidationLog.invalidate(CacheConfig.INBOX, approverId));
+            return ids.size();
+        });
+        return moved != null ? moved : 0;
+    }
+}
@@ -3,9 +3,11 @@ package dev.danielcorrea.backbdb.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.danielcorrea.backbdb.config.CacheConfig;
 import dev.danielcorrea.backbdb.dto.RequestTypeDTO;
 import dev.danielcorrea.backbdb.model.RequestType;
 import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
@@ -26,6 +28,7 @@ public class RequestTypeService {
      * 
      * @return List of RequestTypeDTO containing all request types
      */
+    @Cacheable(cacheNames = CacheConfig.REQUEST_TYPES, key = "'all'")
     public List<RequestTypeDTO> getAllRequestTypes() {
         List<RequestType> requestTypes = requestTypeRepository.findAll();
         
@@ -0,0 +1,286 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.danielcorrea.backbdb.dto.VolumePointDTO;
+import dev.danielcorrea.backbdb.dto.VolumeSeriesDTO;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+
+/**
+ * Maintains the request_volume_minute and request_volume_hour rollups and serves time series
+ * from them.
+ *
+ * Two sources are rolled up incrementally: requests (each new request counts as PENDING) read
+ * in (created_at, id) order, and approval_history decisions read in id order. Each source has a
+ * high-water mark in rollup_watermarks that advances in the same transaction as the counts it
+ * produced, so a crash never double counts. Rows newer than {@code rollup.lag-seconds} are left
+ * for the next run, which gives transactions that took their timestamp or id earlier time to
+ * commit. For decisions, ids are allocated before commit by whichever writer inserts the row
+ * (decisions, the async audit writer, the journal shipper, other instances), so the mark only
+ * passes a row once it was inserted ({@code recorded_at}, by the database clock) more than the lag
+ * ago, like the settle window of {@link CacheInvalidationLog}; a writer transaction must commit
+ * within the lag. The watermark row is locked while a batch runs, so several instances can share
+ * the job.
+ *
+ * The rollups are keyed by (bucket_start, type_id, status), so chart queries, with or without
+ * a type filter, read the primary key range for the requested period only.
+ */
+@Service
+public class RequestVolumeService {
+
+    /**
+     * Bucket size of a time series and the longest range it may be queried for.
+     */
+    public enum Granularity {
+        MINUTE("request_volume_minute", ChronoUnit.MINUTES, Duration.ofDays(7)),
+        HOUR("request_volume_hour", ChronoUnit.HOURS, Duration.ofDays(400));
+
+        private final String table;
+        private final ChronoUnit unit;
+        private final Duration maxRange;
+
+        Granularity(String table, ChronoUnit unit, Duration maxRange) {
+            this.table = table;
+            this.unit = unit;
+            this.maxRange = maxRange;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestVolumeService.class);
+
+    private static final String CREATIONS = "requests.created";
+    private static final String DECISIONS = "approval_history.decisions";
+
+    private static final String CREATIONS_QUERY =
+        "SELECT id, created_at, type_id FROM requests "
+            + "WHERE (created_at > ? OR (created_at = ? AND id > ?)) AND created_at < ? "
+            + "ORDER BY created_at, id LIMIT ?";
+
+    private static final String DECISIONS_QUERY =
+        "SELECT h.id, h.action_taken, h.action_date, h.recorded_at, r.type_id "
+            + "FROM approval_history h LEFT JOIN requests r ON r.id = h.request_id "
+            + "WHERE h.id > ? ORDER BY h.id LIMIT ?";
+
+    private static final String UPSERT =
+        "INSERT INTO %s (bucket_start, type_id, status, request_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE request_count = request_count + VALUES(request_count)";
+
+    private static final Timestamp EPOCH = Timestamp.valueOf("1970-01-01 00:00:00");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${rollup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rollup.lag-seconds:60}")
+    private long lagSeconds;
+
+    @Value("${rollup.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${rollup.minute-retention-days:30}")
+    private int minuteRetentionDays;
+
+    public RequestVolumeService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rolls up everything that arrived since the last run.
+     */
+    @Scheduled(fixedDelayString = "${rollup.interval-ms:60000}", initialDelayString = "${rollup.interval-ms:60000}")
+    public void rollUp() {
+        if (!enabled) {
+            return;
+        }
+        long batches = 0;
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> rollUpCreations()))) {
+            batches++;
+        }
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> rollUpDecisions()))) {
+            batches++;
+        }
+        if (batches > 0) {
+            logger.info("Request volume rollup caught up after {} full batches", batches);
+        }
+    }
+
+    /**
+     * Rolls up one batch of new requests.
+     *
+     * @return true if the batch was full and more rows may be waiting
+     */
+    boolean rollUpCreations() {
+        Map<String, Object> watermark = lockWatermark(CREATIONS);
+        Timestamp lastTime = watermark.get("last_time") != null ? (Timestamp) watermark.get("last_time") : EPOCH;
+        byte[] lastKey = watermark.get("last_key") != null ? (byte[]) watermark.get("last_key") : new byte[16];
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusSeconds(lagSeconds));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            CREATIONS_QUERY, lastTime, lastTime, lastKey, cutoff, batchSize);
+        if (rows.isEmpty()) {
+            return false;
+        }
+
+        Map<Bucket, Long> counts = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            LocalDateTime createdAt = ((Timestamp) row.get("created_at")).toLocalDateTime();
+            counts.merge(new Bucket(createdAt.truncatedTo(ChronoUnit.MINUTES),
+                ((Number) row.get("type_id")).intValue(), RequestStatus.PENDING), 1L, Long::sum);
+        }
+        upsert(counts);
+
+        Map<String, Object> last = rows.get(rows.size() - 1);
+        jdbcTemplate.update("UPDATE rollup_watermarks SET last_time = ?, last_key = ? WHERE name = ?",
+            last.get("created_at"), last.get("id"), CREATIONS);
+        return rows.size() == batchSize;
+    }
+
+    /**
+     * Rolls up one batch of new approval_history rows, counting approvals and rejections.
+     * Stops at the first row inserted within the lag window, since a lower id may still be uncommitted.
+     *
+     * @return true if the whole batch was consumed and more rows may be waiting
+     */
+    boolean rollUpDecisions() {
+        Map<String, Object> watermark = lockWatermark(DECISIONS);
+        long lastId = watermark.get("last_id") != null ? ((Number) watermark.get("last_id")).longValue() : 0;
+        Timestamp cutoff = jdbcTemplate.queryForObject("SELECT NOW(6) - INTERVAL ? SECOND", Timestamp.class, lagSeconds);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(DECISIONS_QUERY, lastId, batchSize);
+        Map<Bucket, Long> counts = new HashMap<>();
+        long newLastId = lastId;
+        int consumed = 0;
+        for (Map<String, Object> row : rows) {
+            if (!((Timestamp) row.get("recorded_at")).before(cutoff)) {
+                break;
+            }
+            LocalDateTime actionDate = ((Timestamp) row.get("action_date")).toLocalDateTime();
+            newLastId = ((Number) row.get("id")).longValue();
+            consumed++;
+
+            RequestStatus status = decisionStatus((String) row.get("action_taken"));
+            // Requests moved out of the table since the decision can no longer be typed
+            if (status != null && row.get("type_id") != null) {
+                counts.merge(new Bucket(actionDate.truncatedTo(ChronoUnit.MINUTES),
+                    ((Number) row.get("type_id")).intValue(), status), 1L, Long::sum);
+            }
+        }
+        if (consumed == 0) {
+            return false;
+        }
+
+        upsert(counts);
+        jdbcTemplate.update("UPDATE rollup_watermarks SET last_id = ? WHERE name = ?", newLastId, DECISIONS);
+        return consumed == batchSize;
+    }
+
+    /**
+     * Request counts per bucket and status over a period, optionally for one request type or status.
+     *
+     * @throws IllegalArgumentException if the range is empty or too long for the granularity
+     */
+    public VolumeSeriesDTO getVolume(Granularity granularity, LocalDateTime from, LocalDateTime to,
+                                     Integer typeId, RequestStatus status) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Volume range must have from before to");
+        }
+        if (Duration.between(from, to).compareTo(granularity.maxRange) > 0) {
+            throw new IllegalArgumentException("Volume range for " + granularity + " buckets cannot exceed "
+                + granularity.maxRange.toDays() + " days");
+        }
+        LocalDateTime start = from.truncatedTo(granularity.unit);
+
+        StringBuilder sql = new StringBuilder("SELECT bucket_start, status, SUM(request_count) AS total FROM ")
+            .append(granularity.table)
+            .append(" WHERE bucket_start >= ? AND bucket_start < ?");
+        List<Object> params = new ArrayList<>(List.of(Timestamp.valueOf(start), Timestamp.valueOf(to)));
+        if (typeId != null) {
+            sql.append(" AND type_id = ?");
+            params.add(typeId);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            params.add(status.name());
+        }
+        sql.append(" GROUP BY bucket_start, status ORDER BY bucket_start, status");
+
+        List<VolumePointDTO> points = jdbcTemplate.query(sql.toString(), (resultSet, rowNum) -> new VolumePointDTO(
+            resultSet.getTimestamp("bucket_start").toLocalDateTime(),
+            resultSet.getString("status"),
+            resultSet.getLong("total")
+        ), params.toArray());
+
+        return new VolumeSeriesDTO(granularity.name(), start, to, points);
+    }
+
+    /**
+     * Deletes minute buckets older than the retention period; hourly buckets are kept.
+     */
+    @Scheduled(cron = "${rollup.purge-cron:0 15 3 * * *}")
+    public void purgeExpiredMinutes() {
+        if (!enabled) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(minuteRetentionDays).truncatedTo(ChronoUnit.DAYS));
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM request_volume_minute WHERE bucket_start < ? LIMIT ?", cutoff, batchSize);
+        } while (deleted == batchSize);
+    }
+
+    private Map<String, Object> lockWatermark(String name) {
+        jdbcTemplate.update("INSERT IGNORE INTO rollup_watermarks (name) VALUES (?)", name);
+        return jdbcTemplate.queryForMap(
+            "SELECT last_id, last_time, last_key FROM rollup_watermarks WHERE name = ? FOR UPDATE", name);
+    }
+
+    private void upsert(Map<Bucket, Long> minuteCounts) {
+        if (minuteCounts.isEmpty()) {
+            return;
+        }
+        Map<Bucket, Long> hourCounts = new HashMap<>();
+        minuteCounts.forEach((bucket, count) -> hourCounts.merge(
+            new Bucket(bucket.start().truncatedTo(ChronoUnit.HOURS), bucket.typeId(), bucket.status()), count, Long::sum));
+
+        jdbcTemplate.batchUpdate(String.format(UPSERT, Granularity.MINUTE.table), rows(minuteCounts));
+        jdbcTemplate.batchUpdate(String.format(UPSERT, Granularity.HOUR.table), rows(hourCounts));
+    }
+
+    private static List<Object[]> rows(Map<Bucket, Long> counts) {
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((bucket, count) -> rows.add(new Object[] {
+            Timestamp.valueOf(bucket.start()), bucket.typeId(), bucket.status().name(), count
+        }));
+        return rows;
+    }
+
+    private static RequestStatus decisionStatus(String actionTaken) {
+        return switch (actionTaken) {
+            case "APPROVED" -> RequestStatus.APPROVED;
+            case "REJECTED" -> RequestStatus.REJECTED;
+            default -> null;
+        };
+    }
+
+    private record Bucket(LocalDateTime start, int typeId, RequestStatus status) {
+    }
+}
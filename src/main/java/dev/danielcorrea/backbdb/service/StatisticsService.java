@@ -0,0 +1,212 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import dev.danielcorrea.backbdb.dto.RequestCountDTO;
+import dev.danielcorrea.backbdb.dto.StatisticsBucketDTO;
+import dev.danielcorrea.backbdb.dto.StatisticsDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+
+/**
+ * Live request totals by type, status and approver, kept in memory.
+ *
+ * The totals are a snapshot of the database, taken with a GROUP BY query at startup and every
+ * {@code statistics.reconcile-interval-ms}, plus the changes this instance committed since. There
+ * is one {@link LongAdder} per (type, status, approver) combination for those changes, so
+ * concurrent writers update striped cells without contending, and reading the dashboard never
+ * touches the database. Each reconciliation replaces the snapshot and starts counting changes
+ * afresh, so other instances' writes show up within one interval and nothing drifts for longer;
+ * a change that commits while the query runs can be missing, or counted twice if its after-commit
+ * callback runs late, until the next reconciliation. Archived requests still count: they come
+ * from the per type, status and approver counts RequestArchiver keeps, so a reconciliation groups
+ * the hot table only and its cost does not grow with the archive.
+ */
+@Service
+public class StatisticsService {
+
+    private static final String UNASSIGNED = "Unassigned";
+
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final RequestArchiveReader requestArchiveReader;
+
+    private final Map<Integer, String> typeNames = new ConcurrentHashMap<>();
+    private final Map<Long, String> approverNames = new ConcurrentHashMap<>();
+
+    // Keeps the startup and scheduled reconciliations from overlapping
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    private volatile Totals totals = new Totals(Map.of(), new ConcurrentHashMap<>());
+    private volatile LocalDateTime reconciledAt;
+
+    public StatisticsService(ApprovalRequestRepository approvalRequestRepository,
+                             RequestArchiveReader requestArchiveReader) {
+        this.approvalRequestRepository = approvalRequestRepository;
+        this.requestArchiveReader = requestArchiveReader;
+    }
+
+    /**
+     * Counts a new PENDING request once the current transaction commits.
+     */
+    public void recordCreated(ApprovalRequest request) {
+        CounterKey key = keyOf(request, RequestStatus.PENDING);
+        rememberNames(request);
+        TransactionCallbacks.afterCommit(() -> totals.counter(key).increment());
+    }
+
+    /**
+     * Moves a request from one status to its current status once the current transaction commits.
+     */
+    public void recordTransition(ApprovalRequest request, RequestStatus from) {
+        CounterKey previous = keyOf(request, from);
+        CounterKey current = keyOf(request, request.getStatus());
+        rememberNames(request);
+        TransactionCallbacks.afterCommit(() -> {
+            Totals changes = totals;
+            changes.counter(previous).decrement();
+            changes.counter(current).increment();
+        });
+    }
+
+    /**
+     * Current totals. Served entirely from memory.
+     */
+    public StatisticsDTO getStatistics() {
+        Map<CounterKey, Long> snapshot = snapshot();
+
+        long total = 0;
+        Map<RequestStatus, Long> byStatus = new EnumMap<>(RequestStatus.class);
+        for (RequestStatus status : RequestStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Map.Entry<CounterKey, Long> entry : snapshot.entrySet()) {
+            total += entry.getValue();
+            byStatus.merge(entry.getKey().status(), entry.getValue(), Long::sum);
+        }
+
+        return new StatisticsDTO(
+            total,
+            statusNames(byStatus),
+            buckets(snapshot, key -> key.typeId().longValue(),
+                id -> typeNames.getOrDefault(id.intValue(), "Unknown")),
+            buckets(snapshot, CounterKey::approverId,
+                id -> id != null ? approverNames.getOrDefault(id, "Unknown") : UNASSIGNED),
+            reconciledAt
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Replaces the snapshot with the current database counts.
+     */
+    @Scheduled(fixedDelayString = "${statistics.reconcile-interval-ms:60000}",
+               initialDelayString = "${statistics.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            reconcileCounters();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void reconcileCounters() {
+        Map<CounterKey, Long> actual = new HashMap<>();
+        List<RequestCountDTO> rows = new ArrayList<>(approvalRequestRepository.countGroupedByTypeStatusAndApprover());
+        rows.addAll(requestArchiveReader.countGroupedByTypeStatusAndApprover());
+        for (RequestCountDTO row : rows) {
+            actual.merge(new CounterKey(row.typeId(), row.status(), row.approverId()), row.count(), Long::sum);
+            typeNames.put(row.typeId(), row.typeName());
+            if (row.approverId() != null) {
+                approverNames.put(row.approverId(), row.approverName());
+            }
+        }
+
+        totals = new Totals(Map.copyOf(actual), new ConcurrentHashMap<>());
+        reconciledAt = LocalDateTime.now();
+    }
+
+    private Map<CounterKey, Long> snapshot() {
+        Totals current = totals;
+        Map<CounterKey, Long> snapshot = new HashMap<>(current.snapshot());
+        current.changes().forEach((key, adder) -> snapshot.merge(key, adder.sum(), Long::sum));
+        return snapshot;
+    }
+
+    private void rememberNames(ApprovalRequest request) {
+        typeNames.put(request.getType().getId(), request.getType().getName());
+        if (request.getApprover() != null) {
+            approverNames.put(request.getApprover().getId(), request.getApprover().getFullName());
+        }
+    }
+
+    private static CounterKey keyOf(ApprovalRequest request, RequestStatus status) {
+        return new CounterKey(
+            request.getType().getId(),
+            status,
+            request.getApprover() != null ? request.getApprover().getId() : null);
+    }
+
+    private static List<StatisticsBucketDTO> buckets(Map<CounterKey, Long> snapshot,
+                                                     Function<CounterKey, Long> idOf,
+                                                     Function<Long, String> nameOf) {
+        Map<Long, Map<RequestStatus, Long>> grouped = new HashMap<>();
+        snapshot.forEach((key, count) -> grouped
+            .computeIfAbsent(idOf.apply(key), id -> new EnumMap<>(RequestStatus.class))
+            .merge(key.status(), count, Long::sum));
+
+        return grouped.entrySet().stream()
+            .map(entry -> new StatisticsBucketDTO(
+                entry.getKey(),
+                nameOf.apply(entry.getKey()),
+                entry.getValue().values().stream().mapToLong(Long::longValue).sum(),
+                statusNames(entry.getValue())))
+            .filter(bucket -> bucket.total() > 0)
+            .sorted(Comparator.comparingLong(StatisticsBucketDTO::total).reversed()
+                .thenComparing(StatisticsBucketDTO::name))
+            .toList();
+    }
+
+    private static Map<String, Long> statusNames(Map<RequestStatus, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        counts.forEach((status, count) -> named.put(status.name(), count));
+        return named;
+    }
+
+    /**
+     * Database counts at the last reconciliation, and the changes committed on this instance since.
+     */
+    private record Totals(Map<CounterKey, Long> snapshot, Map<CounterKey, LongAdder> changes) {
+
+        LongAdder counter(CounterKey key) {
+            return changes.computeIfAbsent(key, k -> new LongAdder());
+        }
+    }
+
+    /**
+     * One counter cell. A null approver stands for unassigned requests.
+     */
+    private record CounterKey(Integer typeId, RequestStatus status, Long approverId) {
+    }
+}
@@ -3,9 +3,11 @@ package dev.danielcorrea.backbdb.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.danielcorrea.backbdb.config.CacheConfig;
 import dev.danielcorrea.backbdb.dto.UserDTO;
 import dev.danielcorrea.backbdb.model.User;
 import dev.danielcorrea.backbdb.repository.UserRepository;
@@ -26,6 +28,7 @@ public class UserService {
      * 
      * @return List of UserDTO containing all users
      */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "'all'")
     public List<UserDTO> getAllUsers() {
         List<User> users = userRepository.findAll();
         
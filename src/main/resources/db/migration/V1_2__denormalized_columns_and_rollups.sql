@@ -0,0 +1,35 @@
+-- Columns, indexes and tables that were added under ddl-auto=update after the V1 baseline:
+-- the denormalized latest action on requests and the request volume rollups.
+
+-- Denormalized from the latest approval_history entry, set at decision time
+ALTER TABLE requests
+    ADD COLUMN latest_comment TEXT AFTER updated_at,
+    ADD COLUMN last_action_at DATETIME(6) AFTER latest_comment;
+
+-- Keyset scans by creation time (rollups, reports) and by update time (analytics snapshot)
+CREATE INDEX idx_requests_created_at ON requests (created_at, id);
+CREATE INDEX idx_requests_updated_at ON requests (updated_at, id);
+
+CREATE TABLE request_volume_minute (
+    bucket_start DATETIME(6) NOT NULL,
+    type_id INTEGER NOT NULL,
+    status ENUM ('APPROVED', 'PENDING', 'REJECTED') NOT NULL,
+    request_count BIGINT NOT NULL,
+    PRIMARY KEY (type_id, bucket_start, status)
+) ENGINE=InnoDB;
+
+CREATE TABLE request_volume_hour (
+    bucket_start DATETIME(6) NOT NULL,
+    type_id INTEGER NOT NULL,
+    status ENUM ('APPROVED', 'PENDING', 'REJECTED') NOT NULL,
+    request_count BIGINT NOT NULL,
+    PRIMARY KEY (type_id, bucket_start, status)
+) ENGINE=InnoDB;
+
+CREATE TABLE rollup_watermarks (
+    name VARCHAR(50) NOT NULL,
+    last_id BIGINT,
+    last_time DATETIME(6),
+    last_key BINARY(16),
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
@@ -0,0 +1,48 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update), before the denormalized
+-- columns and rollup tables of V1_2; databases created that way are baselined at this version.
+-- Constraint names match the generated ones.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(200),
+    full_name VARCHAR(200) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username)
+) ENGINE=InnoDB;
+
+CREATE TABLE request_types (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT UKufco0qugr89lu386iw7rp4w2 UNIQUE (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE requests (
+    id BINARY(16) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status ENUM ('APPROVED', 'PENDING', 'REJECTED') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    requester_id BIGINT NOT NULL,
+    approver_id BIGINT,
+    type_id INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKeoax2t4j9i61p9lmon3009tr4 FOREIGN KEY (requester_id) REFERENCES users (id),
+    CONSTRAINT FK79eh6srcu6jggta5sqfk43mg5 FOREIGN KEY (approver_id) REFERENCES users (id),
+    CONSTRAINT FKh2j4gghnamb9v67odla27wkjy FOREIGN KEY (type_id) REFERENCES request_types (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE approval_history (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    action_taken VARCHAR(100) NOT NULL,
+    comments TEXT,
+    action_date DATETIME(6) NOT NULL,
+    request_id BINARY(16) NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKrlh9sb6rxt3ch1jn4tifneqtj FOREIGN KEY (request_id) REFERENCES requests (id),
+    CONSTRAINT FKdukd91kst85e381womh2755em FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
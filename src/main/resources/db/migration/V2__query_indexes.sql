@@ -0,0 +1,33 @@
+-- Composite indexes for the repository queries. Each one also serves its foreign key, so MySQL
+-- drops the single-column index it created implicitly for that constraint.
+
+-- "My Requests" and "My Inbox", newest first: findByRequester_IdOrderByCreatedAtDesc,
+-- findByApprover_IdOrderByCreatedAtDesc, and the findByRequester/findByApprover(AndStatus) lookups
+CREATE INDEX idx_requests_requester_created ON requests (requester_id, created_at);
+CREATE INDEX idx_requests_approver_created ON requests (approver_id, created_at);
+
+-- findByStatus, countByStatus
+CREATE INDEX idx_requests_status_created ON requests (status, created_at);
+
+-- countGroupedByTypeStatusAndApprover is answered from this index alone
+CREATE INDEX idx_requests_type_status_approver ON requests (type_id, status, approver_id);
+
+-- Request timeline pages in (action_date, id) keyset order: findHistoryPage, findHistoryPageBefore,
+-- findByRequest, findByRequestOrderByActionDateDesc
+CREATE INDEX idx_history_request_date ON approval_history (request_id, action_date, id);
+
+-- findByUser
+CREATE INDEX idx_history_user_date ON approval_history (user_id, action_date);
+
+-- Month ranges read and deleted by the history archiver
+CREATE INDEX idx_history_action_date ON approval_history (action_date);
+
+-- findByEmail
+CREATE INDEX idx_users_email ON users (email);
+
+-- Replication heartbeat written by the primary and read from replicas (ReplicaRoutingDataSource)
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id TINYINT NOT NULL,
+    beat_at_ms BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
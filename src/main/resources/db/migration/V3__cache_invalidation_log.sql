@@ -0,0 +1,12 @@
+-- Cache invalidations, appended in the transaction that made the change and tailed by every
+-- instance in id order (CacheInvalidationLog). A null cache_key invalidates the whole cache.
+CREATE TABLE cache_invalidation_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    cache_name VARCHAR(50) NOT NULL,
+    cache_key VARCHAR(191),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Retention purge
+CREATE INDEX idx_cache_invalidation_created ON cache_invalidation_log (created_at);
@@ -0,0 +1,41 @@
+-- Closed requests past the retention window and their approval history, moved out of the hot
+-- tables by RequestArchiver. Same columns and ids as the hot tables; no foreign keys, so rows
+-- can be moved in either order and history can outlive a partitioned approval_history.
+CREATE TABLE requests_archive (
+    id BINARY(16) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status ENUM ('APPROVED', 'PENDING', 'REJECTED') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    latest_comment TEXT,
+    last_action_at DATETIME(6),
+    requester_id BIGINT NOT NULL,
+    approver_id BIGINT,
+    type_id INTEGER NOT NULL,
+    archived_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Same access paths as the hot table: per-user lists, report and snapshot keysets, statistics
+CREATE INDEX idx_requests_archive_requester_created ON requests_archive (requester_id, created_at);
+CREATE INDEX idx_requests_archive_approver_created ON requests_archive (approver_id, created_at);
+CREATE INDEX idx_requests_archive_created_at ON requests_archive (created_at, id);
+CREATE INDEX idx_requests_archive_updated_at ON requests_archive (updated_at, id);
+CREATE INDEX idx_requests_archive_type_status_approver ON requests_archive (type_id, status, approver_id);
+
+CREATE TABLE approval_history_archive (
+    id BIGINT NOT NULL,
+    action_taken VARCHAR(100) NOT NULL,
+    comments TEXT,
+    action_date DATETIME(6) NOT NULL,
+    request_id BINARY(16) NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Timeline pages of archived requests
+CREATE INDEX idx_history_archive_request_date ON approval_history_archive (request_id, action_date, id);
+
+-- Closed requests by age, for the archiver's chunk selection
+CREATE INDEX idx_requests_status_updated ON requests (status, updated_at, id);
@@ -0,0 +1,4 @@
+-- When the row was inserted, by the database clock. action_date is the application's decision
+-- time and can be much older than the insert (journal shipping, replay), so the decisions rollup
+-- uses this column to tell whether every lower id has had time to commit.
+ALTER TABLE approval_history ADD COLUMN recorded_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
@@ -0,0 +1,22 @@
+-- Report jobs (ReportJobService), shared by every instance: any instance answers status and
+-- download requests for a job another one ran. heartbeat_at is touched by the running instance;
+-- unfinished jobs whose heartbeat stops are marked failed.
+CREATE TABLE report_jobs (
+    id BINARY(16) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    range_from DATE NOT NULL,
+    range_to DATE NOT NULL,
+    rows_written BIGINT NOT NULL DEFAULT 0,
+    total_rows BIGINT NOT NULL DEFAULT 0,
+    file_name VARCHAR(255),
+    file_bytes BIGINT,
+    error VARCHAR(1000),
+    submitted_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    heartbeat_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Retention and stale job cleanup
+CREATE INDEX idx_report_jobs_completed_at ON report_jobs (completed_at);
+CREATE INDEX idx_report_jobs_status_heartbeat ON report_jobs (status, heartbeat_at);
@@ -0,0 +1,6 @@
+-- Chart queries always bound bucket_start and only sometimes filter by type, so the rollups are
+-- clustered by bucket_start first. With (type_id, bucket_start, status) a chart of all types could
+-- not seek and read the whole table; now both shapes read only the requested period, and the
+-- minute purge deletes from the front of the key.
+ALTER TABLE request_volume_minute DROP PRIMARY KEY, ADD PRIMARY KEY (bucket_start, type_id, status);
+ALTER TABLE request_volume_hour DROP PRIMARY KEY, ADD PRIMARY KEY (bucket_start, type_id, status);
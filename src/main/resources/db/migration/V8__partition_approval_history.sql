@@ -0,0 +1,31 @@
+-- Monthly RANGE partitions on approval_history, so HistoryArchiver can remove an archived month
+-- with DROP PARTITION. MySQL does not allow foreign keys on partitioned tables and needs the
+-- partitioning column in every unique key, so the history foreign keys go and the primary key
+-- becomes (id, action_date). Partitions run from the month of the oldest row to three months
+-- ahead; HistoryPartitionManager keeps adding the upcoming ones.
+ALTER TABLE approval_history
+    DROP FOREIGN KEY FKrlh9sb6rxt3ch1jn4tifneqtj,
+    DROP FOREIGN KEY FKdukd91kst85e381womh2755em;
+
+ALTER TABLE approval_history DROP PRIMARY KEY, ADD PRIMARY KEY (id, action_date);
+
+SET SESSION group_concat_max_len = 1048576;
+SET @first_month = DATE_FORMAT(COALESCE((SELECT MIN(action_date) FROM approval_history), NOW()), '%Y-%m-01');
+SET @last_month = DATE_FORMAT(NOW() + INTERVAL 3 MONTH, '%Y-%m-01');
+SET @partitions = (
+    WITH RECURSIVE months (month_start) AS (
+        SELECT CAST(@first_month AS DATE)
+        UNION ALL
+        SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < @last_month
+    )
+    SELECT GROUP_CONCAT(
+        CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+               ' VALUES LESS THAN (TO_DAYS(''', month_start + INTERVAL 1 MONTH, '''))')
+        ORDER BY month_start SEPARATOR ', ')
+    FROM months
+);
+SET @partition_ddl = CONCAT('ALTER TABLE approval_history PARTITION BY RANGE (TO_DAYS(action_date)) (',
+    @partitions, ', PARTITION pmax VALUES LESS THAN MAXVALUE)');
+PREPARE partition_approval_history FROM @partition_ddl;
+EXECUTE partition_approval_history;
+DEALLOCATE PREPARE partition_approval_history;
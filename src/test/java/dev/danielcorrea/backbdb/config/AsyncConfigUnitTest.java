@@ -0,0 +1,57 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the mail executor bulkhead.
+ */
+class AsyncConfigUnitTest {
+
+    @Test
+    void testEmailsBeyondTheQueueAreDroppedAndCounted() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AsyncConfig config = new AsyncConfig();
+        ReflectionTestUtils.setField(config, "mailThreads", 1);
+        ReflectionTestUtils.setField(config, "mailQueueCapacity", 1);
+        ThreadPoolTaskExecutor executor = config.mailTaskExecutor(meterRegistry);
+        executor.initialize();
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger sent = new AtomicInteger();
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sent.incrementAndGet();
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(sent::incrementAndGet);
+
+            // Act
+            assertDoesNotThrow(() -> executor.execute(sent::incrementAndGet));
+
+            // Assert
+            assertEquals(1.0, meterRegistry.get("bulkhead.rejected").tag("workload", "notification").counter().count());
+            stalled.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, sent.get());
+    }
+}
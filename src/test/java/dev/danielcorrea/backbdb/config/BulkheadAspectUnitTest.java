@@ -0,0 +1,182 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.http.HttpStatus;
+
+import dev.danielcorrea.backbdb.config.Bulkhead.Workload;
+import dev.danielcorrea.backbdb.service.Coalesced;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for BulkheadAspect concurrency limits.
+ */
+class BulkheadAspectUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadAspect aspect;
+    private Routes routes;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Reads block until released, so they hold their permits.
+     */
+    class Routes {
+
+        @Bulkhead(Workload.READ)
+        public String read() throws InterruptedException {
+            release.await();
+            return "read";
+        }
+
+        @Coalesced
+        @Bulkhead(Workload.READ)
+        public String coalescedRead() throws InterruptedException {
+            release.await();
+            return "read";
+        }
+
+        @Bulkhead(Workload.WRITE)
+        public String write(boolean fail) {
+            if (fail) {
+                throw new IllegalStateException("Request not found");
+            }
+            return "written";
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new BulkheadAspect(Map.of(
+                Workload.READ, new BulkheadAspect.Limit(2, 0),
+                Workload.WRITE, new BulkheadAspect.Limit(1, 0)), meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Routes());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        routes = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void testCallsBeyondTheLimitAreRejectedAndCounted() throws Exception {
+        // Arrange
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(this::read);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(this::read);
+        awaitActive(Workload.READ, 2);
+
+        // Act
+        BulkheadFullException rejected = assertThrows(BulkheadFullException.class, () -> routes.read());
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+        assertEquals("1", rejected.getHeaders().getFirst("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("bulkhead.rejected").tag("workload", "read").counter().count());
+        release.countDown();
+        assertEquals("read", first.get(5, TimeUnit.SECONDS));
+        assertEquals("read", second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, aspect.active(Workload.READ));
+    }
+
+    @Test
+    void testWritesAreAdmittedWhileReadsAreSaturated() throws Exception {
+        // Arrange
+        CompletableFuture.supplyAsync(this::read);
+        CompletableFuture.supplyAsync(this::read);
+        awaitActive(Workload.READ, 2);
+
+        // Act
+        String result = routes.write(false);
+
+        // Assert
+        assertEquals("written", result);
+        assertEquals(0.0, meterRegistry.get("bulkhead.rejected").tag("workload", "write").counter().count());
+    }
+
+    @Test
+    void testPermitIsReleasedWhenTheCallFails() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> routes.write(true));
+
+        // Assert
+        assertEquals(0, aspect.active(Workload.WRITE));
+        assertEquals("written", routes.write(false));
+    }
+
+    @Test
+    void testCoalescedCallersShareOnePermit() throws Exception {
+        // Arrange - coalescing wraps the bulkhead, as its order puts it outside
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Routes());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CoalescingAspect(meterRegistry));
+        factory.addAspect(aspect);
+        Routes coalescing = factory.getProxy();
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> coalescedRead(coalescing));
+        awaitActive(Workload.READ, 1);
+
+        // Act
+        CompletableFuture<String> others = CompletableFuture.allOf(
+                CompletableFuture.supplyAsync(() -> coalescedRead(coalescing)),
+                CompletableFuture.supplyAsync(() -> coalescedRead(coalescing)))
+                .thenApply(ignored -> "joined");
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertEquals("read", first.get(5, TimeUnit.SECONDS));
+        assertEquals("joined", others.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("bulkhead.rejected").tag("workload", "read").counter().count());
+    }
+
+    @Test
+    void testBulkheadRunsInsideCachingAndCoalescingAndOutsideTheTransaction() {
+        // Act
+        int coalescing = OrderUtils.getOrder(CoalescingAspect.class, Ordered.LOWEST_PRECEDENCE);
+        int bulkhead = OrderUtils.getOrder(BulkheadAspect.class, Ordered.LOWEST_PRECEDENCE);
+
+        // Assert - @Transactional and @Timed keep the lowest precedence
+        assertTrue(CacheConfig.ORDER < coalescing);
+        assertTrue(coalescing < bulkhead);
+        assertTrue(bulkhead < Ordered.LOWEST_PRECEDENCE);
+    }
+
+    private String coalescedRead(Routes target) {
+        try {
+            return target.coalescedRead();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String read() {
+        try {
+            return routes.read();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitActive(Workload workload, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (aspect.active(workload) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(aspect.active(workload) >= expected);
+    }
+}
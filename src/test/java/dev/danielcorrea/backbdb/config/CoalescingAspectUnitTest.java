@@ -0,0 +1,161 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import dev.danielcorrea.backbdb.service.Coalesced;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for CoalescingAspect single-flight execution.
+ */
+class CoalescingAspectUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingAspect aspect;
+    private Reads target;
+    private Reads reads;
+
+    /**
+     * The first call blocks until released, so later calls overlap it.
+     */
+    static class Reads {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        @Coalesced
+        public String load(Long id) throws InterruptedException {
+            if (invocations.incrementAndGet() == 1) {
+                firstStarted.countDown();
+                releaseFirst.await();
+            }
+            if (id < 0) {
+                throw new RuntimeException("Request not found with ID: " + id);
+            }
+            return "value-" + id;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new CoalescingAspect(meterRegistry);
+        target = new Reads();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        reads = factory.getProxy();
+    }
+
+    @Test
+    void testConcurrentIdenticalCallsShareOneExecution() throws Exception {
+        // Arrange
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> load(1L));
+        assertTrue(target.firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> load(1L));
+        awaitCount("joined", 1);
+
+        // Act
+        target.releaseFirst.countDown();
+
+        // Assert
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.invocations.get());
+        assertEquals(1, count("executed"));
+        assertEquals(0, aspect.inFlightCount());
+    }
+
+    @Test
+    void testCompletedCallsAndOtherArgumentsAreNotShared() throws Exception {
+        // Arrange
+        target.releaseFirst.countDown();
+
+        // Act
+        reads.load(1L);
+        reads.load(1L);
+        reads.load(2L);
+
+        // Assert
+        assertEquals(3, target.invocations.get());
+        assertEquals(3, count("executed"));
+        assertEquals(0, count("joined"));
+    }
+
+    @Test
+    void testExceptionIsSharedWithWaitingCalls() throws Exception {
+        // Arrange
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> load(-1L));
+        assertTrue(target.firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> load(-1L));
+        awaitCount("joined", 1);
+
+        // Act
+        target.releaseFirst.countDown();
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertEquals("Request not found with ID: -1", exception.getCause().getMessage());
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.invocations.get());
+        assertEquals(0, aspect.inFlightCount());
+    }
+
+    @Test
+    void testCallWithNewerConsistencyTokenDoesNotJoinOlderExecution() throws Exception {
+        // Arrange
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> load(1L));
+        assertTrue(target.firstStarted.await(5, TimeUnit.SECONDS));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/requests/1");
+        request.addHeader(ConsistencyTokenFilter.HEADER, Long.toString(System.currentTimeMillis()));
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // Act
+        new ConsistencyTokenFilter(new JdbcTemplate()).doFilter(request, new MockHttpServletResponse(), (req, res) -> result.set(load(1L)));
+        target.releaseFirst.countDown();
+
+        // Assert
+        assertEquals("value-1", result.get());
+        assertEquals("value-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals(2, target.invocations.get());
+        assertEquals(1, count("bypassed"));
+    }
+
+    private String load(Long id) {
+        try {
+            return reads.load(id);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.find("coalescing.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private void awaitCount(String outcome, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(outcome) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, count(outcome));
+    }
+}
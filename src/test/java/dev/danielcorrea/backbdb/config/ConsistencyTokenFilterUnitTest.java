@@ -0,0 +1,73 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+
+/**
+ * Unit tests for ConsistencyTokenFilter.
+ * The primary clock is stubbed on the JdbcTemplate.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsistencyTokenFilterUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionExecution transaction;
+
+    @Test
+    void testAfterCommit_TokenIsJustAfterThePrimaryClock() throws Exception {
+        // Arrange
+        ConsistencyTokenFilter filter = new ConsistencyTokenFilter(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1_700_000_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong required = new AtomicLong();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/requests"), response, (req, res) -> {
+            filter.afterCommit(transaction, null);
+            required.set(ConsistencyTokenFilter.requiredTimestamp());
+        });
+
+        // Assert
+        assertEquals("1700000000001", response.getHeader(ConsistencyTokenFilter.HEADER));
+        assertEquals(1_700_000_000_001L, required.get());
+    }
+
+    @Test
+    void testAfterCommit_ReadsFromThePrimaryWhenTheClockCannotBeRead() throws Exception {
+        // Arrange
+        ConsistencyTokenFilter filter = new ConsistencyTokenFilter(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new CannotGetJdbcConnectionException("Connection refused"));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/requests");
+        request.addHeader(ConsistencyTokenFilter.HEADER, "42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong required = new AtomicLong();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            filter.afterCommit(transaction, null);
+            required.set(ConsistencyTokenFilter.requiredTimestamp());
+        });
+
+        // Assert
+        assertNull(response.getHeader(ConsistencyTokenFilter.HEADER));
+        assertEquals(Long.MAX_VALUE, required.get());
+    }
+}
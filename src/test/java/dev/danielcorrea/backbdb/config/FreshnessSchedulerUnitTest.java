@@ -0,0 +1,66 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.danielcorrea.backbdb.service.CacheInvalidationLog;
+
+/**
+ * Unit tests for FreshnessScheduler.
+ * Runs the cache invalidation poll every few milliseconds against a mock.
+ */
+@ExtendWith(MockitoExtension.class)
+class FreshnessSchedulerUnitTest {
+
+    @Mock
+    private ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+
+    @Mock
+    private CacheInvalidationLog cacheInvalidationLog;
+
+    private FreshnessScheduler freshnessScheduler;
+
+    @BeforeEach
+    void setUp() {
+        freshnessScheduler = new FreshnessScheduler(replicaRoutingDataSource, cacheInvalidationLog);
+        ReflectionTestUtils.setField(freshnessScheduler, "heartbeatIntervalMs", 5L);
+        ReflectionTestUtils.setField(freshnessScheduler, "pollIntervalMs", 5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        freshnessScheduler.stop();
+    }
+
+    @Test
+    void testPollKeepsRunningOnItsOwnThreadAfterAFailure() throws InterruptedException {
+        // Arrange
+        CountDownLatch polls = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("freshness-"));
+            polls.countDown();
+            if (polls.getCount() == 2) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return null;
+        }).when(cacheInvalidationLog).poll();
+
+        // Act
+        freshnessScheduler.start();
+        freshnessScheduler.start();
+
+        // Assert
+        assertTrue(polls.await(5, TimeUnit.SECONDS), "Poll stopped after it failed");
+    }
+}
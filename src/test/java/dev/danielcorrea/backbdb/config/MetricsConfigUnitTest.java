@@ -0,0 +1,54 @@
+package dev.danielcorrea.backbdb.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the MetricsConfig cardinality limits.
+ */
+class MetricsConfigUnitTest {
+
+    private MetricsConfig metricsConfig;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        metricsConfig = new MetricsConfig();
+        ReflectionTestUtils.setField(metricsConfig, "maxTagValues", 3);
+        ReflectionTestUtils.setField(metricsConfig, "maxMeters", 10);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testTagValuesBeyondLimitAreDropped() {
+        // Arrange
+        meterRegistry.config().meterFilter(metricsConfig.approvalServiceMethodLimit());
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            Timer.builder("approval.service").tag("method", "method" + i).register(meterRegistry).record(() -> { });
+        }
+
+        // Assert
+        assertEquals(3, meterRegistry.find("approval.service").timers().size());
+    }
+
+    @Test
+    void testMeterCountIsCapped() {
+        // Arrange
+        meterRegistry.config().meterFilter(metricsConfig.meterCountLimit());
+
+        // Act
+        for (int i = 0; i < 15; i++) {
+            meterRegistry.counter("test.counter", "index", Integer.toString(i)).increment();
+        }
+
+        // Assert
+        assertEquals(10, meterRegistry.getMeters().size());
+    }
+}
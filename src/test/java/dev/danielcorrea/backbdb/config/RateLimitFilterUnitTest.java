@@ -0,0 +1,128 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for RateLimitFilter token buckets.
+ */
+class RateLimitFilterUnitTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(new RateLimitFilter.Limit(2, 3), new RateLimitFilter.Limit(1, 1), clock::get);
+    }
+
+    @Test
+    void testBurstIsAdmittedThenThrottledWithRetryAfter() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, call("GET", "/api/requests/assigned/7", "10.0.0.1").getStatus());
+        }
+
+        // Act
+        MockHttpServletResponse throttled = call("GET", "/api/requests/assigned/7", "10.0.0.1");
+
+        // Assert
+        assertEquals(429, throttled.getStatus());
+        assertEquals("1", throttled.getHeader("Retry-After"));
+    }
+
+    @Test
+    void testThrottledCallDoesNotReachTheChain() throws Exception {
+        // Arrange
+        call("POST", "/api/requests", "10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("POST", "/api/requests", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testTokensRefillOverTime() throws Exception {
+        // Arrange
+        call("POST", "/api/requests", "10.0.0.1");
+        assertEquals(429, call("POST", "/api/requests", "10.0.0.1").getStatus());
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Assert
+        assertEquals(200, call("POST", "/api/requests", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void testBucketsArePerUserAndEndpoint() throws Exception {
+        // Arrange
+        call("PATCH", "/api/requests/0a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d/approve", "10.0.0.1");
+        for (int i = 0; i < 3; i++) {
+            call("GET", "/api/requests/assigned/7", "10.0.0.1");
+        }
+
+        // Act & Assert
+        assertEquals(429, call("PATCH", "/api/requests/11111111-2222-4333-8444-555555555555/approve", "10.0.0.1").getStatus());
+        assertEquals(200, call("PATCH", "/api/requests/11111111-2222-4333-8444-555555555555/reject", "10.0.0.1").getStatus());
+        assertEquals(200, call("PATCH", "/api/requests/11111111-2222-4333-8444-555555555555/approve", "10.0.0.2").getStatus());
+        assertEquals(429, call("GET", "/api/requests/assigned/7", "10.0.0.2").getStatus());
+        assertEquals(200, call("GET", "/api/requests/assigned/8", "10.0.0.1").getStatus());
+        assertEquals(200, call("GET", "/api/requests/created/7", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void testNonApiAndPreflightCallsAreNotLimited() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            call("GET", "/actuator/prometheus", "10.0.0.1");
+            call("OPTIONS", "/api/requests", "10.0.0.1");
+        }
+        filter.doFilter(request("GET", "/actuator/prometheus", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(0, filter.bucketCount());
+    }
+
+    @Test
+    void testFullBucketsAreEvicted() throws Exception {
+        // Arrange
+        call("GET", "/api/users", "10.0.0.1");
+        call("POST", "/api/requests", "10.0.0.1");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+
+        // Act
+        filter.evictIdleBuckets();
+
+        // Assert
+        assertEquals(1, filter.bucketCount());
+    }
+
+    private MockHttpServletResponse call(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, remoteAddr), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
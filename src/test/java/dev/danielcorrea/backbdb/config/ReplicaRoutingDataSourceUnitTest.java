@@ -0,0 +1,125 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ * Replication progress is fed in directly instead of read from heartbeat rows.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceUnitTest {
+
+    /** Primary clock at the last heartbeat, in epoch milliseconds. */
+    private static final long PRIMARY_NOW = 1_700_000_000_000L;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaOne;
+
+    @Mock
+    private DataSource replicaTwo;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of("one", "two"),
+                List.of(replicaOne, replicaTwo), 1000);
+    }
+
+    @Test
+    void testChoose_RoundRobinsOverCaughtUpReplicas() {
+        // Arrange
+        routingDataSource.updateReplica(0, PRIMARY_NOW, PRIMARY_NOW);
+        routingDataSource.updateReplica(1, PRIMARY_NOW, PRIMARY_NOW);
+
+        // Act
+        String first = routingDataSource.choose(0, System.nanoTime()).name;
+        String second = routingDataSource.choose(0, System.nanoTime()).name;
+
+        // Assert
+        assertEquals(List.of("one", "two"), List.of(first, second).stream().sorted().toList());
+    }
+
+    @Test
+    void testChoose_SkipsLaggingAndUnreachableReplicas() {
+        // Arrange
+        routingDataSource.updateReplica(0, PRIMARY_NOW - 5000, PRIMARY_NOW);
+        routingDataSource.updateReplica(1, null, PRIMARY_NOW);
+
+        // Act & Assert
+        assertNull(routingDataSource.choose(0, System.nanoTime()));
+    }
+
+    @Test
+    void testChoose_DropsReplicaWhoseLagGrowsSinceTheLastHeartbeat() {
+        // Arrange
+        routingDataSource.updateReplica(0, PRIMARY_NOW - 600, PRIMARY_NOW);
+        routingDataSource.updateReplica(1, null, PRIMARY_NOW);
+
+        // Act & Assert - 600 ms behind then, more than 1000 ms behind half a second later
+        assertEquals("one", routingDataSource.choose(0, System.nanoTime()).name);
+        assertNull(routingDataSource.choose(0, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500)));
+    }
+
+    @Test
+    void testChoose_HonoursConsistencyToken() {
+        // Arrange
+        routingDataSource.updateReplica(0, PRIMARY_NOW - 500, PRIMARY_NOW);
+        routingDataSource.updateReplica(1, PRIMARY_NOW - 100, PRIMARY_NOW);
+
+        // Act & Assert - Only replica two has applied the write committed at primary time now - 200
+        for (int i = 0; i < 4; i++) {
+            assertEquals("two", routingDataSource.choose(PRIMARY_NOW - 200, System.nanoTime()).name);
+        }
+        assertNull(routingDataSource.choose(PRIMARY_NOW - 50, System.nanoTime()));
+    }
+
+    @Test
+    void testGetConnection_FallsBackToPrimaryWhenReplicaFails() throws SQLException {
+        // Arrange
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of("one"), List.of(replicaOne), 1000);
+        routingDataSource.updateReplica(0, PRIMARY_NOW, PRIMARY_NOW);
+        when(replicaOne.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertNull(routingDataSource.choose(0, System.nanoTime()));
+    }
+
+    @Test
+    void testGetConnectionWithCredentials_DelegatesToPrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = routingDataSource.getConnection("reporting", "secret");
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+}
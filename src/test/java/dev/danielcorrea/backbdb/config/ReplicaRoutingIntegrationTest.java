@@ -0,0 +1,49 @@
+package dev.danielcorrea.backbdb.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration test for read/write splitting against a primary and a replica.
+ * Start both with docker/replication/docker-compose.yml and set DB_URL and DB_REPLICA_URLS:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow
+ * export DB_REPLICA_URLS=jdbc:mysql://localhost:3307/approval_flow
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_REPLICA_URLS", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires a MySQL primary and replica. Set DB_URL and DB_REPLICA_URLS to run.")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Test
+    void testReadOnlyTransactionsUseTheReplica() {
+        // Arrange
+        replicaRoutingDataSource.heartbeat();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // Act
+        Integer primaryServerId = readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+        Integer readOnlyServerId = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+        Integer plainServerId = jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class);
+
+        // Assert
+        assertNotEquals(primaryServerId, readOnlyServerId);
+        assertEquals(primaryServerId, plainServerId);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Unit tests checking that the RequestDtoModule serializers write exactly what the default
+ * Jackson serialization writes.
+ */
+class RequestDtoModuleUnitTest {
+
+    private static final UUID ID = UUID.fromString("0a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d");
+
+    private final List<Object> values = List.of(
+            new RequestSummaryDTO(ID, "Laptop", "PENDING", "EQUIPMENT", LocalDateTime.of(2025, 3, 1, 9, 0), "Ana Diaz"),
+            new RequestSummaryDTO(ID, "Quote \"and\" ñ", "APPROVED", "TRAVEL",
+                    LocalDateTime.of(2025, 12, 31, 23, 59, 59, 120_000_000), null),
+            new RequestSummaryDTO(null, null, null, null, null, null),
+            new RequestDetailsDTO(ID, "Laptop", "Needed for onboarding", "REJECTED", "EQUIPMENT",
+                    LocalDateTime.of(2025, 3, 1, 9, 0, 5, 123_456_789), "Luis Perez", "Over budget",
+                    LocalDateTime.of(2025, 3, 2, 10, 30, 0, 1_000)),
+            new RequestDetailsDTO(ID, "Laptop", null, "PENDING", "EQUIPMENT",
+                    LocalDateTime.of(2025, 3, 1, 9, 0, 5, 5), "Luis Perez", null, null));
+
+    @Test
+    void testJsonOutputMatchesDefaultSerialization() {
+        // Arrange
+        JsonMapper defaultMapper = JsonMapper.builder().build();
+        JsonMapper mapper = JsonMapper.builder().addModule(new RequestDtoModule()).build();
+
+        // Act & Assert
+        for (Object value : values) {
+            assertEquals(defaultMapper.writeValueAsString(value), mapper.writeValueAsString(value));
+        }
+        assertEquals(defaultMapper.writeValueAsString(values), mapper.writeValueAsString(values));
+    }
+
+    @Test
+    void testSmileOutputMatchesDefaultSerialization() {
+        assertSameBytes(SmileMapper.builder().build(), SmileMapper.builder().addModule(new RequestDtoModule()).build());
+    }
+
+    @Test
+    void testCborOutputMatchesDefaultSerialization() {
+        assertSameBytes(CBORMapper.builder().build(), CBORMapper.builder().addModule(new RequestDtoModule()).build());
+    }
+
+    @Test
+    void testTimestampFormat() {
+        // Arrange
+        JsonMapper mapper = JsonMapper.builder().addModule(new RequestDtoModule()).build();
+        RequestSummaryDTO summary = new RequestSummaryDTO(ID, "Laptop", "PENDING", "EQUIPMENT",
+                LocalDateTime.of(2025, 3, 1, 9, 0), "Ana Diaz");
+
+        // Act
+        String json = mapper.writeValueAsString(summary);
+
+        // Assert
+        assertEquals("{\"id\":\"0a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d\",\"title\":\"Laptop\",\"status\":\"PENDING\","
+                + "\"typeName\":\"EQUIPMENT\",\"createdAt\":\"2025-03-01T09:00:00\",\"relatedUserName\":\"Ana Diaz\"}", json);
+    }
+
+    private void assertSameBytes(ObjectMapper defaultMapper, ObjectMapper mapper) {
+        // Act & Assert
+        for (Object value : values) {
+            assertArrayEquals(defaultMapper.writeValueAsBytes(value), mapper.writeValueAsBytes(value));
+        }
+        assertArrayEquals(defaultMapper.writeValueAsBytes(values), mapper.writeValueAsBytes(values));
+    }
+}
@@ -0,0 +1,178 @@
+package dev.danielcorrea.backbdb.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Unit tests for RequestLogFilter sampling and SQL capture, and its statement inspector registration.
+ */
+class RequestLogFilterUnitTest {
+
+    private final AtomicLong sample = new AtomicLong();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private RequestLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 0.5 sample rate; the "random" value is sample / 100
+        filter = new RequestLogFilter(0.5, 1000, 2, () -> sample.get() / 100.0);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testFastRequestsAreSampled() throws Exception {
+        // Act
+        sample.set(90);
+        call(response -> response.setStatus(200));
+        sample.set(10);
+        call(response -> response.setStatus(200));
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+    }
+
+    @Test
+    void testServerErrorsAreAlwaysLogged() throws Exception {
+        // Arrange
+        sample.set(90);
+
+        // Act
+        call(response -> response.setStatus(503));
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+    }
+
+    @Test
+    void testUncaughtExceptionIsLoggedAsServerErrorAndRethrown() {
+        // Arrange
+        sample.set(90);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> call(response -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.ERROR, event.getLevel());
+        assertEquals("No SQL", event.getFormattedMessage());
+        assertTrue(event.getKeyValuePairs().stream()
+                .anyMatch(pair -> pair.key.equals("path") && pair.value.equals("/api/requests/created/7")));
+        assertTrue(event.getKeyValuePairs().stream()
+                .anyMatch(pair -> pair.key.equals("status") && pair.value.equals(500)));
+        assertEquals("boom", event.getThrowableProxy().getMessage());
+    }
+
+    @Test
+    void testStatementsOfTheRequestAreLoggedUpToTheLimit() throws Exception {
+        // Arrange
+        sample.set(10);
+
+        // Act
+        call(response -> {
+            filter.inspect("select 1");
+            filter.inspect("select 2");
+            filter.inspect("select 3");
+        });
+        filter.inspect("select outside");
+
+        // Assert
+        String message = appender.list.get(0).getFormattedMessage();
+        assertEquals("SQL:\n  select 1\n  select 2\n  ... 1 more", message);
+        assertTrue(appender.list.get(0).getKeyValuePairs().stream()
+                .anyMatch(pair -> pair.key.equals("sqlCount") && pair.value.equals(3)));
+    }
+
+    @Test
+    void testNonApiPathsAreNotLogged() throws Exception {
+        // Arrange
+        sample.set(0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Assert
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void testConfiguredStatementInspectorIsChainedNotReplaced() throws Exception {
+        // Arrange
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, UppercaseInspector.class.getName());
+        new RequestLogConfig().requestLogStatementInspector(filter).customize(properties);
+        StatementInspector inspector = (StatementInspector) properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+        sample.set(10);
+
+        // Act
+        call(response -> assertEquals("SELECT 1", inspector.inspect("select 1")));
+
+        // Assert - the configured inspector ran, and the filter saw its output
+        assertEquals("SQL:\n  SELECT 1", appender.list.get(0).getFormattedMessage());
+    }
+
+    /**
+     * Stands in for an inspector configured through spring.jpa.properties.
+     */
+    public static class UppercaseInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            return sql.toUpperCase();
+        }
+    }
+
+    /**
+     * Work done by the rest of the chain.
+     */
+    private interface Handler {
+
+        void handle(HttpServletResponse response) throws Exception;
+    }
+
+    private void call(Handler handler) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/requests/created/7");
+        FilterChain chain = (req, res) -> {
+            try {
+                handler.handle((HttpServletResponse) res);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
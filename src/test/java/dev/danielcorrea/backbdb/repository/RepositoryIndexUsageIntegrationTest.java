@@ -0,0 +1,263 @@
+package dev.danielcorrea.backbdb.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+
+/**
+ * Runs EXPLAIN on the SQL of every ApprovalRequestRepository and RequestLogRepository query
+ * and checks that requests and approval_history are read through an index, never scanned.
+ * The SQL is captured from Hibernate as the repository method runs and the parameters are
+ * inlined before explaining it. The request volume chart queries are explained the same way and
+ * must seek on bucket_start.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "dev.danielcorrea.backbdb.repository.RepositoryIndexUsageIntegrationTest$SqlCapture")
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class RepositoryIndexUsageIntegrationTest {
+
+    private static final Pattern INDEXED_TABLE = Pattern.compile(
+            "(?i)\\b(?:from|join)\\s+(requests|approval_history)\\s+(\\w+)");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final int ROWS = 3000;
+    private static final int USERS = 30;
+    private static final int ROLLUP_TYPES = 20;
+    private static final List<String> ROLLUP_TABLES = List.of("request_volume_minute", "request_volume_hour");
+    private static final LocalDateTime ROLLUP_START = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private RequestLogRepository requestLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private RequestType type;
+    private ApprovalRequest request;
+
+    /**
+     * Collects the SQL Hibernate sends, in order.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows, spread over enough users and mostly decided, that the optimizer prefers
+        // an index to a table scan as it would in production
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("explain_" + i + "_" + suffix)
+                    .fullName("Explain User " + i)
+                    .email("explain" + i + "_" + suffix + "@localhost")
+                    .build()));
+        }
+        type = requestTypeRepository.save(RequestType.builder().name("EXPLAIN_" + suffix).build());
+
+        List<Object[]> requestRows = new ArrayList<>();
+        List<Object[]> historyRows = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < ROWS; i++) {
+            byte[] id = UuidBinary.toBytes(UUID.randomUUID());
+            Timestamp createdAt = Timestamp.valueOf(start.plusMinutes(i));
+            RequestStatus status = i % 50 == 0 ? RequestStatus.PENDING : i % 2 == 0 ? RequestStatus.APPROVED : RequestStatus.REJECTED;
+            requestRows.add(new Object[] {id, "Explain " + i, status.name(), createdAt, createdAt,
+                    users.get(i % USERS).getId(), users.get((i + 1) % USERS).getId(), type.getId()});
+            historyRows.add(new Object[] {"CREATED", createdAt, id, users.get(i % USERS).getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, title, status, created_at, updated_at, requester_id, approver_id, type_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", requestRows);
+        jdbcTemplate.batchUpdate("INSERT INTO approval_history (action_taken, action_date, request_id, user_id) "
+                + "VALUES (?, ?, ?, ?)", historyRows);
+        // Type ids no request type uses, spread over many buckets so that reading one day is a
+        // small part of each rollup table
+        List<Object[]> rollupRows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            for (int t = 1; t <= ROLLUP_TYPES; t++) {
+                rollupRows.add(new Object[] {Timestamp.valueOf(ROLLUP_START.plusHours(i)), -t, "APPROVED", 1});
+            }
+        }
+        for (String table : ROLLUP_TABLES) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (bucket_start, type_id, status, request_count) "
+                    + "VALUES (?, ?, ?, ?)", rollupRows);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE requests, approval_history, request_volume_minute, request_volume_hour");
+
+        request = approvalRequestRepository.findById(UuidBinary.fromBytes((byte[]) requestRows.get(0)[0])).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM approval_history WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM requests WHERE requester_id = ?", userId);
+        }
+        requestTypeRepository.deleteById(type.getId());
+        userRepository.deleteAllById(userIds);
+        for (String table : ROLLUP_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE type_id < 0");
+        }
+    }
+
+    @Test
+    void testApprovalRequestQueriesUseIndexes() {
+        User user = users.get(0);
+        User approver = users.get(1);
+
+        assertUsesIndex(() -> approvalRequestRepository.findByRequester(user), user.getId());
+        assertUsesIndex(() -> approvalRequestRepository.findByApprover(approver), approver.getId());
+        assertUsesIndex(() -> approvalRequestRepository.findByStatus(RequestStatus.PENDING), RequestStatus.PENDING);
+        assertUsesIndex(() -> approvalRequestRepository.findByRequesterAndStatus(user, RequestStatus.PENDING),
+                user.getId(), RequestStatus.PENDING);
+        assertUsesIndex(() -> approvalRequestRepository.findByApproverAndStatus(approver, RequestStatus.PENDING),
+                approver.getId(), RequestStatus.PENDING);
+        assertUsesIndex(() -> approvalRequestRepository.countByStatus(RequestStatus.REJECTED), RequestStatus.REJECTED);
+        assertUsesIndex(() -> approvalRequestRepository.countGroupedByTypeStatusAndApprover());
+        assertUsesIndex(() -> approvalRequestRepository.findDetailedById(request.getId()), request.getId());
+        assertUsesIndex(() -> approvalRequestRepository.findByRequester_IdOrderByCreatedAtDesc(user.getId()), user.getId());
+        assertUsesIndex(() -> approvalRequestRepository.findByApprover_IdOrderByCreatedAtDesc(approver.getId()), approver.getId());
+    }
+
+    @Test
+    void testRequestLogQueriesUseIndexes() {
+        User user = users.get(0);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertUsesIndex(() -> requestLogRepository.findByRequest(request), request.getId());
+        assertUsesIndex(() -> requestLogRepository.findByUser(user), user.getId());
+        assertUsesIndex(() -> requestLogRepository.findByRequestOrderByActionDateDesc(request), request.getId());
+        assertUsesIndex(() -> requestLogRepository.findHistoryPage(request.getId(), Limit.of(20)), request.getId(), 20);
+        assertUsesIndex(() -> requestLogRepository.findHistoryPageBefore(request.getId(), now, Long.MAX_VALUE, Limit.of(20)),
+                request.getId(), now, now, Long.MAX_VALUE, 20);
+    }
+
+    @Test
+    void testVolumeQueriesSeekOnBucketStart() {
+        // The two shapes RequestVolumeService.getVolume sends: all types, and one type
+        String from = "'" + ROLLUP_START.plusDays(10).format(DATE_TIME) + "'";
+        String to = "'" + ROLLUP_START.plusDays(11).format(DATE_TIME) + "'";
+        for (String table : ROLLUP_TABLES) {
+            assertSeeks(table, "SELECT bucket_start, status, SUM(request_count) AS total FROM " + table
+                    + " WHERE bucket_start >= " + from + " AND bucket_start < " + to
+                    + " GROUP BY bucket_start, status ORDER BY bucket_start, status");
+            assertSeeks(table, "SELECT bucket_start, status, SUM(request_count) AS total FROM " + table
+                    + " WHERE bucket_start >= " + from + " AND bucket_start < " + to + " AND type_id = -1"
+                    + " GROUP BY bucket_start, status ORDER BY bucket_start, status");
+        }
+    }
+
+    /**
+     * Explains the query and checks that it reads a key range of the table rather than all of it.
+     */
+    private void assertSeeks(String table, String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        for (Map<String, Object> row : plan) {
+            if (table.equals(String.valueOf(row.get("table")))) {
+                assertEquals("range", row.get("type"), "Whole " + table + " read in plan " + plan + " for: " + sql);
+            }
+        }
+    }
+
+    /**
+     * Runs the query, explains its first SELECT with the given parameters inlined in order and
+     * checks that every requests and approval_history row of the plan uses an index.
+     */
+    private void assertUsesIndex(Runnable query, Object... parameters) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.trim().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow();
+
+        Set<String> aliases = new HashSet<>();
+        Matcher matcher = INDEXED_TABLE.matcher(sql);
+        while (matcher.find()) {
+            aliases.add(matcher.group(2));
+        }
+        assertFalse(aliases.isEmpty(), "No requests or approval_history table in: " + sql);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + inline(sql, parameters));
+        for (Map<String, Object> row : plan) {
+            if (aliases.contains(String.valueOf(row.get("table")))) {
+                assertNotNull(row.get("key"), "Full scan of " + row.get("table") + " in plan " + plan + " for: " + sql);
+            }
+        }
+    }
+
+    private static String inline(String sql, Object[] parameters) {
+        StringBuilder inlined = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                inlined.append(literal(parameters[parameter++]));
+            } else {
+                inlined.append(c);
+            }
+        }
+        return inlined.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        if (value instanceof UUID uuid) {
+            return "UNHEX('" + HexFormat.of().formatHex(UuidBinary.toBytes(uuid)) + "')";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return "'" + dateTime.format(DATE_TIME) + "'";
+        }
+        return "'" + value + "'";
+    }
+}
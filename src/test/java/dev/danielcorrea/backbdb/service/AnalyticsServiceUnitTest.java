@@ -0,0 +1,153 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.danielcorrea.backbdb.dto.AnalyticsGroupDTO;
+import dev.danielcorrea.backbdb.dto.AnalyticsQueryDTO;
+import dev.danielcorrea.backbdb.dto.AnalyticsResultDTO;
+import dev.danielcorrea.backbdb.dto.RequestTypeDTO;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+
+/**
+ * Unit tests for AnalyticsService.
+ * Loads rows straight into an AnalyticsSnapshot and aggregates them.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceUnitTest {
+
+    @Mock
+    private RequestTypeService requestTypeService;
+
+    private AnalyticsSnapshot analyticsSnapshot;
+    private AnalyticsService analyticsService;
+
+    // A Monday
+    private final LocalDateTime monday = LocalDateTime.of(2024, 5, 6, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        analyticsSnapshot = new AnalyticsSnapshot(null);
+        ReflectionTestUtils.setField(analyticsSnapshot, "enabled", true);
+        analyticsService = new AnalyticsService(analyticsSnapshot, requestTypeService);
+        ReflectionTestUtils.setField(analyticsService, "parallelism", 2);
+        ReflectionTestUtils.setField(analyticsService, "maxGroups", 100);
+        analyticsService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyticsService.stop();
+    }
+
+    private AnalyticsSnapshot.SnapshotRow row(UUID id, RequestStatus status, int typeId, Long approverId,
+                                              LocalDateTime createdAt, LocalDateTime decidedAt) {
+        return new AnalyticsSnapshot.SnapshotRow(id, status, typeId, 1L, approverId, createdAt, decidedAt, createdAt);
+    }
+
+    private AnalyticsQueryDTO query(List<String> groupBy) {
+        AnalyticsQueryDTO query = new AnalyticsQueryDTO();
+        query.setGroupBy(groupBy);
+        return query;
+    }
+
+    @Test
+    void testAggregate_FiltersAndGroupsByTypeAndStatus() {
+        // Arrange
+        when(requestTypeService.getAllRequestTypes()).thenReturn(List.of(
+                new RequestTypeDTO(1, "ACCESS", null),
+                new RequestTypeDTO(2, "PURCHASE", null)));
+        analyticsSnapshot.apply(List.of(
+                row(UUID.randomUUID(), RequestStatus.PENDING, 1, 2L, monday, null),
+                row(UUID.randomUUID(), RequestStatus.PENDING, 1, 2L, monday, null),
+                row(UUID.randomUUID(), RequestStatus.APPROVED, 1, 2L, monday, monday.plusSeconds(100)),
+                row(UUID.randomUUID(), RequestStatus.APPROVED, 2, 2L, monday, monday.plusSeconds(300)),
+                row(UUID.randomUUID(), RequestStatus.PENDING, 2, 3L, monday, null)));
+        AnalyticsQueryDTO query = query(List.of("type", "status"));
+        query.setApproverIds(List.of(2L));
+
+        // Act
+        AnalyticsResultDTO result = analyticsService.aggregate(query);
+
+        // Assert
+        assertEquals(4, result.matchedRequests());
+        assertEquals(5, result.scannedRequests());
+        assertEquals(3, result.groups().size());
+        AnalyticsGroupDTO largest = result.groups().get(0);
+        assertEquals(Map.of("TYPE", "ACCESS", "STATUS", "PENDING"), largest.key());
+        assertEquals(2, largest.count());
+        assertNull(largest.avgDecisionSeconds());
+        assertEquals(300.0, result.groups().stream()
+                .filter(g -> g.key().get("TYPE").equals("PURCHASE")).findFirst().orElseThrow().avgDecisionSeconds());
+    }
+
+    @Test
+    void testAggregate_GroupsByCreationWeek() {
+        // Arrange
+        analyticsSnapshot.apply(List.of(
+                row(UUID.randomUUID(), RequestStatus.PENDING, 1, 2L, monday, null),
+                row(UUID.randomUUID(), RequestStatus.PENDING, 1, 2L, monday.plusDays(6), null),
+                row(UUID.randomUUID(), RequestStatus.PENDING, 1, 2L, monday.plusDays(7), null)));
+        AnalyticsQueryDTO query = query(List.of("created_week"));
+        query.setStatuses(List.of("PENDING"));
+
+        // Act
+        AnalyticsResultDTO result = analyticsService.aggregate(query);
+
+        // Assert
+        assertEquals(2, result.groups().size());
+        assertEquals(Map.of("CREATED_WEEK", "2024-05-06"), result.groups().get(0).key());
+        assertEquals(2, result.groups().get(0).count());
+        assertEquals(Map.of("CREATED_WEEK", "2024-05-13"), result.groups().get(1).key());
+    }
+
+    @Test
+    void testApply_UpdatesExistingRowsAndGrows() {
+        // Arrange
+        List<AnalyticsSnapshot.SnapshotRow> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(row(new UUID(i, i), RequestStatus.PENDING, 1, 2L, monday.plusMinutes(i), null));
+        }
+        analyticsSnapshot.apply(rows);
+
+        // Act
+        analyticsSnapshot.apply(List.of(
+                row(new UUID(42, 42), RequestStatus.REJECTED, 1, 2L, monday.plusMinutes(42), monday.plusDays(1))));
+        AnalyticsResultDTO result = analyticsService.aggregate(query(List.of("status")));
+
+        // Assert
+        assertEquals(5000, analyticsSnapshot.size());
+        assertEquals(4999, result.groups().get(0).count());
+        assertEquals(Map.of("STATUS", "REJECTED"), result.groups().get(1).key());
+    }
+
+    @Test
+    void testAggregate_RejectsUnknownDimension() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.aggregate(query(List.of("color"))));
+    }
+
+    @Test
+    void testAggregate_RejectsQueriesWhenSnapshotIsDisabled() {
+        // Arrange
+        ReflectionTestUtils.setField(analyticsSnapshot, "enabled", false);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> analyticsService.aggregate(query(List.of("status"))));
+    }
+}
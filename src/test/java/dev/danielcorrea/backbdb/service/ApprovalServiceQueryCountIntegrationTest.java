@@ -0,0 +1,157 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestLog;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+import dev.danielcorrea.backbdb.repository.RequestLogRepository;
+import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
+import dev.danielcorrea.backbdb.repository.UserRepository;
+import static dev.danielcorrea.backbdb.support.SqlStatementCounter.assertSelectsAtMost;
+import dev.danielcorrea.backbdb.support.SqlStatementCountingConfig;
+
+/**
+ * Guards ApprovalService against N+1 queries: every list, detail and decision path must issue a
+ * fixed number of SELECTs however many requests, users and types are involved.
+ *
+ * The requests are spread over several approvers, requesters and types, so a lazy association
+ * loaded per row shows up as extra SELECTs.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest
+@Import(SqlStatementCountingConfig.class)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class ApprovalServiceQueryCountIntegrationTest {
+
+    private static final int REQUESTS = 12;
+    private static final int USERS = 6;
+    private static final int TYPES = 3;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private RequestLogRepository requestLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<RequestType> types = new ArrayList<>();
+    private final List<ApprovalRequest> requests = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .username("count_" + i + "_" + suffix)
+                    .fullName("Count User " + i)
+                    .email("count" + i + "_" + suffix + "@localhost")
+                    .build()));
+        }
+        for (int i = 0; i < TYPES; i++) {
+            types.add(requestTypeRepository.save(RequestType.builder().name("COUNT_" + i + "_" + suffix).build()));
+        }
+
+        // User 0 created every request and is the approver of none; user 1 approves all of them
+        // but each has a different requester in the inbox view
+        for (int i = 0; i < REQUESTS; i++) {
+            User requester = i % 2 == 0 ? users.get(0) : users.get(2 + i % (USERS - 2));
+            User approver = i % 2 == 0 ? users.get(1 + i % (USERS - 1)) : users.get(1);
+            ApprovalRequest request = approvalRequestRepository.save(ApprovalRequest.builder()
+                    .title("Count request " + i)
+                    .status(RequestStatus.PENDING)
+                    .requester(requester)
+                    .approver(approver)
+                    .type(types.get(i % TYPES))
+                    .build());
+            requestLogRepository.save(RequestLog.builder()
+                    .actionTaken("CREATED")
+                    .actionDate(LocalDateTime.now())
+                    .request(request)
+                    .user(requester)
+                    .build());
+            requests.add(request);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (User user : users) {
+            jdbcTemplate.update("DELETE FROM approval_history WHERE user_id = ?", user.getId());
+        }
+        approvalRequestRepository.deleteAllById(requests.stream().map(ApprovalRequest::getId).toList());
+        requestTypeRepository.deleteAllById(types.stream().map(RequestType::getId).toList());
+        userRepository.deleteAllById(users.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void testRequestListsUseOneSelect() {
+        // Arrange
+        Long requesterId = users.get(0).getId();
+        Long approverId = users.get(1).getId();
+        long created = requests.stream().filter(r -> r.getRequester().getId().equals(requesterId)).count();
+        long assigned = requests.stream().filter(r -> r.getApprover().getId().equals(approverId)).count();
+
+        // Act & Assert
+        assertSelectsAtMost(1, () -> assertEquals(created, approvalService.getRequestsCreatedByUser(requesterId).size()));
+        assertSelectsAtMost(1, () -> assertEquals(assigned, approvalService.getRequestsAssignedToUser(approverId).size()));
+    }
+
+    @Test
+    void testRequestDetailsUseOneSelect() {
+        // Arrange
+        ApprovalRequest request = requests.get(0);
+
+        // Act & Assert
+        assertSelectsAtMost(1, () -> approvalService.getRequestDetails(request.getId()));
+    }
+
+    @Test
+    void testRequestHistoryUsesTwoSelects() {
+        // Arrange
+        ApprovalRequest request = requests.get(0);
+
+        // Act & Assert - The request, then one page of history with actor names joined
+        assertSelectsAtMost(2, () -> approvalService.getRequestHistory(request.getId(), null, 20));
+    }
+
+    @Test
+    void testDecisionUsesOneSelect() {
+        // Arrange
+        ApprovalRequest request = requests.get(0);
+
+        // Act & Assert - The request with requester, approver and type; the approver is then
+        // already in the persistence context
+        assertSelectsAtMost(1, () -> approvalService.approveRequest(request.getId(), "Approved", request.getApprover().getId()));
+    }
+}
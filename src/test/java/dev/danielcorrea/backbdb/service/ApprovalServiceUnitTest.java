@@ -1,11 +1,13 @@
 package dev.danielcorrea.backbdb.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +21,15 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import dev.danielcorrea.backbdb.config.CacheConfig;
 import dev.danielcorrea.backbdb.dto.CreateRequestDTO;
+import dev.danielcorrea.backbdb.dto.RequestDetailsDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryEntryDTO;
+import dev.danielcorrea.backbdb.dto.RequestHistoryPageDTO;
 import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
 import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.RequestLog;
@@ -54,6 +63,24 @@ class ApprovalServiceUnitTest {
     @Mock
     private EmailNotificationService emailNotificationService;
 
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private HistoryArchiveReader historyArchiveReader;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private DecisionLatencyService decisionLatencyService;
+
+    @Mock
+    private CacheInvalidationLog cacheInvalidationLog;
+
+    @Mock
+    private RequestArchiveReader requestArchiveReader;
+
     @InjectMocks
     private ApprovalService approvalService;
 
@@ -148,6 +175,10 @@ class ApprovalServiceUnitTest {
         assertEquals("Test Request", result.title());
         assertEquals("PENDING", result.status());
         verify(approvalRequestRepository, times(1)).save(any(ApprovalRequest.class));
+        verify(auditLogWriter, times(1)).journal(any(RequestLog.class));
+        verify(auditLogWriter, never()).append(any(RequestLog.class));
+        verify(statisticsService, times(1)).recordCreated(any(ApprovalRequest.class));
+        verify(cacheInvalidationLog, times(1)).invalidate(CacheConfig.INBOX, 2L);
         verify(emailNotificationService, times(1)).sendRequestCreatedNotification(any(), any());
     }
 
@@ -199,7 +230,7 @@ class ApprovalServiceUnitTest {
     void testApproveRequest_Success() {
         // Arrange
         UUID requestId = pendingRequest.getId();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
         when(userRepository.findById(2L)).thenReturn(Optional.of(approver));
         when(approvalRequestRepository.save(any(ApprovalRequest.class))).thenReturn(pendingRequest);
 
@@ -209,15 +240,37 @@ class ApprovalServiceUnitTest {
         // Assert
         assertNotNull(result);
         assertEquals(RequestStatus.APPROVED, pendingRequest.getStatus());
-        verify(requestLogRepository, times(1)).save(any(RequestLog.class));
+        verify(auditLogWriter, times(1)).append(any(RequestLog.class));
+        verify(cacheInvalidationLog, times(1)).invalidate(CacheConfig.INBOX, 2L);
         verify(emailNotificationService, times(1)).sendRequestStatusUpdateNotification(any(), any(), any());
     }
 
+    @Test
+    void testApproveRequest_RecordsDecisionLatencyAfterCommit() {
+        // Arrange
+        UUID requestId = pendingRequest.getId();
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(approver));
+        when(approvalRequestRepository.save(any(ApprovalRequest.class))).thenReturn(pendingRequest);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            approvalService.approveRequest(requestId, "Looks good!", 2L);
+
+            // Assert - nothing is recorded for a decision that may still roll back
+            verify(decisionLatencyService, never()).recordDecision(any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(decisionLatencyService, times(1)).recordDecision(any(), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void testApproveRequest_RequestNotFound() {
         // Arrange
         UUID requestId = UUID.randomUUID();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.empty());
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -230,7 +283,7 @@ class ApprovalServiceUnitTest {
     void testApproveRequest_RequestNotPending() {
         // Arrange
         UUID requestId = approvedRequest.getId();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(approvedRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(approvedRequest));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -244,7 +297,7 @@ class ApprovalServiceUnitTest {
         // Arrange
         UUID requestId = pendingRequest.getId();
         Long wrongApproverId = 999L;
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -259,7 +312,7 @@ class ApprovalServiceUnitTest {
     void testRejectRequest_Success() {
         // Arrange
         UUID requestId = pendingRequest.getId();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
         when(userRepository.findById(2L)).thenReturn(Optional.of(approver));
         when(approvalRequestRepository.save(any(ApprovalRequest.class))).thenReturn(pendingRequest);
 
@@ -269,7 +322,8 @@ class ApprovalServiceUnitTest {
         // Assert
         assertNotNull(result);
         assertEquals(RequestStatus.REJECTED, pendingRequest.getStatus());
-        verify(requestLogRepository, times(1)).save(any(RequestLog.class));
+        verify(auditLogWriter, times(1)).append(any(RequestLog.class));
+        verify(cacheInvalidationLog, times(1)).invalidate(CacheConfig.INBOX, 2L);
         verify(emailNotificationService, times(1)).sendRequestStatusUpdateNotification(any(), any(), any());
     }
 
@@ -277,7 +331,7 @@ class ApprovalServiceUnitTest {
     void testRejectRequest_RequestNotFound() {
         // Arrange
         UUID requestId = UUID.randomUUID();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.empty());
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -290,7 +344,7 @@ class ApprovalServiceUnitTest {
     void testRejectRequest_RequestNotPending() {
         // Arrange
         UUID requestId = rejectedRequest.getId();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(rejectedRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(rejectedRequest));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -304,7 +358,7 @@ class ApprovalServiceUnitTest {
         // Arrange
         UUID requestId = pendingRequest.getId();
         Long wrongApproverId = 999L;
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -376,9 +430,7 @@ class ApprovalServiceUnitTest {
     void testGetRequestDetails_Success() {
         // Arrange
         UUID requestId = pendingRequest.getId();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(pendingRequest));
-        when(requestLogRepository.findByRequestOrderByActionDateDesc(pendingRequest))
-                .thenReturn(List.of());
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
 
         // Act
         var result = approvalService.getRequestDetails(requestId);
@@ -388,13 +440,86 @@ class ApprovalServiceUnitTest {
         assertEquals("Test Request", result.getTitle());
         assertEquals("Test Description", result.getDescription());
         assertEquals("PENDING", result.getStatus());
+        verify(requestLogRepository, never()).findByRequestOrderByActionDateDesc(any());
+    }
+
+    @Test
+    void testGetRequestDetails_UsesDenormalizedLatestComment() {
+        // Arrange
+        UUID requestId = pendingRequest.getId();
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(pendingRequest));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(approver));
+        when(approvalRequestRepository.save(any(ApprovalRequest.class))).thenReturn(pendingRequest);
+        approvalService.approveRequest(requestId, "Looks good!", 2L);
+
+        // Act
+        var result = approvalService.getRequestDetails(requestId);
+
+        // Assert - served from the request row, no history query
+        assertEquals("Looks good!", result.getComments());
+        assertNotNull(result.getLastActionAt());
+        verify(requestLogRepository, never()).findByRequestOrderByActionDateDesc(any());
+    }
+
+    @Test
+    void testGetRequestDetails_FallsBackToArchivedComment() {
+        // Arrange
+        UUID requestId = approvedRequest.getId();
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.of(approvedRequest));
+        when(requestLogRepository.findByRequestOrderByActionDateDesc(approvedRequest))
+                .thenReturn(List.of());
+        when(historyArchiveReader.findLatest(requestId, approvedRequest.getCreatedAt()))
+                .thenReturn(Optional.of(new HistoryArchive.Entry(
+                        1L, requestId, 2L, "Test Approver", "APPROVED", "Archived comment", LocalDateTime.now())));
+
+        // Act
+        var result = approvalService.getRequestDetails(requestId);
+
+        // Assert
+        assertEquals("Archived comment", result.getComments());
+    }
+
+    @Test
+    void testGetRequestsCreatedByUserIncludingArchived_MergesNewestFirst() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        pendingRequest.setCreatedAt(now.minusDays(300));
+        when(approvalRequestRepository.findByRequester_IdOrderByCreatedAtDesc(1L))
+                .thenReturn(List.of(pendingRequest));
+        when(requestArchiveReader.findCreatedBy(1L)).thenReturn(List.of(new RequestSummaryDTO(
+                UUID.randomUUID(), "Archived Request", "APPROVED", "ACCESS", now.minusDays(200), "Test Approver")));
+
+        // Act
+        List<RequestSummaryDTO> results = approvalService.getRequestsCreatedByUserIncludingArchived(1L);
+
+        // Assert
+        assertEquals(List.of("Archived Request", "Test Request"), results.stream().map(RequestSummaryDTO::title).toList());
+    }
+
+    @Test
+    void testGetRequestDetails_ReadsArchivedRequest() {
+        // Arrange
+        UUID requestId = UUID.randomUUID();
+        LocalDateTime decidedAt = LocalDateTime.of(2024, 1, 2, 9, 0);
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.empty());
+        when(requestArchiveReader.findDetails(requestId)).thenReturn(Optional.of(new RequestDetailsDTO(
+                requestId, "Archived Request", null, "APPROVED", "ACCESS", decidedAt.minusDays(1),
+                "Test Approver", "Archived comment", decidedAt)));
+
+        // Act
+        var result = approvalService.getRequestDetails(requestId);
+
+        // Assert
+        assertEquals("Archived Request", result.getTitle());
+        assertEquals("Archived comment", result.getComments());
+        verify(historyArchiveReader, never()).findLatest(any(), any());
     }
 
     @Test
     void testGetRequestDetails_NotFound() {
         // Arrange
         UUID requestId = UUID.randomUUID();
-        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.empty());
+        when(approvalRequestRepository.findDetailedById(requestId)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -402,4 +527,79 @@ class ApprovalServiceUnitTest {
         
         assertTrue(exception.getMessage().contains("Request not found"));
     }
+
+    // ==================== REQUEST HISTORY TESTS ====================
+
+    private RequestHistoryEntryDTO historyEntry(long id, LocalDateTime actionDate) {
+        return new RequestHistoryEntryDTO(id, "APPROVED", "Comment " + id, actionDate, 2L, "Test Approver");
+    }
+
+    @Test
+    void testGetRequestHistory_FirstPageWithCursor() {
+        // Arrange
+        UUID requestId = approvedRequest.getId();
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(approvedRequest));
+        when(requestLogRepository.findHistoryPage(requestId, Limit.of(3)))
+                .thenReturn(List.of(historyEntry(3L, now), historyEntry(2L, now.minusHours(1)), historyEntry(1L, now.minusHours(2))));
+
+        // Act
+        RequestHistoryPageDTO page = approvalService.getRequestHistory(requestId, null, 2);
+
+        // Assert
+        assertEquals(2, page.entries().size());
+        assertEquals("2025-05-01T11:00_2", page.nextCursor());
+        verify(historyArchiveReader, never()).findByRequest(any(), any());
+    }
+
+    @Test
+    void testGetRequestHistory_ContinuesIntoArchive() {
+        // Arrange
+        UUID requestId = approvedRequest.getId();
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(approvedRequest));
+        when(requestLogRepository.findHistoryPageBefore(requestId, now, 3L, Limit.of(3)))
+                .thenReturn(List.of(historyEntry(2L, now.minusHours(1))));
+        when(historyArchiveReader.findByRequest(requestId, approvedRequest.getCreatedAt()))
+                .thenReturn(List.of(new HistoryArchive.Entry(
+                        1L, requestId, 1L, "Test Requester", "CREATED", null, now.minusYears(2))));
+
+        // Act
+        RequestHistoryPageDTO page = approvalService.getRequestHistory(requestId, "2025-05-01T12:00_3", 2);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), page.entries().stream().map(RequestHistoryEntryDTO::id).toList());
+        assertEquals("Test Requester", page.entries().get(1).actorName());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testGetRequestHistory_ReadsArchivedRequest() {
+        // Arrange
+        UUID requestId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.empty());
+        when(requestArchiveReader.findCreatedAt(requestId)).thenReturn(Optional.of(now.minusDays(1)));
+        when(requestArchiveReader.findHistoryPage(requestId, null, null, 3))
+                .thenReturn(List.of(historyEntry(2L, now), historyEntry(1L, now.minusDays(1))));
+
+        // Act
+        RequestHistoryPageDTO page = approvalService.getRequestHistory(requestId, null, 2);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), page.entries().stream().map(RequestHistoryEntryDTO::id).toList());
+        assertNull(page.nextCursor());
+        verify(requestLogRepository, never()).findHistoryPage(any(), any());
+    }
+
+    @Test
+    void testGetRequestHistory_InvalidCursor() {
+        // Arrange
+        UUID requestId = approvedRequest.getId();
+        when(approvalRequestRepository.findById(requestId)).thenReturn(Optional.of(approvedRequest));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> approvalService.getRequestHistory(requestId, "not-a-cursor", 20));
+    }
 }
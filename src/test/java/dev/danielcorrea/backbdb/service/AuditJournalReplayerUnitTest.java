@@ -0,0 +1,81 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for AuditJournalReplayer.
+ * Checks that records whose request was archived go to approval_history_archive.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditJournalReplayerUnitTest {
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditJournalReplayer auditJournalReplayer;
+
+    @BeforeEach
+    void setUp() {
+        auditJournalReplayer = new AuditJournalReplayer(auditJournal, jdbcTemplate, transactionManager);
+    }
+
+    private AuditLogWriter.AuditEntry entry(String action) {
+        return new AuditLogWriter.AuditEntry(action, null, LocalDateTime.of(2026, 1, 31, 12, 0), UUID.randomUUID(), 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInsertMissing_MovesRecordsOfArchivedRequestsToTheArchive() {
+        // Arrange - the first request is hot, the second archived, the third gone or already present
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 0, 0});
+        when(jdbcTemplate.update(contains("FROM requests_archive r"), any(Object[].class))).thenReturn(1, 0);
+
+        // Act
+        int inserted = auditJournalReplayer.insertMissing(List.of(entry("APPROVED"), entry("REJECTED"), entry("APPROVED")));
+
+        // Assert
+        assertEquals(2, inserted);
+        verify(jdbcTemplate).update(contains("INSERT INTO approval_history_archive"));
+        verify(jdbcTemplate).update(eq("DELETE FROM approval_history WHERE id = LAST_INSERT_ID()"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInsertMissing_SkipsRecordsAlreadyPresent() {
+        // Arrange
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {0});
+        when(jdbcTemplate.update(contains("FROM requests_archive r"), any(Object[].class))).thenReturn(0);
+
+        // Act
+        int inserted = auditJournalReplayer.insertMissing(List.of(entry("APPROVED")));
+
+        // Assert
+        assertEquals(0, inserted);
+        verify(jdbcTemplate, never()).update(contains("INSERT INTO approval_history_archive"));
+    }
+}
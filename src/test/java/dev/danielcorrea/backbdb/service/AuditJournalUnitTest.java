@@ -0,0 +1,163 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for AuditJournal.
+ * Appends to real segment files in a temporary directory and reads them back.
+ */
+class AuditJournalUnitTest {
+
+    @TempDir
+    Path journalDir;
+
+    private AuditJournal auditJournal;
+
+    private final UUID requestId = UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+    private final LocalDateTime decidedAt = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000);
+
+    @AfterEach
+    void tearDown() {
+        auditJournal.close();
+    }
+
+    private AuditJournal openJournal(int segmentBytes) throws Exception {
+        AuditJournal journal = new AuditJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(journal, "segmentBytes", segmentBytes);
+        journal.open();
+        return journal;
+    }
+
+    private AuditLogWriter.AuditEntry entry(int n) {
+        return new AuditLogWriter.AuditEntry(n % 2 == 0 ? "APPROVED" : "REJECTED",
+            n % 3 == 0 ? null : "Comment " + n, decidedAt.plusSeconds(n), requestId, 2L);
+    }
+
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+
+    @Test
+    void testAppendAndRead_RoundTripsEntriesInOrder() throws Exception {
+        // Arrange
+        auditJournal = openJournal(64 * 1024);
+        List<AuditLogWriter.AuditEntry> appended = IntStream.range(0, 10).mapToObj(this::entry).toList();
+
+        // Act
+        appended.forEach(auditJournal::append);
+        AuditJournal.ReadResult first = auditJournal.read(AuditJournal.Position.START, 4);
+        AuditJournal.ReadResult rest = auditJournal.read(first.next(), 100);
+
+        // Assert
+        assertEquals(appended.subList(0, 4), first.entries());
+        assertEquals(appended.subList(4, 10), rest.entries());
+        assertNull(rest.entries().get(2).comments());
+        assertEquals(auditJournal.committedPosition(), rest.next());
+        assertTrue(auditJournal.read(rest.next(), 100).entries().isEmpty());
+    }
+
+    @Test
+    void testAppend_RotatesSegmentsWhenFull() throws Exception {
+        // Arrange
+        auditJournal = openJournal(256);
+        List<AuditLogWriter.AuditEntry> appended = IntStream.range(0, 20).mapToObj(this::entry).toList();
+
+        // Act
+        appended.forEach(auditJournal::append);
+        AuditJournal.ReadResult result = auditJournal.read(AuditJournal.Position.START, 100);
+
+        // Assert
+        assertEquals(appended, result.entries());
+        assertTrue(segmentFiles() > 1);
+        assertEquals(auditJournal.committedPosition().segment(), result.next().segment());
+    }
+
+    @Test
+    void testOpen_DiscardsTornTailAndKeepsAppending() throws Exception {
+        // Arrange
+        auditJournal = openJournal(4096);
+        IntStream.range(0, 3).mapToObj(this::entry).forEach(auditJournal::append);
+        int end = auditJournal.committedPosition().offset();
+        auditJournal.close();
+
+        // Simulate a crash halfway through the next record: length written, payload and CRC missing
+        Path segment = journalDir.resolve(String.format("segment-%020d.journal", 1));
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(40);
+        }
+
+        // Act
+        auditJournal = openJournal(4096);
+        auditJournal.append(entry(3));
+        AuditJournal.ReadResult result = auditJournal.read(AuditJournal.Position.START, 100);
+
+        // Assert
+        assertEquals(IntStream.range(0, 4).mapToObj(this::entry).toList(), result.entries());
+    }
+
+    @Test
+    void testRead_StopsAtCorruptRecordInActiveSegment() throws Exception {
+        // Arrange
+        auditJournal = openJournal(4096);
+        auditJournal.append(entry(0));
+        int corrupt = auditJournal.committedPosition().offset();
+        auditJournal.append(entry(1));
+
+        // Flip the stored CRC of the second record
+        Path segment = journalDir.resolve(String.format("segment-%020d.journal", 1));
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(corrupt + 4);
+            int crc = file.readInt();
+            file.seek(corrupt + 4);
+            file.writeInt(~crc);
+        }
+
+        // Act
+        AuditJournal.ReadResult result = auditJournal.read(AuditJournal.Position.START, 100);
+        auditJournal.append(entry(2));
+        AuditJournal.ReadResult retry = auditJournal.read(result.next(), 100);
+
+        // Assert - the position stays in the active segment instead of jumping past later appends
+        assertEquals(List.of(entry(0)), result.entries());
+        assertEquals(new AuditJournal.Position(1, corrupt), result.next());
+        assertTrue(retry.entries().isEmpty());
+        assertEquals(result.next(), retry.next());
+    }
+
+    @Test
+    void testDeleteSegmentsBefore_KeepsActiveSegment() throws Exception {
+        // Arrange
+        auditJournal = openJournal(256);
+        IntStream.range(0, 20).mapToObj(this::entry).forEach(auditJournal::append);
+        long active = auditJournal.committedPosition().segment();
+
+        // Act
+        auditJournal.deleteSegmentsBefore(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(1, segmentFiles());
+        assertEquals(active, auditJournal.firstSegment());
+        AuditJournal.ReadResult result = auditJournal.read(AuditJournal.Position.START, 100);
+        assertEquals(auditJournal.committedPosition(), result.next());
+    }
+}
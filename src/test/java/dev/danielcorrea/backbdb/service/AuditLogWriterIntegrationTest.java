@@ -0,0 +1,153 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestLog;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
+import dev.danielcorrea.backbdb.repository.UserRepository;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that SYNC audit writes do not need a connection of their own: more concurrent
+ * transactions than the pool has connections each append an entry while holding their
+ * connection, and all of them commit well within the pool's connection timeout.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class AuditLogWriterIntegrationTest {
+
+    private static final int POOL_SIZE = 4;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private AuditJournal auditJournal;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HikariDataSource pool;
+    private User user;
+    private RequestType type;
+    private ApprovalRequest request;
+
+    @BeforeEach
+    void setUp() {
+        pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setConnectionTimeout(5_000);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username("audit_" + suffix)
+                .fullName("Audit User")
+                .email("audit_" + suffix + "@localhost")
+                .build());
+        type = requestTypeRepository.save(RequestType.builder().name("AUDIT_" + suffix).build());
+        request = approvalRequestRepository.save(ApprovalRequest.builder()
+                .title("Audited request")
+                .status(RequestStatus.PENDING)
+                .requester(user)
+                .approver(user)
+                .type(type)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+        jdbcTemplate.update("DELETE FROM approval_history WHERE request_id = ?", UuidBinary.toBytes(request.getId()));
+        approvalRequestRepository.deleteById(request.getId());
+        requestTypeRepository.deleteById(type.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void testSyncAppendsDoNotExhaustThePool() throws Exception {
+        // Arrange
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(pool);
+        AuditLogWriter auditLogWriter = new AuditLogWriter(new JdbcTemplate(pool), transactionManager, auditJournal,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(auditLogWriter, "mode", AuditLogWriter.DurabilityMode.SYNC);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int callers = POOL_SIZE + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch done = new CountDownLatch(callers);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // Act - each caller holds its connection for a while after appending, like a decision does
+        for (int i = 0; i < callers; i++) {
+            executor.execute(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        auditLogWriter.append(RequestLog.builder()
+                                .actionTaken("APPROVED")
+                                .actionDate(LocalDateTime.now())
+                                .request(request)
+                                .user(user)
+                                .build());
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // Assert
+        assertTrue(done.await(4, TimeUnit.SECONDS), "Callers did not finish before the pool's connection timeout");
+        executor.shutdown();
+        assertEquals(List.of(), List.copyOf(failures));
+        assertEquals(callers, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM approval_history WHERE request_id = ?",
+                Integer.class, UuidBinary.toBytes(request.getId())));
+    }
+}
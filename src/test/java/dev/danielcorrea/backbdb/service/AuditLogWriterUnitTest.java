@@ -0,0 +1,205 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestLog;
+import dev.danielcorrea.backbdb.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for AuditLogWriter.
+ * Verifies batching by size and time, that SYNC entries are written in the caller's transaction, and
+ * that journal-only entries are not written to the database.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AuditJournal auditJournal;
+
+    private AuditLogWriter auditLogWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** Number of rows in each multi-row INSERT issued. */
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        auditLogWriter = new AuditLogWriter(jdbcTemplate, transactionManager, auditJournal, meterRegistry);
+        ReflectionTestUtils.setField(auditLogWriter, "queueCapacity", 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditLogWriter.stop();
+    }
+
+    private void configure(AuditLogWriter.DurabilityMode mode, int maxBatchSize, long flushIntervalMs) {
+        ReflectionTestUtils.setField(auditLogWriter, "mode", mode);
+        ReflectionTestUtils.setField(auditLogWriter, "maxBatchSize", maxBatchSize);
+        ReflectionTestUtils.setField(auditLogWriter, "flushIntervalMs", flushIntervalMs);
+        auditLogWriter.start();
+    }
+
+    private void recordBatchSizes() {
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            batchSizes.add(sql.split("\\(\\?, \\?, \\?, \\?, \\?\\)", -1).length - 1);
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+
+    private RequestLog logEntry(String action) {
+        return RequestLog.builder()
+                .actionTaken(action)
+                .comments("comment")
+                .request(ApprovalRequest.builder().id(UUID.randomUUID()).build())
+                .user(User.builder().id(2L).build())
+                .build();
+    }
+
+    @Test
+    void testConcurrentAsyncAppendsAreGroupCommitted() throws Exception {
+        // Arrange
+        recordBatchSizes();
+        configure(AuditLogWriter.DurabilityMode.ASYNC, 100, 50);
+        int writers = 20;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch done = new CountDownLatch(writers);
+
+        // Act
+        for (int i = 0; i < writers; i++) {
+            pool.execute(() -> {
+                auditLogWriter.append(logEntry("APPROVED"));
+                done.countDown();
+            });
+        }
+
+        // Assert - every entry was written, in fewer statements than callers
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pool.shutdown();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (batchSizes.stream().mapToInt(Integer::intValue).sum() < writers && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(writers, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.size() < writers, "Expected grouped inserts but got " + batchSizes);
+    }
+
+    @Test
+    void testSyncModeWritesInsideTheCallersTransaction() {
+        // Arrange
+        recordBatchSizes();
+        configure(AuditLogWriter.DurabilityMode.SYNC, 100, 50);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            auditLogWriter.append(logEntry("APPROVED"));
+
+            // Assert - written before commit, not deferred to an after-commit callback
+            assertEquals(List.of(1), batchSizes);
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testJournalOnlyEntriesNeverReachApprovalHistory() {
+        // Arrange
+        configure(AuditLogWriter.DurabilityMode.SYNC, 100, 50);
+
+        // Act - journal disabled, then enabled
+        auditLogWriter.journal(logEntry("CREATED"));
+        when(auditJournal.isEnabled()).thenReturn(true);
+        auditLogWriter.journal(logEntry("CREATED"));
+
+        // Assert
+        verify(auditJournal, times(1)).append(any(AuditLogWriter.AuditEntry.class));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testJournalFailureAfterCommitIsCountedNotThrown() {
+        // Arrange
+        configure(AuditLogWriter.DurabilityMode.SYNC, 100, 50);
+        when(auditJournal.isEnabled()).thenReturn(true);
+        doThrow(new IllegalStateException("No space left on device"))
+                .when(auditJournal).append(any(AuditLogWriter.AuditEntry.class));
+
+        // Act - outside a transaction the append runs immediately, as it would after commit
+        auditLogWriter.append(logEntry("APPROVED"));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("audit.writer.failed").tag("path", "journal").counter().count());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFlushesWhenBatchIsFull() throws Exception {
+        // Arrange - a long flush interval, so only the size threshold can trigger flushes
+        recordBatchSizes();
+        configure(AuditLogWriter.DurabilityMode.ASYNC, 5, 10_000);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            auditLogWriter.append(logEntry("REJECTED"));
+        }
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (batchSizes.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(5, 5), batchSizes);
+    }
+
+    @Test
+    void testSyncModePropagatesWriteFailure() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(jdbcTemplate).update(anyString(), any(Object[].class));
+        configure(AuditLogWriter.DurabilityMode.SYNC, 10, 1);
+
+        // Act & Assert - the failure reaches the caller, so its transaction rolls back
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> auditLogWriter.append(logEntry("APPROVED")));
+    }
+}
@@ -0,0 +1,104 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.danielcorrea.backbdb.config.CacheConfig;
+
+/**
+ * Checks that an invalidation logged in a transaction reaches the cache of another instance,
+ * simulated by a second CacheInvalidationLog with its own cache manager tailing the same table.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class CacheInvalidationLogIntegrationTest {
+
+    private static final String KEY = "-4711";
+
+    @Autowired
+    private CacheInvalidationLog cacheInvalidationLog;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CacheInvalidationLog otherInstance;
+    private Cache otherInbox;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager otherCacheManager = new ConcurrentMapCacheManager(CacheConfig.INBOX);
+        otherInbox = otherCacheManager.getCache(CacheConfig.INBOX);
+        otherInstance = new CacheInvalidationLog(jdbcTemplate, otherCacheManager);
+        ReflectionTestUtils.setField(otherInstance, "settleMs", 3000L);
+        ReflectionTestUtils.setField(otherInstance, "batchSize", 1000);
+        ReflectionTestUtils.setField(otherInstance, "maxStalenessMs", 30000L);
+        otherInstance.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cache_invalidation_log WHERE cache_key = ?", KEY);
+    }
+
+    @Test
+    void testInvalidationReachesOtherInstances() {
+        // Arrange
+        Cache inbox = cacheManager.getCache(CacheConfig.INBOX);
+        inbox.put(KEY, List.of());
+        otherInbox.put(KEY, List.of());
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cacheInvalidationLog.invalidate(CacheConfig.INBOX, -4711L);
+            assertEquals(0, count());
+            assertNotNull(inbox.get(KEY));
+        });
+        otherInstance.poll();
+
+        // Assert
+        assertEquals(1, count());
+        assertNull(inbox.get(KEY));
+        assertNull(otherInbox.get(KEY));
+    }
+
+    @Test
+    void testRolledBackInvalidationIsNotLogged() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cacheInvalidationLog.invalidate(CacheConfig.INBOX, -4711L);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(0, count());
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidation_log WHERE cache_key = ?", Integer.class, KEY);
+    }
+}
@@ -0,0 +1,148 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.danielcorrea.backbdb.config.CacheConfig;
+import dev.danielcorrea.backbdb.service.CacheInvalidationLog.Entry;
+
+/**
+ * Unit tests for CacheInvalidationLog appends and high-water mark tailing.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationLogUnitTest {
+
+    private static final String INSERT = "INSERT INTO cache_invalidation_log (cache_name, cache_key) VALUES (?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private Cache inbox;
+    private Cache users;
+    private CacheInvalidationLog cacheInvalidationLog;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.INBOX, CacheConfig.USERS);
+        inbox = cacheManager.getCache(CacheConfig.INBOX);
+        users = cacheManager.getCache(CacheConfig.USERS);
+        cacheInvalidationLog = new CacheInvalidationLog(jdbcTemplate, cacheManager);
+        cacheInvalidationLog.setHighWaterMark(10);
+    }
+
+    @Test
+    void testSettledEntriesAreEvictedAndAdvanceHighWaterMark() {
+        // Arrange
+        inbox.put("2", List.of());
+        inbox.put("3", List.of());
+        users.put("all", List.of());
+
+        // Act
+        boolean settled = cacheInvalidationLog.apply(List.of(
+                new Entry(11, CacheConfig.INBOX, "2", true),
+                new Entry(13, CacheConfig.USERS, null, true)), true);
+
+        // Assert
+        assertTrue(settled);
+        assertNull(inbox.get("2"));
+        assertNotNull(inbox.get("3"));
+        assertNull(users.get("all"));
+        assertEquals(13, cacheInvalidationLog.getHighWaterMark());
+    }
+
+    @Test
+    void testUnsettledEntryHoldsHighWaterMarkAndIsAppliedAgainWhenSettled() {
+        // Arrange
+        inbox.put("2", List.of());
+        inbox.put("3", List.of());
+        cacheInvalidationLog.apply(List.of(
+                new Entry(11, CacheConfig.INBOX, "2", false),
+                new Entry(12, CacheConfig.INBOX, "3", true)), true);
+        assertNull(inbox.get("2"));
+        assertNull(inbox.get("3"));
+        assertEquals(10, cacheInvalidationLog.getHighWaterMark());
+
+        // Values reloaded meanwhile, e.g. from a lagging replica
+        inbox.put("2", List.of());
+        inbox.put("3", List.of());
+
+        // Act
+        boolean settled = cacheInvalidationLog.apply(List.of(
+                new Entry(11, CacheConfig.INBOX, "2", true),
+                new Entry(12, CacheConfig.INBOX, "3", true)), true);
+
+        // Assert
+        assertTrue(settled);
+        assertNull(inbox.get("2"));
+        assertNull(inbox.get("3"));
+        assertEquals(12, cacheInvalidationLog.getHighWaterMark());
+    }
+
+    @Test
+    void testUnsettledPrefixCarriesAcrossPages() {
+        // Act
+        boolean settled = cacheInvalidationLog.apply(List.of(new Entry(11, CacheConfig.INBOX, "2", false)), true);
+        settled = cacheInvalidationLog.apply(List.of(new Entry(12, CacheConfig.INBOX, "3", true)), settled);
+
+        // Assert
+        assertFalse(settled);
+        assertEquals(10, cacheInvalidationLog.getHighWaterMark());
+    }
+
+    @Test
+    void testInvalidateWithoutTransactionLogsAndEvictsImmediately() {
+        // Arrange
+        inbox.put("2", List.of());
+
+        // Act
+        cacheInvalidationLog.invalidate(CacheConfig.INBOX, 2L);
+
+        // Assert
+        verify(jdbcTemplate).update(INSERT, CacheConfig.INBOX, "2");
+        assertNull(inbox.get("2"));
+    }
+
+    @Test
+    void testInvalidateInTransactionLogsBeforeAndEvictsAfterCommit() {
+        // Arrange
+        inbox.put("2", List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            cacheInvalidationLog.invalidate(CacheConfig.INBOX, 2L);
+
+            // Assert
+            verify(jdbcTemplate, never()).update(INSERT, CacheConfig.INBOX, "2");
+            assertNotNull(inbox.get("2"));
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            verify(jdbcTemplate).update(INSERT, CacheConfig.INBOX, "2");
+            assertNotNull(inbox.get("2"));
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertNull(inbox.get("2"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
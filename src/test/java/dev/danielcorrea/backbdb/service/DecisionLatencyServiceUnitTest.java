@@ -0,0 +1,106 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.danielcorrea.backbdb.dto.DecisionLatencyDTO;
+import dev.danielcorrea.backbdb.dto.LatencyPercentilesDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+
+/**
+ * Unit tests for DecisionLatencyService.
+ * Verifies window rotation, the rolling view and the cardinality limit.
+ */
+class DecisionLatencyServiceUnitTest {
+
+    private DecisionLatencyService decisionLatencyService;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 5, 6, 9, 0);
+    private final RequestType requestType = RequestType.builder().id(1).name("ACCESS").build();
+
+    @BeforeEach
+    void setUp() {
+        decisionLatencyService = new DecisionLatencyService();
+        ReflectionTestUtils.setField(decisionLatencyService, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(decisionLatencyService, "rollingWindows", 2);
+        ReflectionTestUtils.setField(decisionLatencyService, "maxApprovers", 2);
+        ReflectionTestUtils.setField(decisionLatencyService, "maxTypes", 10);
+        ReflectionTestUtils.setField(decisionLatencyService, "maxTrackableDays", 365);
+        decisionLatencyService.init();
+    }
+
+    private void decide(long approverId, long waitedSeconds) {
+        ApprovalRequest request = ApprovalRequest.builder()
+                .createdAt(createdAt)
+                .type(requestType)
+                .approver(User.builder().id(approverId).fullName("Approver " + approverId).build())
+                .build();
+        decisionLatencyService.recordDecision(request, createdAt.plusSeconds(waitedSeconds));
+    }
+
+    @Test
+    void testRotate_WindowAndRollingViews() {
+        // Arrange
+        for (int i = 1; i <= 100; i++) {
+            decide(1L, i * 60L);
+        }
+        decisionLatencyService.rotate();
+        decide(1L, 3600);
+
+        // Act
+        decisionLatencyService.rotate();
+        DecisionLatencyDTO window = decisionLatencyService.getDecisionLatency(DecisionLatencyService.View.WINDOW);
+        DecisionLatencyDTO rolling = decisionLatencyService.getDecisionLatency(DecisionLatencyService.View.ROLLING);
+
+        // Assert
+        assertEquals(1, window.overall().count());
+        assertEquals(3600, window.overall().p50Seconds(), 36);
+        assertEquals(101, rolling.overall().count());
+        assertEquals(3060, rolling.overall().p50Seconds(), 31);
+        assertEquals(6000, rolling.overall().p99Seconds(), 60);
+        assertEquals(120, rolling.periodSeconds());
+    }
+
+    @Test
+    void testRotate_ExpiresOldWindowsFromRollingView() {
+        // Arrange
+        decide(1L, 60);
+        decisionLatencyService.rotate();
+        decide(1L, 120);
+        decisionLatencyService.rotate();
+
+        // Act
+        decisionLatencyService.rotate();
+        LatencyPercentilesDTO rolling = decisionLatencyService.getDecisionLatency(DecisionLatencyService.View.ROLLING).overall();
+
+        // Assert
+        assertEquals(1, rolling.count());
+        assertEquals(120, rolling.maxSeconds(), 1);
+    }
+
+    @Test
+    void testRecordDecision_GroupsApproversBeyondLimitIntoOther() {
+        // Arrange
+        decide(1L, 60);
+        decide(2L, 60);
+        decide(3L, 60);
+        decide(4L, 60);
+
+        // Act
+        decisionLatencyService.rotate();
+        DecisionLatencyDTO latency = decisionLatencyService.getDecisionLatency(DecisionLatencyService.View.WINDOW);
+
+        // Assert
+        assertEquals(3, latency.byApprover().size());
+        assertTrue(latency.byApprover().stream().anyMatch(p -> p.name().equals("Other") && p.count() == 2));
+        assertEquals(1, latency.byType().size());
+        assertEquals(4, latency.byType().get(0).count());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import dev.danielcorrea.backbdb.support.EmailNotificationLoadHarness;
+import dev.danielcorrea.backbdb.support.FakeSmtpServer;
+import dev.danielcorrea.backbdb.support.LatencySummary;
+
+/**
+ * Offline tests for EmailNotificationService against the in-process SMTP stand-in.
+ * No credentials or network access required.
+ *
+ * The throughput run is opt-in:
+ * ./mvnw test -Dtest=EmailNotificationServiceLoadTest -Dperf.email=true
+ * Tune it with -Dperf.email.rate (messages/sec), -Dperf.email.seconds,
+ * -Dperf.email.workers, -Dperf.email.latencyMs and -Dperf.email.failureRate.
+ */
+class EmailNotificationServiceLoadTest {
+
+    @Test
+    void testSendsThroughFakeSmtpServer() throws Exception {
+        try (FakeSmtpServer server = new FakeSmtpServer(FakeSmtpServer.Settings.defaults())) {
+            // Act
+            new EmailNotificationLoadHarness(server).run(10, Duration.ofMillis(400), 2);
+
+            // Assert
+            assertEquals(4, server.getAcceptedCount());
+            List<String> recipients = server.getRecipients();
+            assertTrue(recipients.contains("approver@localhost"));
+            assertTrue(recipients.contains("requester@localhost"));
+        }
+    }
+
+    @Test
+    void testInjectedFailuresAreHandled() throws Exception {
+        FakeSmtpServer.Settings settings = new FakeSmtpServer.Settings(Duration.ZERO, 1.0, 4);
+
+        try (FakeSmtpServer server = new FakeSmtpServer(settings)) {
+            // Act - Should not throw, the service logs and swallows delivery failures
+            new EmailNotificationLoadHarness(server).run(10, Duration.ofMillis(200), 1);
+
+            // Assert
+            assertEquals(0, server.getAcceptedCount());
+            assertEquals(2, server.getFailedCount());
+        }
+    }
+
+    @Test
+    void testConnectionLimitRefusesExtraClients() throws Exception {
+        FakeSmtpServer.Settings settings = new FakeSmtpServer.Settings(Duration.ZERO, 0.0, 0);
+
+        try (FakeSmtpServer server = new FakeSmtpServer(settings)) {
+            // Act
+            new EmailNotificationLoadHarness(server).run(10, Duration.ofMillis(100), 1);
+
+            // Assert
+            assertEquals(0, server.getAcceptedCount());
+            assertEquals(1, server.getRefusedConnectionCount());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "perf.email", matches = "true", disabledReason = "Load run - enable with -Dperf.email=true")
+    void testNotificationThroughput() throws Exception {
+        int rate = Integer.getInteger("perf.email.rate", 200);
+        int seconds = Integer.getInteger("perf.email.seconds", 10);
+        int workers = Integer.getInteger("perf.email.workers", 8);
+        FakeSmtpServer.Settings settings = new FakeSmtpServer.Settings(
+                Duration.ofMillis(Integer.getInteger("perf.email.latencyMs", 20)),
+                Double.parseDouble(System.getProperty("perf.email.failureRate", "0.0")),
+                Integer.getInteger("perf.email.maxConnections", workers));
+
+        try (FakeSmtpServer server = new FakeSmtpServer(settings)) {
+            LatencySummary summary = new EmailNotificationLoadHarness(server)
+                    .run(rate, Duration.ofSeconds(seconds), workers);
+
+            System.out.println("Email notification load: target=" + rate + " msg/s, workers=" + workers
+                    + ", smtpLatency=" + settings.latency().toMillis() + "ms");
+            System.out.println("  " + summary);
+            System.out.println("  accepted=" + server.getAcceptedCount()
+                    + " failed=" + server.getFailedCount()
+                    + " refusedConnections=" + server.getRefusedConnectionCount());
+        }
+    }
+}
@@ -4,11 +4,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -26,6 +26,7 @@ import dev.danielcorrea.backbdb.model.ApprovalRequest;
 import dev.danielcorrea.backbdb.model.RequestStatus;
 import dev.danielcorrea.backbdb.model.RequestType;
 import dev.danielcorrea.backbdb.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.internet.MimeMessage;
 
 /**
@@ -44,7 +45,7 @@ class EmailNotificationServiceUnitTest {
     @Mock
     private MimeMessage mimeMessage;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private EmailNotificationService emailNotificationService;
 
     private User requester;
@@ -54,6 +55,9 @@ class EmailNotificationServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailNotificationService = new EmailNotificationService(mailSender, templateEngine, meterRegistry);
+
         // Set up mock values for @Value fields
         ReflectionTestUtils.setField(emailNotificationService, "fromAddress", "test@example.com");
         ReflectionTestUtils.setField(emailNotificationService, "fromName", "Test System");
@@ -194,6 +198,25 @@ class EmailNotificationServiceUnitTest {
         verify(mailSender, times(1)).send(any(MimeMessage.class));
     }
 
+    @Test
+    void testSendNotifications_RecordSendTimerByTemplateAndOutcome() throws Exception {
+        // Arrange
+        request.setStatus(RequestStatus.APPROVED);
+        when(templateEngine.process(any(String.class), any(Context.class))).thenReturn("<html></html>");
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        doNothing().doThrow(new MailSendException("SMTP server error")).when(mailSender).send(any(MimeMessage.class));
+
+        // Act
+        emailNotificationService.sendRequestCreatedNotification(request, approver);
+        emailNotificationService.sendRequestStatusUpdateNotification(request, approver, null);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("email.send")
+                .tags("template", "request-created", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("email.send")
+                .tags("template", "request-status-update", "outcome", "failure").timer().count());
+    }
+
     @Test
     void testSendRequestStatusUpdateNotification_HandlesException() throws Exception {
         // Arrange
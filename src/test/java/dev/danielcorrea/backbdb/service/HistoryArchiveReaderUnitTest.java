@@ -0,0 +1,116 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for HistoryArchiveReader.
+ * Writes real archive files to a temporary directory and reads them back.
+ */
+class HistoryArchiveReaderUnitTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private HistoryArchiveReader historyArchiveReader;
+
+    private final UUID firstRequest = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID secondRequest = UUID.fromString("80000000-0000-0000-0000-000000000002");
+    private final UUID unknownRequest = UUID.fromString("ffffffff-0000-0000-0000-000000000003");
+    private final LocalDateTime january = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        historyArchiveReader = new HistoryArchiveReader();
+        ReflectionTestUtils.setField(historyArchiveReader, "archiveDir", archiveDir.toString());
+
+        List<HistoryArchive.Entry> entries = new ArrayList<>();
+        entries.add(entry(1, firstRequest, "CREATED", null, january));
+        entries.add(entry(2, firstRequest, "APPROVED", "Looks good", january.plusDays(1)));
+        entries.add(entry(3, secondRequest, "CREATED", null, january.plusDays(2)));
+        entries.add(entry(4, secondRequest, "REJECTED", "Missing budget", january.plusDays(3)));
+        entries.add(entry(5, secondRequest, "REJECTED", "Still missing", january.plusDays(4)));
+        entries.sort(Comparator.comparing(HistoryArchive.Entry::requestId, HistoryArchive::compare));
+
+        Path file = archiveDir.resolve("approval_history-2024-01.arc");
+        try (HistoryArchive.Writer writer = new HistoryArchive.Writer(file, 2)) {
+            for (HistoryArchive.Entry entry : entries) {
+                writer.write(entry);
+            }
+            writer.finish();
+        }
+
+        historyArchiveReader.scanArchiveDirectory();
+    }
+
+    private HistoryArchive.Entry entry(long id, UUID requestId, String action, String comments, LocalDateTime date) {
+        return new HistoryArchive.Entry(id, requestId, 2L, "Test Approver", action, comments, date);
+    }
+
+    @Test
+    void testFindByRequest_ReturnsNewestFirst() {
+        // Act
+        List<HistoryArchive.Entry> result = historyArchiveReader.findByRequest(secondRequest, january);
+
+        // Assert
+        assertEquals(List.of(5L, 4L, 3L), result.stream().map(HistoryArchive.Entry::id).toList());
+        assertEquals("Test Approver", result.get(0).userFullName());
+    }
+
+    @Test
+    void testFindLatest_ReturnsMostRecentComment() {
+        // Act & Assert
+        assertEquals("Looks good",
+                historyArchiveReader.findLatest(firstRequest, january).orElseThrow().comments());
+    }
+
+    @Test
+    void testFindByRequest_UnknownRequest() {
+        // Act & Assert
+        assertTrue(historyArchiveReader.findByRequest(unknownRequest, january).isEmpty());
+    }
+
+    @Test
+    void testFindByRequest_SkipsMonthsBeforeCreation() {
+        // Act & Assert - request created after the only archived month
+        LocalDateTime createdLater = YearMonth.of(2024, 2).atDay(1).atStartOfDay();
+        assertTrue(historyArchiveReader.findByRequest(firstRequest, createdLater).isEmpty());
+    }
+
+    @Test
+    void testFindByRequest_PicksUpFilesWrittenByAnotherInstance() throws Exception {
+        // Arrange - another instance archives a later month into the shared directory
+        UUID marchRequest = UUID.fromString("40000000-0000-0000-0000-000000000004");
+        LocalDateTime march = LocalDateTime.of(2024, 3, 5, 9, 0);
+        try (HistoryArchive.Writer writer = new HistoryArchive.Writer(archiveDir.resolve("approval_history-2024-03.arc"), 2)) {
+            writer.write(entry(6, marchRequest, "APPROVED", "Archived elsewhere", march));
+            writer.finish();
+        }
+
+        // Act
+        List<HistoryArchive.Entry> result = historyArchiveReader.findByRequest(marchRequest, march);
+
+        // Assert
+        assertEquals(List.of(6L), result.stream().map(HistoryArchive.Entry::id).toList());
+        assertEquals(3, historyArchiveReader.findByRequest(secondRequest, january).size());
+    }
+
+    @Test
+    void testNextFileFor_AddsSuffixForRepeatedMonth() {
+        // Act & Assert
+        assertEquals("approval_history-2024-01.1.arc",
+                historyArchiveReader.nextFileFor(YearMonth.of(2024, 1)).getFileName().toString());
+    }
+}
@@ -0,0 +1,123 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.danielcorrea.backbdb.dto.ReportJobDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
+import dev.danielcorrea.backbdb.repository.UserRepository;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Checks that a report still shows the decision of a request whose approval history has been
+ * archived to files, from the request's status and denormalized last action.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class ReportJobServiceIntegrationTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2001, 3, 5, 9, 0);
+    private static final LocalDateTime DECIDED_AT = CREATED_AT.plusHours(2);
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private RequestType type;
+    private UUID requestId;
+    private UUID jobId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username("report_" + suffix)
+                .fullName("Report User")
+                .email("report_" + suffix + "@localhost")
+                .build());
+        type = requestTypeRepository.save(RequestType.builder().name("REPORT_" + suffix).build());
+        requestId = approvalRequestRepository.save(ApprovalRequest.builder()
+                .title("Decided long ago")
+                .status(RequestStatus.APPROVED)
+                .requester(user)
+                .approver(user)
+                .type(type)
+                .build()).getId();
+        // Decided, with its history already moved to the archive files
+        jdbcTemplate.update("UPDATE requests SET created_at = ?, last_action_at = ?, latest_comment = ? WHERE id = ?",
+                Timestamp.valueOf(CREATED_AT), Timestamp.valueOf(DECIDED_AT), "Fine", UuidBinary.toBytes(requestId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jobId != null) {
+            // The file goes with the report.dir retention cleanup
+            jdbcTemplate.update("DELETE FROM report_jobs WHERE id = ?", UuidBinary.toBytes(jobId));
+        }
+        approvalRequestRepository.deleteById(requestId);
+        requestTypeRepository.deleteById(type.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void testReportShowsDecisionOfArchivedHistory() throws Exception {
+        // Act
+        jobId = reportJobService.submit(CREATED_AT.toLocalDate(), CREATED_AT.toLocalDate().plusDays(1)).id();
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        ReportJobDTO job = reportJobService.getJob(jobId);
+        while (job.completedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = reportJobService.getJob(jobId);
+        }
+
+        // Assert
+        assertEquals("COMPLETED", job.status());
+        String csv;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(reportJobService.getReportFile(jobId)))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            csv = out.toString(StandardCharsets.UTF_8);
+        }
+        List<String> lines = csv.lines().filter(line -> line.startsWith(requestId.toString())).toList();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("," + DECIDED_AT + ",APPROVED,Fine"), lines.get(0));
+    }
+}
@@ -0,0 +1,184 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.danielcorrea.backbdb.dto.ReportJobDTO;
+
+/**
+ * Unit tests for ReportJobService.
+ * Runs jobs against a mocked JdbcTemplate and reads the gzip CSV back from disk; jobs of
+ * other instances are read from the mocked report_jobs table.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceUnitTest {
+
+    @TempDir
+    Path reportDir;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReportJobService reportJobService;
+
+    private final LocalDate from = LocalDate.of(2024, 5, 1);
+    private final LocalDate to = LocalDate.of(2024, 6, 1);
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobService(jdbcTemplate);
+        ReflectionTestUtils.setField(reportJobService, "reportDir", reportDir.toString());
+        ReflectionTestUtils.setField(reportJobService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reportJobService, "threads", 1);
+        ReflectionTestUtils.setField(reportJobService, "queueCapacity", 1);
+        reportJobService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.stop();
+    }
+
+    private ReportJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        ReportJobDTO job = reportJobService.getJob(jobId);
+        while (job.completedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = reportJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmit_WritesAllChunksAsGzipCsv() throws Exception {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any(), any(), any())).thenReturn(3L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> List.of(row("First, with comma"), row("Second \"quoted\"")))
+                .thenAnswer(invocation -> List.of(row("Third")));
+
+        // Act
+        ReportJobDTO job = awaitFinished(reportJobService.submit(from, to).id());
+
+        // Assert
+        assertEquals("COMPLETED", job.status());
+        assertEquals(3, job.rowsWritten());
+        assertEquals(3, job.totalRows());
+
+        String csv;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(reportJobService.getReportFile(job.id())))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            csv = out.toString(StandardCharsets.UTF_8);
+        }
+        List<String> lines = csv.lines().toList();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("request_id,title,status"));
+        assertEquals("\"First, with comma\"", lines.get(1));
+        assertEquals("\"Second \"\"quoted\"\"\"", lines.get(2));
+        assertEquals("Third", lines.get(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmit_MarksJobFailedOnQueryError() throws Exception {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any(), any(), any())).thenReturn(1L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("Connection lost"));
+
+        // Act
+        ReportJobDTO job = awaitFinished(reportJobService.submit(from, to).id());
+
+        // Assert
+        assertEquals("FAILED", job.status());
+        assertEquals("Connection lost", job.error());
+        assertThrows(IllegalStateException.class, () -> reportJobService.getReportFile(job.id()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetReportFile_ServesJobRunByAnotherInstance() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        ReportJobDTO stored = new ReportJobDTO(jobId, "COMPLETED", from, to, 3, 3, 120L, null,
+                from.atStartOfDay(), to.atStartOfDay());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any())).thenReturn(List.of(stored));
+
+        // Act
+        ReportJobDTO job = reportJobService.getJob(jobId);
+        Path file = reportJobService.getReportFile(jobId);
+
+        // Assert
+        assertEquals(stored, job);
+        assertEquals(reportDir.resolve("report-" + jobId + ".csv.gz"), file);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetJob_ThrowsWhenNoInstanceKnowsTheJob() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any())).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> reportJobService.getJob(UUID.randomUUID()));
+    }
+
+    @Test
+    void testWriteCsvLine_NeutralizesFormulas() throws Exception {
+        // Arrange
+        StringWriter out = new StringWriter();
+
+        // Act
+        ReportJobService.writeCsvLine(out, new String[] {
+            "=HYPERLINK(\"http://attacker.example\",\"Click\")", "+1", "-2", "@SUM(A1)", "\tTabbed", "Plain", "a-b"});
+
+        // Assert
+        assertEquals("\"'=HYPERLINK(\"\"http://attacker.example\"\",\"\"Click\"\")\","
+                + "\"'+1\",\"'-2\",\"'@SUM(A1)\",\"'\tTabbed\",Plain,a-b\n", out.toString());
+    }
+
+    @Test
+    void testSubmit_RejectsEmptyRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> reportJobService.submit(to, from));
+    }
+
+    /**
+     * A report row whose only column is the title.
+     */
+    private ReportJobService.ReportRow row(String title) {
+        return new ReportJobService.ReportRow(new byte[16], Timestamp.valueOf(from.atStartOfDay()), new String[] {title});
+    }
+}
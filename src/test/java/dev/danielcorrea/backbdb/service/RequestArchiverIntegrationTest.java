@@ -0,0 +1,137 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.danielcorrea.backbdb.dto.RequestSummaryDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestLog;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+import dev.danielcorrea.backbdb.repository.RequestLogRepository;
+import dev.danielcorrea.backbdb.repository.RequestTypeRepository;
+import dev.danielcorrea.backbdb.repository.UserRepository;
+import dev.danielcorrea.backbdb.repository.UuidBinary;
+
+/**
+ * Checks that an old closed request moves to the archive tables with its history and can still be
+ * read through ApprovalService.
+ *
+ * Requires a MySQL database migrated by Flyway:
+ * export DB_URL=jdbc:mysql://localhost:3306/approval_flow_test
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql://.*", disabledReason = "Integration test - requires MySQL database. Set DB_URL environment variable to run.")
+class RequestArchiverIntegrationTest {
+
+    private static final LocalDateTime LAST_UPDATE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private RequestArchiver requestArchiver;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private RequestLogRepository requestLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User requester;
+    private User approver;
+    private RequestType type;
+    private UUID requestId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        requester = userRepository.save(User.builder()
+                .username("archive_requester_" + suffix)
+                .fullName("Archive Requester")
+                .email("archive_requester_" + suffix + "@localhost")
+                .build());
+        approver = userRepository.save(User.builder()
+                .username("archive_approver_" + suffix)
+                .fullName("Archive Approver")
+                .email("archive_approver_" + suffix + "@localhost")
+                .build());
+        type = requestTypeRepository.save(RequestType.builder().name("ARCHIVE_" + suffix).build());
+        ApprovalRequest request = approvalRequestRepository.save(ApprovalRequest.builder()
+                .title("Archived request")
+                .status(RequestStatus.APPROVED)
+                .requester(requester)
+                .approver(approver)
+                .type(type)
+                .build());
+        requestId = request.getId();
+        requestLogRepository.save(RequestLog.builder()
+                .actionTaken("CREATED")
+                .actionDate(LAST_UPDATE.minusDays(1))
+                .request(request)
+                .user(requester)
+                .build());
+        requestLogRepository.save(RequestLog.builder()
+                .actionTaken("APPROVED")
+                .comments("Approved long ago")
+                .actionDate(LAST_UPDATE)
+                .request(request)
+                .user(approver)
+                .build());
+        jdbcTemplate.update("UPDATE requests SET created_at = ?, updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LAST_UPDATE.minusDays(1)), Timestamp.valueOf(LAST_UPDATE), UuidBinary.toBytes(requestId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        byte[] id = UuidBinary.toBytes(requestId);
+        jdbcTemplate.update("DELETE FROM approval_history_archive WHERE request_id = ?", id);
+        jdbcTemplate.update("DELETE FROM requests_archive WHERE id = ?", id);
+        jdbcTemplate.update("DELETE FROM approval_history WHERE request_id = ?", id);
+        jdbcTemplate.update("DELETE FROM requests WHERE id = ?", id);
+        jdbcTemplate.update("DELETE FROM request_archive_counts WHERE type_id = ?", type.getId());
+        requestTypeRepository.deleteById(type.getId());
+        userRepository.deleteAllById(List.of(requester.getId(), approver.getId()));
+    }
+
+    @Test
+    void testClosedRequestMovesToArchiveAndStaysReadable() {
+        // Act
+        requestArchiver.archiveChunk(RequestStatus.APPROVED, Timestamp.valueOf(LAST_UPDATE.plusSeconds(1)));
+
+        // Assert
+        assertFalse(approvalRequestRepository.existsById(requestId));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM requests_archive WHERE id = ?",
+                Integer.class, UuidBinary.toBytes(requestId)));
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT request_count FROM request_archive_counts "
+                + "WHERE type_id = ? AND status = 'APPROVED' AND approver_id = ?", Long.class, type.getId(), approver.getId()));
+        assertEquals("Approved long ago", approvalService.getRequestDetails(requestId).getComments());
+        assertEquals(2, approvalService.getRequestHistory(requestId, null, 20).entries().size());
+        assertEquals(List.of(requestId), approvalService.getRequestsCreatedByUserIncludingArchived(requester.getId())
+                .stream().map(RequestSummaryDTO::id).toList());
+        assertEquals(List.of(), approvalService.getRequestsCreatedByUser(requester.getId()));
+    }
+}
@@ -0,0 +1,107 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for RequestVolumeService.
+ * Verifies incremental decision rollup and time series validation.
+ */
+@ExtendWith(MockitoExtension.class)
+class RequestVolumeServiceUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RequestVolumeService requestVolumeService;
+
+    @BeforeEach
+    void setUp() {
+        requestVolumeService = new RequestVolumeService(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(requestVolumeService, "lagSeconds", 60L);
+        ReflectionTestUtils.setField(requestVolumeService, "batchSize", 10);
+    }
+
+    private Map<String, Object> historyRow(long id, String action, LocalDateTime actionDate) {
+        return historyRow(id, action, actionDate, actionDate);
+    }
+
+    private Map<String, Object> historyRow(long id, String action, LocalDateTime actionDate, LocalDateTime recordedAt) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("action_taken", action);
+        row.put("action_date", Timestamp.valueOf(actionDate));
+        row.put("recorded_at", Timestamp.valueOf(recordedAt));
+        row.put("type_id", 1);
+        return row;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRollUpDecisions_CountsDecisionsAndStopsAtLagWindow() {
+        // Arrange - row 9 was decided long ago but only just inserted (e.g. shipped from the journal)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minute = now.minusHours(1).withSecond(0).withNano(0);
+        Map<String, Object> watermark = new HashMap<>();
+        watermark.put("last_id", 4L);
+        when(jdbcTemplate.queryForMap(anyString(), eq("approval_history.decisions"))).thenReturn(watermark);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), eq(60L)))
+                .thenReturn(Timestamp.valueOf(now.minusSeconds(60)));
+        when(jdbcTemplate.queryForList(anyString(), eq(4L), eq(10))).thenReturn(List.of(
+                historyRow(5, "CREATED", minute),
+                historyRow(6, "APPROVED", minute.plusSeconds(10)),
+                historyRow(7, "APPROVED", minute.plusSeconds(20)),
+                historyRow(8, "REJECTED", minute.plusMinutes(1)),
+                historyRow(9, "APPROVED", minute, now.minusSeconds(5)),
+                historyRow(10, "APPROVED", minute)));
+
+        // Act
+        boolean more = requestVolumeService.rollUpDecisions();
+
+        // Assert
+        assertFalse(more);
+        ArgumentCaptor<List<Object[]>> minuteRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO request_volume_minute"), minuteRows.capture());
+        assertEquals(2, minuteRows.getValue().size());
+        assertEquals(3L, minuteRows.getValue().stream().mapToLong(row -> (Long) row[3]).sum());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO request_volume_hour"), anyList());
+        verify(jdbcTemplate).update("UPDATE rollup_watermarks SET last_id = ? WHERE name = ?", 8L, "approval_history.decisions");
+    }
+
+    @Test
+    void testGetVolume_RejectsRangeTooLongForMinutes() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> requestVolumeService.getVolume(
+                RequestVolumeService.Granularity.MINUTE, from, from.plusDays(8), null, null));
+        assertThrows(IllegalArgumentException.class, () -> requestVolumeService.getVolume(
+                RequestVolumeService.Granularity.HOUR, from, from, null, null));
+    }
+}
@@ -0,0 +1,137 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.danielcorrea.backbdb.dto.RequestCountDTO;
+import dev.danielcorrea.backbdb.dto.StatisticsDTO;
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.repository.ApprovalRequestRepository;
+
+/**
+ * Unit tests for StatisticsService.
+ * Verifies seeding, after-commit updates and reconciliation with the database.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceUnitTest {
+
+    @Mock
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Mock
+    private RequestArchiveReader requestArchiveReader;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    private User approver;
+    private RequestType requestType;
+
+    @BeforeEach
+    void setUp() {
+        approver = User.builder().id(2L).fullName("Test Approver").build();
+        requestType = RequestType.builder().id(1).name("ACCESS").build();
+    }
+
+    private RequestCountDTO row(RequestStatus status, long count) {
+        return new RequestCountDTO(1, "ACCESS", status, 2L, "Test Approver", count);
+    }
+
+    private ApprovalRequest request(RequestStatus status) {
+        return ApprovalRequest.builder()
+                .id(UUID.randomUUID())
+                .status(status)
+                .type(requestType)
+                .approver(approver)
+                .build();
+    }
+
+    @Test
+    void testSeed_LoadsCountsFromDatabase() {
+        // Arrange
+        when(approvalRequestRepository.countGroupedByTypeStatusAndApprover())
+                .thenReturn(List.of(row(RequestStatus.PENDING, 3), row(RequestStatus.APPROVED, 2)));
+
+        // Act
+        statisticsService.seed();
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        // Assert
+        assertEquals(5, statistics.total());
+        assertEquals(3L, statistics.byStatus().get("PENDING"));
+        assertEquals(0L, statistics.byStatus().get("REJECTED"));
+        assertEquals("ACCESS", statistics.byType().get(0).name());
+        assertEquals(5, statistics.byApprover().get(0).total());
+        assertNotNull(statistics.reconciledAt());
+    }
+
+    @Test
+    void testSeed_AddsArchivedCounts() {
+        // Arrange
+        when(approvalRequestRepository.countGroupedByTypeStatusAndApprover())
+                .thenReturn(List.of(row(RequestStatus.PENDING, 3), row(RequestStatus.APPROVED, 2)));
+        when(requestArchiveReader.countGroupedByTypeStatusAndApprover())
+                .thenReturn(List.of(row(RequestStatus.APPROVED, 10)));
+
+        // Act
+        statisticsService.seed();
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        // Assert
+        assertEquals(15, statistics.total());
+        assertEquals(12L, statistics.byStatus().get("APPROVED"));
+    }
+
+    @Test
+    void testRecordCreatedAndTransition_UpdateCounters() {
+        // Arrange
+        when(approvalRequestRepository.countGroupedByTypeStatusAndApprover()).thenReturn(List.of());
+        statisticsService.seed();
+
+        // Act
+        statisticsService.recordCreated(request(RequestStatus.PENDING));
+        statisticsService.recordCreated(request(RequestStatus.PENDING));
+        statisticsService.recordTransition(request(RequestStatus.REJECTED), RequestStatus.PENDING);
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        // Assert
+        assertEquals(2, statistics.total());
+        assertEquals(1L, statistics.byStatus().get("PENDING"));
+        assertEquals(1L, statistics.byStatus().get("REJECTED"));
+        assertEquals("Test Approver", statistics.byApprover().get(0).name());
+    }
+
+    @Test
+    void testReconcile_ReplacesLocalChangesWithDatabaseCounts() {
+        // Arrange - another instance created two requests the local counters never saw
+        when(approvalRequestRepository.countGroupedByTypeStatusAndApprover())
+                .thenReturn(List.of(row(RequestStatus.PENDING, 1)))
+                .thenReturn(List.of(row(RequestStatus.PENDING, 4)));
+        statisticsService.seed();
+        statisticsService.recordCreated(request(RequestStatus.PENDING));
+        long beforeReconcile = statisticsService.getStatistics().total();
+
+        // Act
+        statisticsService.reconcile();
+        statisticsService.recordCreated(request(RequestStatus.PENDING));
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        // Assert
+        assertEquals(2, beforeReconcile);
+        assertEquals(5, statistics.total());
+        assertEquals(5L, statistics.byStatus().get("PENDING"));
+    }
+}
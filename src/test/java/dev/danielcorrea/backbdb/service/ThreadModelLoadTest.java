@@ -0,0 +1,84 @@
+package dev.danielcorrea.backbdb.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import dev.danielcorrea.backbdb.support.EmailNotificationLoadHarness;
+import dev.danielcorrea.backbdb.support.FakeSmtpServer;
+import dev.danielcorrea.backbdb.support.LatencySummary;
+import dev.danielcorrea.backbdb.support.ThreadModelLoadHarness;
+import dev.danielcorrea.backbdb.support.ThreadModelLoadHarness.ThreadModel;
+
+/**
+ * Platform-thread versus virtual-thread request handling with the same connection-pool size, on the
+ * synthetic servlet of {@link ThreadModelLoadHarness}. This models the thread models; it does not
+ * exercise the application, whose comparison is a LoadGenerator run against each mode.
+ *
+ * The comparison run is opt-in:
+ * ./mvnw test -Dtest=ThreadModelLoadTest -Dperf.threads=true
+ * Tune it with -Dperf.threads.rate (requests/sec), -Dperf.threads.seconds, -Dperf.threads.poolSize,
+ * -Dperf.threads.queryMs, -Dperf.threads.ioMs and -Dperf.threads.platformThreads.
+ * -Dperf.threads.smtp=true replaces the simulated outside-pool wait with a real send to the
+ * in-process SMTP server, which shows Jakarta Mail pinning carrier threads.
+ */
+class ThreadModelLoadTest {
+
+    @Test
+    void testServesRequestsOnBothThreadModels() throws Exception {
+        for (ThreadModel model : ThreadModel.values()) {
+            try (ThreadModelLoadHarness harness = new ThreadModelLoadHarness(
+                    model, 4, 2, Duration.ofMillis(1), () -> sleep(Duration.ofMillis(5)))) {
+                // Act
+                LatencySummary summary = harness.run(50, Duration.ofMillis(400));
+
+                // Assert
+                assertEquals(20, summary.operations());
+                assertEquals(0, harness.getErrorCount());
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "perf.threads", matches = "true", disabledReason = "Load run - enable with -Dperf.threads=true")
+    void testCompareThreadModels() throws Exception {
+        int rate = Integer.getInteger("perf.threads.rate", 1500);
+        int seconds = Integer.getInteger("perf.threads.seconds", 10);
+        int poolSize = Integer.getInteger("perf.threads.poolSize", 10);
+        int platformThreads = Integer.getInteger("perf.threads.platformThreads", 200);
+        Duration queryTime = Duration.ofMillis(Integer.getInteger("perf.threads.queryMs", 5));
+        Duration ioTime = Duration.ofMillis(Integer.getInteger("perf.threads.ioMs", 150));
+        boolean smtp = Boolean.getBoolean("perf.threads.smtp");
+
+        System.out.println("Thread model load: target=" + rate + " req/s, pool=" + poolSize
+                + ", query=" + queryTime.toMillis() + "ms, outside pool=" + ioTime.toMillis() + "ms"
+                + (smtp ? " (SMTP)" : "") + ", platform threads=" + platformThreads);
+
+        for (ThreadModel model : ThreadModel.values()) {
+            try (FakeSmtpServer server = new FakeSmtpServer(new FakeSmtpServer.Settings(ioTime, 0.0, 100_000))) {
+                EmailNotificationLoadHarness mail = new EmailNotificationLoadHarness(server);
+                AtomicInteger sequence = new AtomicInteger();
+                Runnable outsidePoolWork = smtp ? () -> mail.sendOne(sequence.getAndIncrement()) : () -> sleep(ioTime);
+
+                try (ThreadModelLoadHarness harness = new ThreadModelLoadHarness(
+                        model, platformThreads, poolSize, queryTime, outsidePoolWork)) {
+                    LatencySummary summary = harness.run(rate, Duration.ofSeconds(seconds));
+                    System.out.println("  " + model + ": " + summary);
+                    System.out.println("  " + model + ": errors=" + harness.getErrorCount()
+                            + " pinnedEvents=" + harness.getPinnedEventCount());
+                }
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
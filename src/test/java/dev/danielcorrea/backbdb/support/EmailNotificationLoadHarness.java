@@ -0,0 +1,153 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import dev.danielcorrea.backbdb.model.ApprovalRequest;
+import dev.danielcorrea.backbdb.model.RequestStatus;
+import dev.danielcorrea.backbdb.model.RequestType;
+import dev.danielcorrea.backbdb.model.User;
+import dev.danielcorrea.backbdb.service.EmailNotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Drives {@link EmailNotificationService} against a {@link FakeSmtpServer} at a fixed arrival rate.
+ *
+ * Each send has an intended start time derived from the target rate. Latency is measured from
+ * that intended start, so time spent queued behind a slow send is counted instead of hidden
+ * (no coordinated omission). The service is called directly, bypassing {@code @Async}, which
+ * measures the real cost of rendering the template and talking SMTP.
+ */
+public class EmailNotificationLoadHarness {
+
+    private final EmailNotificationService emailNotificationService;
+    private final ApprovalRequest sampleRequest;
+    private final User approver;
+
+    public EmailNotificationLoadHarness(FakeSmtpServer server) {
+        this.emailNotificationService = new EmailNotificationService(mailSenderFor(server), templateEngine(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(emailNotificationService, "fromAddress", "load-test@localhost");
+        ReflectionTestUtils.setField(emailNotificationService, "fromName", "Load Test");
+
+        User requester = User.builder()
+                .id(1L)
+                .username("load.requester")
+                .fullName("Load Requester")
+                .email("requester@localhost")
+                .build();
+
+        this.approver = User.builder()
+                .id(2L)
+                .username("load.approver")
+                .fullName("Load Approver")
+                .email("approver@localhost")
+                .build();
+
+        this.sampleRequest = ApprovalRequest.builder()
+                .id(UUID.randomUUID())
+                .title("Load test request")
+                .description("Synthetic request used to measure notification throughput")
+                .status(RequestStatus.PENDING)
+                .requester(requester)
+                .approver(approver)
+                .type(RequestType.builder().id(1).name("ACCESS").build())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public EmailNotificationService getEmailNotificationService() {
+        return emailNotificationService;
+    }
+
+    /**
+     * Sends notifications at {@code ratePerSecond} for {@code duration} using {@code workers} sender threads.
+     *
+     * @return Throughput and latency percentiles of the run
+     */
+    public LatencySummary run(int ratePerSecond, Duration duration, int workers) throws InterruptedException {
+        int total = (int) Math.max(1, ratePerSecond * duration.toMillis() / 1_000);
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(workers);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < workers; w++) {
+            pool.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < total) {
+                        long intendedStart = start + i * intervalNanos;
+                        long wait = intendedStart - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        sendOne(i);
+                        latencies[i] = System.nanoTime() - intendedStart;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+        return LatencySummary.of(latencies, total, elapsed);
+    }
+
+    /**
+     * Sends one notification, alternating between the two templates.
+     */
+    public void sendOne(int sequence) {
+        if (sequence % 2 == 0) {
+            emailNotificationService.sendRequestCreatedNotification(sampleRequest, approver);
+        } else {
+            emailNotificationService.sendRequestStatusUpdateNotification(sampleRequest, approver, "Load test comment");
+        }
+    }
+
+    private static JavaMailSenderImpl mailSenderFor(FakeSmtpServer server) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(server.getPort());
+
+        Properties properties = mailSender.getJavaMailProperties();
+        properties.put("mail.smtp.auth", "false");
+        properties.put("mail.smtp.starttls.enable", "false");
+        properties.put("mail.smtp.connectiontimeout", "5000");
+        properties.put("mail.smtp.timeout", "10000");
+        return mailSender;
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
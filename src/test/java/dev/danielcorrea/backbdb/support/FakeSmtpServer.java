@@ -0,0 +1,209 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal in-process SMTP server bound to the loopback interface.
+ * Stands in for a real mail provider so notification tests and load runs work offline.
+ *
+ * Supports configurable per-message latency, random failure injection (451 on DATA)
+ * and a cap on concurrent connections (421 on connect when exceeded).
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+    /**
+     * Behaviour of the stand-in server.
+     *
+     * @param latency Time spent "delivering" each message before replying to DATA
+     * @param failureRate Probability (0..1) that a message is answered with a transient failure
+     * @param maxConnections Maximum number of simultaneous client connections
+     */
+    public record Settings(Duration latency, double failureRate, int maxConnections) {
+
+        public static Settings defaults() {
+            return new Settings(Duration.ZERO, 0.0, 64);
+        }
+    }
+
+    private final Settings settings;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionHandlers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fake-smtp-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Semaphore connectionPermits;
+    private final Queue<String> recipients = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong refusedConnections = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public FakeSmtpServer(Settings settings) throws IOException {
+        this.settings = settings;
+        this.connectionPermits = new Semaphore(settings.maxConnections());
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+
+        Thread acceptor = new Thread(this::acceptLoop, "fake-smtp-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getRefusedConnectionCount() {
+        return refusedConnections.get();
+    }
+
+    /**
+     * Returns every RCPT TO address seen so far, in arrival order.
+     */
+    public List<String> getRecipients() {
+        return new ArrayList<>(recipients);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (!connectionPermits.tryAcquire()) {
+                    refusedConnections.incrementAndGet();
+                    refuse(socket);
+                    continue;
+                }
+                connectionHandlers.execute(() -> {
+                    try {
+                        handle(socket);
+                    } finally {
+                        connectionPermits.release();
+                    }
+                });
+            } catch (SocketException e) {
+                // Server socket closed
+                return;
+            } catch (IOException e) {
+                // Keep accepting; a single bad connection must not stop the server
+            }
+        }
+    }
+
+    private void refuse(Socket socket) {
+        try (socket) {
+            reply(socket.getOutputStream(), "421 Too many connections, try again later");
+        } catch (IOException ignored) {
+            // Client already gone
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 localhost Fake SMTP ready");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-localhost\r\n250-8BITMIME\r\n250 OK");
+                    case "HELO", "MAIL", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "RCPT" -> {
+                        recipients.add(extractAddress(line));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        if (!consumeMessage(in)) {
+                            return;
+                        }
+                        deliver(out);
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // Client disconnected mid-session
+        }
+    }
+
+    private boolean consumeMessage(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.equals(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deliver(OutputStream out) throws IOException {
+        if (!settings.latency().isZero()) {
+            try {
+                Thread.sleep(settings.latency());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (settings.failureRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.failureRate()) {
+            failed.incrementAndGet();
+            reply(out, "451 Injected transient failure");
+        } else {
+            accepted.incrementAndGet();
+            reply(out, "250 OK queued");
+        }
+    }
+
+    private static String extractAddress(String rcptLine) {
+        int start = rcptLine.indexOf('<');
+        int end = rcptLine.indexOf('>');
+        return start >= 0 && end > start ? rcptLine.substring(start + 1, end) : rcptLine.substring(8).trim();
+    }
+
+    private static void reply(OutputStream out, String response) throws IOException {
+        out.write((response + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        connectionHandlers.shutdownNow();
+    }
+}
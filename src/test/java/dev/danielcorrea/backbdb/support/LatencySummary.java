@@ -0,0 +1,60 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Throughput and latency percentiles for a finished load run.
+ *
+ * @param operations Number of completed operations
+ * @param elapsed Wall-clock duration of the run
+ * @param p50Micros Median latency in microseconds
+ * @param p99Micros 99th percentile latency in microseconds
+ * @param p999Micros 99.9th percentile latency in microseconds
+ * @param maxMicros Worst observed latency in microseconds
+ */
+public record LatencySummary(
+    long operations,
+    Duration elapsed,
+    long p50Micros,
+    long p99Micros,
+    long p999Micros,
+    long maxMicros
+) {
+
+    /**
+     * Builds a summary from raw per-operation latencies in nanoseconds.
+     * Only the first {@code count} entries of {@code latenciesNanos} are considered.
+     */
+    public static LatencySummary of(long[] latenciesNanos, int count, Duration elapsed) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return new LatencySummary(
+            count,
+            elapsed,
+            percentileMicros(sorted, 0.50),
+            percentileMicros(sorted, 0.99),
+            percentileMicros(sorted, 0.999),
+            count == 0 ? 0 : sorted[count - 1] / 1_000
+        );
+    }
+
+    public double operationsPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : operations / seconds;
+    }
+
+    private static long percentileMicros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ops in %d ms (%.1f ops/s) p50=%dus p99=%dus p999=%dus max=%dus",
+            operations, elapsed.toMillis(), operationsPerSecond(), p50Micros, p99Micros, p999Micros, maxMicros);
+    }
+}
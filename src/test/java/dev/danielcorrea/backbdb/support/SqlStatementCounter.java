@@ -0,0 +1,165 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements a piece of code sends over JDBC, to catch N+1 query regressions.
+ *
+ * {@link #wrap} returns a DataSource whose connections and statements record every execution.
+ * Only statements executed on the calling thread while {@link #count} runs are recorded, so
+ * background writers and schedulers do not disturb the count. A batch counts as one statement.
+ *
+ * <pre>
+ * SqlStatementCounter.assertSelectsAtMost(1, () -> approvalService.getRequestsCreatedByUser(userId));
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Statements recorded by {@link #count}, in execution order.
+     */
+    public record Counts(List<String> statements) {
+
+        public long selects() {
+            return ofType("select");
+        }
+
+        public long inserts() {
+            return ofType("insert");
+        }
+
+        public long updates() {
+            return ofType("update");
+        }
+
+        public long deletes() {
+            return ofType("delete");
+        }
+
+        private long ofType(String keyword) {
+            return statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(keyword))
+                    .count();
+        }
+    }
+
+    /**
+     * Runs {@code work} and returns the statements it executed on this thread.
+     */
+    public static Counts count(Runnable work) {
+        List<String> previous = RECORDING.get();
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            work.run();
+        } finally {
+            if (previous != null) {
+                previous.addAll(statements);
+                RECORDING.set(previous);
+            } else {
+                RECORDING.remove();
+            }
+        }
+        return new Counts(List.copyOf(statements));
+    }
+
+    /**
+     * Runs {@code work} and fails if it executed more than {@code max} SELECT statements.
+     */
+    public static Counts assertSelectsAtMost(int max, Runnable work) {
+        Counts counts = count(work);
+        assertTrue(counts.selects() <= max, () -> "Expected at most " + max + " SELECTs but " + counts.selects()
+                + " were executed:\n" + String.join("\n", counts.statements()));
+        return counts;
+    }
+
+    /**
+     * Wraps a DataSource so that statements executed through it can be counted.
+     */
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && !method.getName().equals("unwrap")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                List<String> statements = RECORDING.get();
+                if (statements != null) {
+                    statements.add(sql != null ? sql : "<batch>");
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    /**
+     * Invocation on a wrapped JDBC object, given the real target.
+     */
+    private interface Interceptor {
+
+        Object intercept(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, Interceptor interceptor) {
+        // Keep pools closeable, so the application context still shuts them down
+        Class<?>[] interfaces = target instanceof AutoCloseable && !AutoCloseable.class.isAssignableFrom(type)
+                ? new Class<?>[] {type, AutoCloseable.class}
+                : new Class<?>[] {type};
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            // Let Spring and Hikari find the real object behind the proxy
+            case "unwrap" -> ((Class<?>) args[0]).isInstance(target) ? target : invoke(target, method, args);
+            case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(target) || (boolean) invoke(target, method, args);
+            default -> interceptor.intercept(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), interfaces, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for SqlStatementCounter, on mocked JDBC objects.
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlStatementCounterUnitTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    private DataSource counted;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        counted = SqlStatementCounter.wrap(dataSource);
+    }
+
+    @Test
+    void testCountsStatementsByType() throws Exception {
+        // Arrange
+        when(connection.prepareStatement("select * from requests where id = ?")).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+
+        // Act
+        SqlStatementCounter.Counts counts = SqlStatementCounter.count(() -> {
+            try (Connection c = counted.getConnection()) {
+                PreparedStatement select = c.prepareStatement("select * from requests where id = ?");
+                select.executeQuery();
+                select.executeQuery();
+                c.createStatement().executeUpdate("update requests set title = 'x'");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertEquals(2, counts.selects());
+        assertEquals(1, counts.updates());
+        assertEquals(0, counts.inserts());
+    }
+
+    @Test
+    void testIgnoresStatementsOutsideCount() throws Exception {
+        // Arrange
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+
+        // Act
+        try (Connection c = counted.getConnection()) {
+            c.prepareStatement("select 1").executeQuery();
+        }
+        SqlStatementCounter.Counts counts = SqlStatementCounter.count(() -> { });
+
+        // Assert
+        assertEquals(0, counts.statements().size());
+    }
+
+    @Test
+    void testAssertSelectsAtMostFailsWhenExceeded() throws Exception {
+        // Arrange
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+
+        // Act & Assert
+        assertThrows(AssertionError.class, () -> SqlStatementCounter.assertSelectsAtMost(1, () -> {
+            try (Connection c = counted.getConnection()) {
+                c.prepareStatement("select 1").executeQuery();
+                c.prepareStatement("select 1").executeQuery();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+    }
+}
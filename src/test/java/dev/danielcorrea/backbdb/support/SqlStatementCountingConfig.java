@@ -0,0 +1,28 @@
+package dev.danielcorrea.backbdb.support;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Routes the application DataSource through {@link SqlStatementCounter}.
+ * Import it into a {@code @SpringBootTest} that counts statements.
+ */
+@TestConfiguration
+public class SqlStatementCountingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the main DataSource, so beans injected by their concrete pool type keep working
+                return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                        ? SqlStatementCounter.wrap(dataSource)
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package dev.danielcorrea.backbdb.support;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * A model of platform-thread versus virtual-thread request handling, not a measurement of the
+ * application: an embedded Tomcat with a single servlet, no Spring, JPA, Hikari or MySQL. It shows
+ * how the two thread models behave when the only limits are the thread count and a fixed-size pool;
+ * the application's own numbers come from the {@code LoadGenerator} in the perf module run against
+ * an instance started in each mode (see the README).
+ *
+ * Each request holds one of {@code poolSize} permits of a {@link Semaphore} standing in for the
+ * connection pool for {@code queryTime}, a sleep standing in for the query, then releases it and
+ * runs {@code outsidePoolWork} (a sleep standing in for a remote call, or a real SMTP send). With platform threads throughput is capped by
+ * {@code platformThreads / (queryTime + outside work)}; with virtual threads only the pool caps it,
+ * at {@code poolSize / queryTime}. Both models get the same pool size.
+ *
+ * Load is offered at a fixed rate (open model) and latency is measured from each request's
+ * intended start, so queueing in front of a saturated server is counted. Carrier pinning of
+ * 20 ms or more is counted from the JFR {@code jdk.VirtualThreadPinned} event.
+ */
+public class ThreadModelLoadHarness implements AutoCloseable {
+
+    /**
+     * How Tomcat runs request handlers.
+     */
+    public enum ThreadModel {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private final Tomcat tomcat;
+    private final Semaphore connectionPool;
+    private final Duration queryTime;
+    private final Runnable outsidePoolWork;
+    private final int port;
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong pinnedEvents = new AtomicLong();
+
+    public ThreadModelLoadHarness(ThreadModel model, int platformThreads, int poolSize,
+                                  Duration queryTime, Runnable outsidePoolWork) throws IOException, LifecycleException {
+        this.connectionPool = new Semaphore(poolSize, true);
+        this.queryTime = queryTime;
+        this.outsidePoolWork = outsidePoolWork;
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("thread-model-load").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        AbstractProtocol<?> protocol = (AbstractProtocol<?>) connector.getProtocolHandler();
+        protocol.setAcceptCount(10_000);
+        if (model == ThreadModel.VIRTUAL) {
+            protocol.setExecutor(new VirtualThreadExecutor("load-virtual-"));
+        } else {
+            protocol.setMaxThreads(platformThreads);
+        }
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "work", new WorkServlet());
+        context.addServletMappingDecoded("/work", "work");
+        tomcat.start();
+        port = connector.getLocalPort();
+    }
+
+    /**
+     * Offers {@code ratePerSecond} requests for {@code duration} and waits for all of them.
+     *
+     * @return Throughput and latency percentiles of the run
+     */
+    public LatencySummary run(int ratePerSecond, Duration duration) throws InterruptedException {
+        int total = (int) Math.max(1, ratePerSecond * duration.toMillis() / 1_000);
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long[] latencies = new long[total];
+        AtomicInteger completed = new AtomicInteger();
+        URI uri = URI.create("http://127.0.0.1:" + port + "/work");
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[total];
+            long start = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                int index = i;
+                requests[i] = client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            latencies[index] = System.nanoTime() - intendedStart;
+                            if (failure != null || response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            completed.incrementAndGet();
+                        });
+            }
+            CompletableFuture.allOf(requests).exceptionally(failure -> null).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return LatencySummary.of(latencies, completed.get(), elapsed);
+        }
+    }
+
+    public long getErrorCount() {
+        return errors.get();
+    }
+
+    public long getPinnedEventCount() {
+        return pinnedEvents.get();
+    }
+
+    @Override
+    public void close() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    private final class WorkServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                if (!connectionPool.tryAcquire(30, TimeUnit.SECONDS)) {
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    return;
+                }
+                try {
+                    Thread.sleep(queryTime);
+                } finally {
+                    connectionPool.release();
+                }
+                outsidePoolWork.run();
+                response.setContentType("text/plain");
+                response.getWriter().write("ok");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+}